@@ -0,0 +1,87 @@
+/*
+ * 캐릭터 조회 부하 테스트 (k6) - 동시 요청 수별 p99 비교
+ *
+ * [목적]
+ * - upstream이 느릴 때(stub 1초 지연) 동시 요청 수를 늘려 가며 /api/character/{name} 의 p99를 본다.
+ * - 매 요청마다 다른 이름을 써서 캐시를 타지 않게 한다. (모든 요청이 upstream 대기)
+ *
+ * [준비]
+ * 1) stub upstream:  python3 load/slow-upstream.py
+ * 2) 서버 실행 (stub을 보도록, 쿼터/Redis/서킷 브레이커 제외):
+ *      SPRING_CLOUD_OPENFEIGN_CLIENT_CONFIG_OPEN_API_URL=http://127.0.0.1:18080 \
+ *      APP_CHARACTER_RATE_LIMIT_REQUESTS_PER_MINUTE=100000000 \
+ *      APP_CHARACTER_CACHE_REDIS_ENABLED=false \
+ *      APP_CHARACTER_CIRCUIT_BREAKER_ENABLED=false \
+ *      ./gradlew bootRun
+ * 3) 로그인한 브라우저의 JSESSIONID 쿠키 값을 SESSION으로 전달 (/api/** 는 인증 필요)
+ *
+ * [실행]
+ *   k6 run -e BASE_URL=http://localhost:8080 -e SESSION=... load/character-lookup.js
+ *
+ * [before / after]
+ * - before: 비동기 응답 도입 이전 커밋을 SPRING_THREADS_VIRTUAL_ENABLED=false 로 실행 (Tomcat 플랫폼 스레드 200개)
+ *           → 동시 요청이 200을 넘으면 나머지는 스레드를 기다리므로 p99가 지연 시간의 배수로 늘어남
+ * - after : 기본 설정 (가상 스레드 + 비동기 응답)
+ *           → 동시 요청 수와 관계없이 p99가 stub 지연 시간 근처에 머물러야 함
+ * - 결과 요약의 http_req_duration{scenario:cNNN} 줄이 동시 요청 수별 p99
+ *
+ * [결과]
+ *   k6 run -e LABEL=before ... / k6 run -e LABEL=after ...
+ *   → load/character-lookup-{LABEL}.json (k6 요약 전체) + .txt (동시 요청 수별 p99 표)
+ * - 아직 측정 전. (이 스크립트를 작성한 환경에는 k6와 LostArk 서버 실행 환경이 없었음)
+ *   두 설정으로 실행한 뒤 load/character-lookup-{before,after}.*을 커밋한다.
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SESSION = __ENV.SESSION || '';
+const LEVELS = (__ENV.LEVELS || '50,200,500,1000,2000').split(',').map(Number);
+const STAGE_SECONDS = Number(__ENV.STAGE_SECONDS || 30);
+const LABEL = __ENV.LABEL || 'run';
+
+const scenarios = {};
+const thresholds = {};
+LEVELS.forEach((vus, i) => {
+    const name = `c${vus}`;
+    scenarios[name] = {
+        executor: 'constant-vus',
+        vus,
+        duration: `${STAGE_SECONDS}s`,
+        // 앞 단계가 끝나고 10초 쉰 뒤 시작
+        startTime: `${i * (STAGE_SECONDS + 10)}s`,
+        gracefulStop: '10s',
+    };
+    // 임계값을 걸어야 요약에 시나리오별 지표가 나옴 (판정 자체는 참고용)
+    thresholds[`http_req_duration{scenario:${name}}`] = ['p(99)<5000'];
+});
+
+export const options = {
+    scenarios,
+    thresholds,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const name = `load-${__VU}-${__ITER}-${Date.now()}`;
+    const res = http.get(`${BASE_URL}/api/character/${encodeURIComponent(name)}?sections=profiles`, {
+        headers: SESSION ? { Cookie: `JSESSIONID=${SESSION}` } : {},
+        timeout: '60s',
+    });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
+
+// 동시 요청 수별 p99 표를 결과 파일로 남김 (기본 콘솔 요약 대신)
+export function handleSummary(data) {
+    const rows = LEVELS.map((vus) => {
+        const metric = data.metrics[`http_req_duration{scenario:c${vus}}`];
+        const p99 = metric ? metric.values['p(99)'].toFixed(0) : '-';
+        return `${String(vus).padStart(9)} | ${p99.padStart(10)}`;
+    });
+    const table = [`[${LABEL}] p99 (ms)`, ' 동시 요청 |        p99', '----------+-----------', ...rows].join('\n') + '\n';
+    return {
+        stdout: table,
+        [`load/character-lookup-${LABEL}.json`]: JSON.stringify(data, null, 2),
+        [`load/character-lookup-${LABEL}.txt`]: table,
+    };
+}
@@ -0,0 +1,44 @@
+"""
+LostArk API 대용 느린 stub 서버 (부하 테스트 전용)
+
+- 모든 /armories/characters/{name} 요청에 DELAY_MS만큼 기다린 뒤 같은 아머리 JSON을 응답
+- 실제 API는 분당 쿼터가 있어서 부하 테스트 대상으로 쓸 수 없음
+
+실행: python3 load/slow-upstream.py            (기본 127.0.0.1:18080, 1000ms)
+      PORT=18080 DELAY_MS=1500 python3 load/slow-upstream.py
+"""
+
+import os
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+from pathlib import Path
+
+PORT = int(os.environ.get("PORT", "18080"))
+DELAY_MS = int(os.environ.get("DELAY_MS", "1000"))
+FIXTURE = Path(__file__).resolve().parent.parent / "src/jmh/resources/armory/synthetic-gunslinger-1680.json"
+BODY = FIXTURE.read_bytes()
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_GET(self):
+        if not self.path.startswith("/armories/characters/"):
+            self.send_error(404)
+            return
+        time.sleep(DELAY_MS / 1000)
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json; charset=utf-8")
+        self.send_header("Content-Length", str(len(BODY)))
+        self.end_headers()
+        self.wfile.write(BODY)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    ThreadingHTTPServer.daemon_threads = True
+    ThreadingHTTPServer.request_queue_size = 4096
+    print(f"slow upstream on 127.0.0.1:{PORT} (delay {DELAY_MS}ms)")
+    ThreadingHTTPServer(("127.0.0.1", PORT), Handler).serve_forever()
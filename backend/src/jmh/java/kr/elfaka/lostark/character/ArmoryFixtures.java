@@ -0,0 +1,45 @@
+package kr.elfaka.lostark.character;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.elfaka.lostark.character.support.InternedStringModule;
+import kr.elfaka.lostark.character.support.StringInternPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 벤치마크 입력(아머리 응답 JSON) 로딩
+ *
+ * - "file:/path/to/armory.json" → 파일 시스템 (/raw로 받아 둔 실제 응답)
+ * - 그 외 → 클래스패스 리소스 (src/jmh/resources/armory/의 합성 샘플)
+ */
+public final class ArmoryFixtures {
+
+    public static final String DEFAULT = "armory/synthetic-gunslinger-1680.json";
+
+    private ArmoryFixtures() {
+    }
+
+    /**
+     * Spring Boot 공유 ObjectMapper와 같이 모르는 필드는 무시하고 @Interned 필드는 intern 풀로 읽음
+     */
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .registerModule(new InternedStringModule(
+                        new StringInternPool(StringInternPool.DEFAULT_MAX_ENTRIES, StringInternPool.DEFAULT_MAX_LENGTH)));
+    }
+
+    public static byte[] read(String fixture) throws IOException {
+        if (fixture.startsWith("file:")) {
+            return Files.readAllBytes(Path.of(fixture.substring("file:".length())));
+        }
+        try (InputStream in = ArmoryFixtures.class.getClassLoader().getResourceAsStream(fixture)) {
+            if (in == null) throw new IOException("fixture not found: " + fixture);
+            return in.readAllBytes();
+        }
+    }
+}
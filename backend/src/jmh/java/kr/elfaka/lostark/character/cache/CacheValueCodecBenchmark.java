@@ -0,0 +1,94 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.elfaka.lostark.character.ArmoryFixtures;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L2(Redis) 캐시 값 코덱 비교 (인코딩/디코딩 시간 + 저장 크기)
+ *
+ * [실행]
+ * - ./gradlew jmh
+ * - 저장 크기는 보조 카운터(Size)로 시간과 같은 결과 파일에 들어간다.
+ *   (build/results/jmh/results.json의 secondaryMetrics: sourceBytes / encodedBytes, 스레드 1개 기준 값 하나의 크기)
+ *
+ * [입력]
+ * - 기본값은 src/jmh/resources/armory/의 합성 샘플 (실제 응답 구조를 흉내 낸 값)
+ * - 실제 수치는 /raw로 받아 둔 응답을 파일 경로로 넘겨서 측정
+ *   예) build.gradle jmh { benchmarkParameters = [fixture: ['file:/path/to/armory.json']] }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueCodecBenchmark {
+
+    @Param({ArmoryFixtures.DEFAULT})
+    public String fixture;
+
+    @Param({"json:none", "json:deflate", "smile:none", "smile:deflate", "cbor:none", "cbor:deflate"})
+    public String codec;
+
+    private CacheValueCodec valueCodec;
+    private JavaType entryType;
+    private CacheEntry<ArmoryTotalDto> entry;
+    private byte[] encoded;
+    private long sourceBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = ArmoryFixtures.objectMapper();
+
+        String[] spec = codec.split(":");
+        valueCodec = JacksonCacheValueCodec.of(objectMapper, spec[0], spec[1], 1);
+        entryType = valueCodec.typeFactory().constructParametricType(CacheEntry.class, ArmoryTotalDto.class);
+
+        byte[] json = ArmoryFixtures.read(fixture);
+        ArmoryTotalDto armory = objectMapper.readValue(json, ArmoryTotalDto.class);
+        long now = System.currentTimeMillis();
+        entry = new CacheEntry<>(armory, now, now + 300_000, now + 2_100_000, null);
+        encoded = valueCodec.encode(entry);
+        sourceBytes = json.length;
+    }
+
+    @Benchmark
+    public byte[] encode(Size size) throws IOException {
+        size.record(sourceBytes, encoded.length);
+        return valueCodec.encode(entry);
+    }
+
+    @Benchmark
+    public Object decode(Size size) throws IOException {
+        size.record(sourceBytes, encoded.length);
+        return valueCodec.decode(encoded, entryType);
+    }
+
+    /**
+     * 값 하나의 원본(JSON)/저장 크기
+     * - EVENTS 카운터는 반복(iteration)마다 값을 보고하므로 누적하지 않고 덮어쓴다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        public long sourceBytes;
+        public long encodedBytes;
+
+        void record(long source, long encoded) {
+            sourceBytes = source;
+            encodedBytes = encoded;
+        }
+    }
+}
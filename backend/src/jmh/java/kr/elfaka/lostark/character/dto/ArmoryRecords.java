@@ -0,0 +1,296 @@
+package kr.elfaka.lostark.character.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
+
+import java.util.List;
+
+/**
+ * ArmoryTotalDto 트리를 record로 옮긴 벤치마크 전용 사본 (ArmoryDecodeBenchmark의 records 비교용)
+ *
+ * - 필드/JSON 이름/@Interned 위치는 Lombok DTO와 같게 맞춘다. (DTO를 바꾸면 같이 바꿀 것)
+ * - 생성자 기반 역직렬화라 setter 방식과 달리 값을 버퍼에 모았다가 한 번에 생성한다.
+ */
+public final class ArmoryRecords {
+
+    private ArmoryRecords() {
+    }
+
+    public record Total(
+            @JsonProperty("ArkPassive") ArkPassive arkPassive,
+            @JsonProperty("ArmoryAvatars") List<Avatar> armoryAvatars,
+            @JsonProperty("ArmoryCard") ArmoryCard armoryCard,
+            @JsonProperty("ArmoryEngraving") ArmoryEngraving armoryEngraving,
+            @JsonProperty("ArmoryEquipment") List<Equipment> armoryEquipment,
+            @JsonProperty("ArmoryGem") ArmoryGem armoryGem,
+            @JsonProperty("ArmoryProfile") Profile armoryProfile,
+            @JsonProperty("ArmorySkills") List<Skill> armorySkills,
+            @JsonProperty("Collectibles") List<Collectibles> collectibles,
+            @JsonProperty("ColosseumInfo") ColosseumInfo colosseumInfo
+    ) {}
+
+    public record ArkPassive(
+            @JsonProperty("IsArkPassive") boolean isArkPassive,
+            @JsonProperty("Points") List<ArkPassivePoint> points,
+            @JsonProperty("Effects") List<ArkPassiveNode> effects
+    ) {}
+
+    public record ArkPassivePoint(
+            @JsonProperty("Name") String name,
+            @JsonProperty("Value") int value,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record ArkPassiveNode(
+            @JsonProperty("Name") String name,
+            @JsonProperty("Description") String description,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("ToolTip") String toolTip
+    ) {}
+
+    public record Avatar(
+            @Interned @JsonProperty("Type") String type,
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("IsSet") boolean isSet,
+            @JsonProperty("IsInner") boolean isInner,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record ArmoryCard(
+            @JsonProperty("Cards") List<Card> cards,
+            @JsonProperty("Effects") List<CardEffect> effects
+    ) {}
+
+    public record Card(
+            @JsonProperty("Slot") int slot,
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("AwakeCount") int awakeCount,
+            @JsonProperty("AwakeTotal") int awakeTotal,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record CardEffect(
+            @JsonProperty("Index") int index,
+            @JsonProperty("CardSlots") List<Integer> cardSlots,
+            @JsonProperty("Items") List<CardItem> items
+    ) {}
+
+    public record CardItem(
+            @JsonProperty("Name") String name,
+            @JsonProperty("Description") String description
+    ) {}
+
+    public record ArmoryEngraving(
+            @JsonProperty("Engravings") Engraving engravings,
+            @JsonProperty("Effects") EngravingEffect effects,
+            @JsonProperty("ArkPassiveEffects") List<EngravingArkPassive> arkPassiveEffects
+    ) {}
+
+    public record Engraving(
+            @JsonProperty("Slot") int slot,
+            @Interned @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record EngravingEffect(
+            @Interned @JsonProperty("Icon") String icon,
+            @Interned @JsonProperty("Name") String name,
+            @JsonProperty("Description") String description
+    ) {}
+
+    public record EngravingArkPassive(
+            @JsonProperty("AbilityStoneLevel") Integer abilityStoneLevel,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("Level") int level,
+            @Interned @JsonProperty("Name") String name,
+            @JsonProperty("Description") String description
+    ) {}
+
+    public record Equipment(
+            @Interned @JsonProperty("Type") String type,
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record ArmoryGem(
+            @JsonProperty("Gems") List<Gem> gems,
+            @JsonProperty("Effects") GemEffect effects
+    ) {}
+
+    public record Gem(
+            @JsonProperty("Slot") int slot,
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Level") int level,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record GemEffect(
+            @JsonProperty("Description") String description,
+            @JsonProperty("Skills") List<GemSkill> skills
+    ) {}
+
+    public record GemSkill(
+            @JsonProperty("GemSlot") int gemSlot,
+            @JsonProperty("Name") String name,
+            @JsonProperty("Description") List<String> description,
+            @JsonProperty("Option") String option,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record Profile(
+            @JsonProperty("CharacterImage") String characterImage,
+            @JsonProperty("ExpeditionLevel") int expeditionLevel,
+            @Interned @JsonProperty("PvpGradeName") String pvpGradeName,
+            @JsonProperty("TownLevel") int townLevel,
+            @JsonProperty("TownName") String townName,
+            @JsonProperty("Title") String title,
+            @Interned @JsonProperty("GuildMemberGrade") String guildMemberGrade,
+            @JsonProperty("GuildName") String guildName,
+            @JsonProperty("UsingSkillPoint") int usingSkillPoint,
+            @JsonProperty("TotalSkillPoint") int totalSkillPoint,
+            @JsonProperty("Stats") List<Stat> stats,
+            @JsonProperty("Tendencies") List<Tendency> tendencies,
+            @Interned @JsonProperty("ServerName") String serverName,
+            @JsonProperty("CharacterName") String characterName,
+            @JsonProperty("CharacterLevel") int characterLevel,
+            @Interned @JsonProperty("CharacterClassName") String characterClassName,
+            @JsonProperty("ItemAvgLevel") String itemAvgLevel,
+            @JsonProperty("ItemMaxLevel") String itemMaxLevel
+    ) {}
+
+    public record Stat(
+            @Interned @JsonProperty("Type") String type,
+            @JsonProperty("Value") String value,
+            @JsonProperty("Tooltip") List<String> tooltip
+    ) {}
+
+    public record Tendency(
+            @Interned @JsonProperty("Type") String type,
+            @JsonProperty("Point") int point,
+            @JsonProperty("MaxPoint") int maxPoint
+    ) {}
+
+    public record Skill(
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Level") int level,
+            @Interned @JsonProperty("Type") String type,
+            @JsonProperty("SkillType") int skillType,
+            @JsonProperty("Tripods") List<Tripod> tripods,
+            @JsonProperty("Rune") Rune rune,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record Tripod(
+            @JsonProperty("Tier") int tier,
+            @JsonProperty("Slot") int slot,
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Level") int level,
+            @JsonProperty("IsSelected") boolean isSelected,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record Rune(
+            @JsonProperty("Name") String name,
+            @Interned @JsonProperty("Icon") String icon,
+            @Interned @JsonProperty("Grade") String grade,
+            @JsonProperty("Tooltip") String tooltip
+    ) {}
+
+    public record Collectibles(
+            @Interned @JsonProperty("Type") String type,
+            @Interned @JsonProperty("Icon") String icon,
+            @JsonProperty("Point") int point,
+            @JsonProperty("MaxPoint") int maxPoint,
+            @JsonProperty("CollectiblePoints") List<CollectiblePoint> collectiblePoints
+    ) {}
+
+    public record CollectiblePoint(
+            @JsonProperty("PointName") String pointName,
+            @JsonProperty("Point") int point,
+            @JsonProperty("MaxPoint") int maxPoint
+    ) {}
+
+    public record ColosseumInfo(
+            @JsonProperty("Rank") int rank,
+            @JsonProperty("PreRank") int preRank,
+            @JsonProperty("Exp") int exp,
+            @JsonProperty("Colosseums") List<Colosseum> colosseums
+    ) {}
+
+    public record Colosseum(
+            @JsonProperty("SeasonName") String seasonName,
+            @JsonProperty("Competitive") Competitive competitive,
+            @JsonProperty("TeamDeathmatch") MatchStats teamDeathmatch,
+            @JsonProperty("TeamElimination") EliminationStats teamElimination,
+            @JsonProperty("CoOpBattle") MatchStats coOpBattle,
+            @JsonProperty("OneDeathmatch") DeathmatchStats oneDeathmatch
+    ) {}
+
+    public record Competitive(
+            @JsonProperty("Rank") int rank,
+            @Interned @JsonProperty("RankName") String rankName,
+            @Interned @JsonProperty("RankIcon") String rankIcon,
+            @JsonProperty("RankLastMmr") int rankLastMmr,
+            @JsonProperty("PlayCount") int playCount,
+            @JsonProperty("VictoryCount") int victoryCount,
+            @JsonProperty("LoseCount") int loseCount,
+            @JsonProperty("TieCount") int tieCount,
+            @JsonProperty("KillCount") int killCount,
+            @JsonProperty("AceCount") int aceCount,
+            @JsonProperty("DeathCount") int deathCount
+    ) {}
+
+    // TeamDeathmatch / CoOpBattle (필드 구성이 같음)
+    public record MatchStats(
+            @JsonProperty("PlayCount") int playCount,
+            @JsonProperty("VictoryCount") int victoryCount,
+            @JsonProperty("LoseCount") int loseCount,
+            @JsonProperty("TieCount") int tieCount,
+            @JsonProperty("KillCount") int killCount,
+            @JsonProperty("AceCount") int aceCount,
+            @JsonProperty("DeathCount") int deathCount
+    ) {}
+
+    public record EliminationStats(
+            @JsonProperty("FirstWinCount") int firstWinCount,
+            @JsonProperty("SecondWinCount") int secondWinCount,
+            @JsonProperty("ThirdWinCount") int thirdWinCount,
+            @JsonProperty("FirstPlayCount") int firstPlayCount,
+            @JsonProperty("SecondPlayCount") int secondPlayCount,
+            @JsonProperty("ThirdPlayCount") int thirdPlayCount,
+            @JsonProperty("AllKillCount") int allKillCount,
+            @JsonProperty("PlayCount") int playCount,
+            @JsonProperty("VictoryCount") int victoryCount,
+            @JsonProperty("LoseCount") int loseCount,
+            @JsonProperty("TieCount") int tieCount,
+            @JsonProperty("KillCount") int killCount,
+            @JsonProperty("AceCount") int aceCount,
+            @JsonProperty("DeathCount") int deathCount
+    ) {}
+
+    public record DeathmatchStats(
+            @JsonProperty("KillCount") int killCount,
+            @JsonProperty("DeathCount") int deathCount,
+            @JsonProperty("AllKillCount") int allKillCount,
+            @JsonProperty("OutDamage") int outDamage,
+            @JsonProperty("InDamage") int inDamage,
+            @JsonProperty("FirstWinCount") int firstWinCount,
+            @JsonProperty("SecondWinCount") int secondWinCount,
+            @JsonProperty("ThirdWinCount") int thirdWinCount,
+            @JsonProperty("FirstPlayCount") int firstPlayCount,
+            @JsonProperty("SecondPlayCount") int secondPlayCount,
+            @JsonProperty("ThirdPlayCount") int thirdPlayCount
+    ) {}
+}
@@ -0,0 +1,122 @@
+package kr.elfaka.lostark.character.feign;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.ArmoryFixtures;
+import kr.elfaka.lostark.character.dto.ArmoryRecords;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.lazy.LazyArmoryReader;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아머리 응답 역직렬화 비교 (캐시 miss마다 타는 경로)
+ *
+ * - feign             : 현재 운영 경로 (LostArkFeignConfig.rateLimitHeaderDecoder 그대로, 아머리는 LazyArmoryReader로
+ *                       섹션 위치만 기록한 LazyArmoryTotalDto를 반환)
+ * - feign-eager       : LazyArmoryReader 도입 이전 경로 (같은 디코더에 LazyArmoryReader 없이
+ *                       OptionalDecoder → ResponseEntityDecoder → SpringDecoder → Jackson 컨버터, 비교 기준)
+ * - mapper            : 공유 ObjectMapper.readValue 직접 호출 (컨버터/Feign 응답 감싸기 비용 제외)
+ * - reader            : 미리 만들어 둔 ObjectReader (타입별 deserializer 조회까지 생략)
+ * - afterburner       : reader + AfterburnerModule (바이트코드 생성)
+ * - blackbird         : reader + BlackbirdModule (LambdaMetafactory, Java 11+ 권장)
+ * - records           : reader + record 사본 (ArmoryRecords, 생성자 기반)
+ * - records-blackbird : records + BlackbirdModule
+ * - lazy              : LazyArmoryReader로 섹션 위치만 기록 + 프로필만 읽음 (프로필만 쓰는 호출의 비용)
+ *
+ * [실행]
+ * - ./gradlew jmh  (처리량 ops/s, gc 프로파일러의 gc.alloc.rate.norm = 호출당 할당 바이트)
+ * - 가장 좋은 모듈은 app.character.jackson.accelerator로 켠다. (JacksonAcceleratorConfig)
+ *
+ * 입력은 CacheValueCodecBenchmark와 같은 fixture (ArmoryFixtures 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArmoryDecodeBenchmark {
+
+    @Param({ArmoryFixtures.DEFAULT})
+    public String fixture;
+
+    @Param({"feign", "feign-eager", "mapper", "reader", "afterburner", "blackbird", "records", "records-blackbird", "lazy"})
+    public String setup;
+
+    private byte[] json;
+    private Response response;
+    private Decoder decoder;
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private LazyArmoryReader lazyReader;
+
+    @Setup
+    public void setup() throws IOException {
+        json = ArmoryFixtures.read(fixture);
+        mapper = ArmoryFixtures.objectMapper();
+        switch (setup) {
+            case "afterburner" -> mapper.registerModule(new AfterburnerModule());
+            case "blackbird", "records-blackbird" -> mapper.registerModule(new BlackbirdModule());
+            default -> {
+            }
+        }
+        lazyReader = new LazyArmoryReader(mapper, new SimpleMeterRegistry());
+        reader = mapper.readerFor(setup.startsWith("records") ? ArmoryRecords.Total.class : ArmoryTotalDto.class);
+
+        // 운영과 같은 디코더를 LostArkFeignConfig에서 만든다. (fixture 응답에는 rate limit 헤더가 없어 반영할 것 없음)
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        if (!setup.equals("feign-eager")) {
+            beans.registerSingleton("lazyArmoryReader", lazyReader);
+        }
+        decoder = new LostArkFeignConfig().rateLimitHeaderDecoder(
+                new LostArkRateLimiter(Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry()),
+                () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter(mapper)),
+                beans.getBeanProvider(HttpMessageConverterCustomizer.class),
+                beans.getBeanProvider(LazyArmoryReader.class));
+        // byte[] 본문은 읽을 때마다 새 스트림을 주므로 재사용 가능
+        response = Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Map.of("Content-Type", List.of("application/json;charset=UTF-8")))
+                .request(Request.create(Request.HttpMethod.GET, "/armories/characters/fixture",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .body(json)
+                .build();
+
+        // 선택한 구성으로 fixture를 끝까지 읽을 수 있는지 먼저 확인
+        Object decoded = decode();
+        if (decoded == null) throw new IllegalStateException("decoded null: " + setup);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return switch (setup) {
+            case "feign", "feign-eager" -> decoder.decode(response, ArmoryTotalDto.class);
+            case "mapper" -> mapper.readValue(json, ArmoryTotalDto.class);
+            case "lazy" -> lazyReader.read(json).getArmoryProfile();
+            default -> reader.readValue(json);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package kr.elfaka.lostark.character.summary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.ArmoryFixtures;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CombatSummaryDto;
+import kr.elfaka.lostark.character.tooltip.TooltipParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전투 집계 계산 비용 (일괄 조회 시 캐릭터마다 호출되는 경로)
+ *
+ * - warm : 보석 툴팁 파싱 결과가 메모이제이션된 상태 (같은 보석을 쓰는 캐릭터가 이미 조회된 경우)
+ * - cold : 매번 새 TooltipParser로 계산 (처음 보는 보석만 있는 경우의 상한)
+ *
+ * [입력]
+ * - 기본값은 CacheValueCodecBenchmark와 같은 합성 fixture (실제 응답이 아님, ArmoryFixtures 참고)
+ *   보석/스킬 구성이 실제 캐릭터와 다르므로 수치는 실제 응답으로 다시 재야 한다.
+ * - 실제 응답: /raw로 받아 둔 파일을 넘긴다.
+ *   예) build.gradle jmh { benchmarkParameters = [fixture: ['file:/path/to/armory.json']] }
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatSummaryBenchmark {
+
+    @Param({ArmoryFixtures.DEFAULT})
+    public String fixture;
+
+    private ArmoryTotalDto armory;
+    private CombatSummaryCalculator warm;
+
+    @Setup
+    public void setup() throws IOException {
+        armory = ArmoryFixtures.objectMapper().readValue(ArmoryFixtures.read(fixture), ArmoryTotalDto.class);
+        warm = newCalculator();
+        warm.summarize(armory);
+    }
+
+    @Benchmark
+    public CombatSummaryDto warm() {
+        return warm.summarize(armory);
+    }
+
+    @Benchmark
+    public CombatSummaryDto cold() {
+        return newCalculator().summarize(armory);
+    }
+
+    private static CombatSummaryCalculator newCalculator() {
+        return new CombatSummaryCalculator(
+                new TooltipParser(ArmoryFixtures.objectMapper(), 1000, new SimpleMeterRegistry()));
+    }
+}
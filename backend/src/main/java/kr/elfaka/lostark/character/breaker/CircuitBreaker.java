@@ -0,0 +1,193 @@
+package kr.elfaka.lostark.character.breaker;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N번 호출 기준 서킷 브레이커
+ *
+ * [상태]
+ * - CLOSED    : 정상. 최근 window-size번 결과를 링 버퍼에 기록하고,
+ *               minimum-calls 이상 쌓였을 때 실패율 또는 느린 호출 비율이 임계값 이상이면 OPEN
+ * - OPEN      : open-duration 동안 호출 거절 (tryAcquire() == false)
+ * - HALF_OPEN : open-duration이 지나면 half-open-calls번만 시험 호출을 허용하고,
+ *               그 결과가 임계값 미만이면 CLOSED, 아니면 다시 OPEN
+ *
+ * - 시간은 nanoClock으로 주입 (테스트에서 시간을 직접 움직이기 위함)
+ * - 호출 빈도가 높지 않은 upstream 경로용이라 단순 synchronized
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // CLOSED 상태 링 버퍼
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private int windowSlow;
+
+    // HALF_OPEN 상태 집계
+    private int halfOpenPermitted;
+    private int halfOpenRecorded;
+    private int halfOpenFailures;
+    private int halfOpenSlow;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+
+    /**
+     * @param failureRateThreshold  실패율 임계값 (0~100, %)
+     * @param slowCallRateThreshold 느린 호출 비율 임계값 (0~100, %)
+     */
+    public CircuitBreaker(int windowSize,
+                          int minimumCalls,
+                          double failureRateThreshold,
+                          Duration slowCallDuration,
+                          double slowCallRateThreshold,
+                          Duration openDuration,
+                          int halfOpenCalls,
+                          LongSupplier nanoClock) {
+        this.window = new byte[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 반드시 onSuccess/onFailure/onIgnored 중 하나를 호출해야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (nanoClock.getAsLong() - openUntil < 0) return false;
+                toHalfOpen();
+                halfOpenPermitted++;
+                return true;
+            }
+            default -> {
+                if (halfOpenPermitted >= halfOpenCalls) return false;
+                halfOpenPermitted++;
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        record(elapsedNanos, false);
+    }
+
+    public void onFailure(long elapsedNanos) {
+        record(elapsedNanos, true);
+    }
+
+    /**
+     * upstream 상태와 관계없는 결과 (쿼터 초과 등) → 집계하지 않고 시험 호출 자리만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenRecorded) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized State state() {
+        // open-duration이 지났으면 다음 호출에서 HALF_OPEN이 되므로 그렇게 보여줌
+        if (state == State.OPEN && nanoClock.getAsLong() - openUntil >= 0) return State.HALF_OPEN;
+        return state;
+    }
+
+    /**
+     * OPEN 상태에서 시험 호출이 허용될 때까지 남은 시간 (그 외 상태면 0)
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) return Duration.ZERO;
+        return Duration.ofNanos(Math.max(0, openUntil - nanoClock.getAsLong()));
+    }
+
+    private synchronized void record(long elapsedNanos, boolean failure) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        switch (state) {
+            case CLOSED -> recordClosed(failure, slow);
+            case HALF_OPEN -> recordHalfOpen(failure, slow);
+            default -> {
+                // OPEN 전에 허용된 호출이 늦게 끝난 경우: 이미 열려 있으므로 무시
+            }
+        }
+    }
+
+    private void recordClosed(boolean failure, boolean slow) {
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            if ((evicted & FAILURE) != 0) windowFailures--;
+            if ((evicted & SLOW) != 0) windowSlow--;
+        } else {
+            windowCount++;
+        }
+        byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if (failure) windowFailures++;
+        if (slow) windowSlow++;
+
+        if (windowCount >= minimumCalls && exceeds(windowFailures, windowSlow, windowCount)) {
+            toOpen();
+        }
+    }
+
+    private void recordHalfOpen(boolean failure, boolean slow) {
+        halfOpenRecorded++;
+        if (failure) halfOpenFailures++;
+        if (slow) halfOpenSlow++;
+        if (halfOpenRecorded < halfOpenCalls) return;
+
+        if (exceeds(halfOpenFailures, halfOpenSlow, halfOpenRecorded)) {
+            toOpen();
+        } else {
+            toClosed();
+        }
+    }
+
+    private boolean exceeds(int failures, int slow, int total) {
+        return failures * 100.0 / total >= failureRateThreshold
+                || slow * 100.0 / total >= slowCallRateThreshold;
+    }
+
+    private void toOpen() {
+        state = State.OPEN;
+        openUntil = nanoClock.getAsLong() + openNanos;
+    }
+
+    private void toHalfOpen() {
+        state = State.HALF_OPEN;
+        halfOpenPermitted = 0;
+        halfOpenRecorded = 0;
+        halfOpenFailures = 0;
+        halfOpenSlow = 0;
+    }
+
+    private void toClosed() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        windowSlow = 0;
+    }
+}
@@ -0,0 +1,137 @@
+package kr.elfaka.lostark.character.breaker;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.error.UpstreamRateLimitedException;
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import kr.elfaka.lostark.character.error.UpstreamUnavailableException;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * LostArk API(캐릭터 upstream) 서킷 브레이커
+ *
+ * [집계]
+ * - 실패: 연결/읽기 타임아웃 등 I/O 실패, 5xx, UpstreamTimeoutException
+ * - 무시: 429/쿼터 대기 초과 (upstream 장애가 아니라 우리 쿼터 문제)
+ * - 그 외(404 등 4xx 포함)는 upstream이 응답한 것이므로 성공
+ * - slow-call-duration 이상 걸린 호출은 결과와 관계없이 느린 호출로 집계
+ *   (쿼터 토큰 대기 시간은 빼고 잰다. 우리 쿼터 때문에 늦어진 호출로 브레이커가 열리지 않도록)
+ *
+ * [열렸을 때]
+ * - upstream을 호출하지 않고 바로 UpstreamUnavailableException (→ 호출하는 쪽에서 마지막 캐시 값으로 대체하거나 503)
+ * - 점검 시간에 모든 요청이 타임아웃까지 기다리며 Tomcat 스레드를 잡고 있지 않도록 하기 위함
+ *
+ * [메트릭]
+ * - lostark.circuit.state : 0=CLOSED, 1=OPEN, 2=HALF_OPEN
+ * - lostark.circuit.rejected : 열려 있어서 거절한 호출 수
+ */
+@Slf4j
+@Component
+public class LostArkCircuitBreaker {
+
+    private final boolean enabled;
+    private final CircuitBreaker breaker;
+    private final AtomicReference<CircuitBreaker.State> lastState = new AtomicReference<>(CircuitBreaker.State.CLOSED);
+    private final Counter rejected;
+
+    public LostArkCircuitBreaker(@Value("${app.character.circuit-breaker.enabled:true}") boolean enabled,
+                                 @Value("${app.character.circuit-breaker.window-size:20}") int windowSize,
+                                 @Value("${app.character.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                 @Value("${app.character.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                                 @Value("${app.character.circuit-breaker.slow-call-duration:5s}") Duration slowCallDuration,
+                                 @Value("${app.character.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+                                 @Value("${app.character.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                 @Value("${app.character.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.breaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+
+        Gauge.builder("lostark.circuit.state", breaker, b -> b.state().ordinal()).register(meterRegistry);
+        this.rejected = Counter.builder("lostark.circuit.rejected").register(meterRegistry);
+    }
+
+    /**
+     * upstream 호출을 브레이커로 감싸서 실행
+     *
+     * @throws UpstreamUnavailableException 브레이커가 열려 있을 때 (call은 실행하지 않음)
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) return call.get();
+
+        if (!breaker.tryAcquire()) {
+            rejected.increment();
+            Duration retryAfter = breaker.remainingOpen();
+            throw new UpstreamUnavailableException(
+                    "LostArk API unavailable (circuit open, retry after " + retryAfter.toSeconds() + "s)", retryAfter);
+        }
+
+        long start = System.nanoTime();
+        long waitedBefore = LostArkRateLimiter.waitedNanos();
+        try {
+            T result = call.get();
+            breaker.onSuccess(elapsedSince(start, waitedBefore));
+            return result;
+        } catch (RuntimeException e) {
+            long elapsed = elapsedSince(start, waitedBefore);
+            if (isIgnored(e)) {
+                breaker.onIgnored();
+            } else if (isFailure(e)) {
+                breaker.onFailure(elapsed);
+            } else {
+                breaker.onSuccess(elapsed);
+            }
+            throw e;
+        } finally {
+            logTransition();
+        }
+    }
+
+    /**
+     * 열려 있어서 호출이 거절될 상태인지 (시험 호출 자리는 쓰지 않음, 선제 갱신 등 부가 작업 건너뛰기용)
+     */
+    public boolean isOpen() {
+        return enabled && breaker.state() == CircuitBreaker.State.OPEN;
+    }
+
+    public CircuitBreaker.State state() {
+        return breaker.state();
+    }
+
+    // RequestInterceptor의 토큰 대기(429 재시도 포함)를 뺀 upstream 호출 시간
+    private static long elapsedSince(long start, long waitedBefore) {
+        long waited = LostArkRateLimiter.waitedNanos() - waitedBefore;
+        return Math.max(0, System.nanoTime() - start - waited);
+    }
+
+    private static boolean isIgnored(RuntimeException e) {
+        return e instanceof UpstreamRateLimitedException
+                || e instanceof FeignException fe && fe.status() == 429;
+    }
+
+    private static boolean isFailure(RuntimeException e) {
+        if (e instanceof UpstreamTimeoutException) return true;
+        if (e instanceof FeignException fe) {
+            // status() <= 0: 응답을 받지 못한 I/O 실패 (RetryableException 등)
+            return fe.status() <= 0 || fe.status() >= 500;
+        }
+        return false;
+    }
+
+    private void logTransition() {
+        CircuitBreaker.State current = breaker.state();
+        CircuitBreaker.State previous = lastState.getAndSet(current);
+        if (previous != current) {
+            log.warn("LostArk circuit breaker {} -> {}", previous, current);
+        }
+    }
+}
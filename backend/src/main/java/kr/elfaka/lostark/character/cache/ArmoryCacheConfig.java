@@ -0,0 +1,247 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.dto.RosterDto;
+import kr.elfaka.lostark.character.lazy.LazyArmoryTotalDto;
+import kr.elfaka.lostark.character.support.ETags;
+import kr.elfaka.lostark.character.support.InternedStringModule;
+import kr.elfaka.lostark.character.support.StringInternPool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 캐릭터(아머리) 캐시 설정
+ *
+ * - app.character.cache.* 로 크기/TTL 조정
+ * - StringRedisTemplate 빈이 없거나(테스트 등) redis-enabled=false면 L1만 사용한다.
+ * - 아머리 캐시는 저장 시점에 직렬화 결과의 해시를 ETag로 같이 보관한다.
+ * - app.character.intern.* 로 역직렬화 문자열 공유(intern) 풀 조정
+ */
+@Configuration
+public class ArmoryCacheConfig {
+
+    @Value("${app.character.cache.fresh-ttl:5m}")
+    private Duration freshTtl;
+
+    @Value("${app.character.cache.stale-ttl:30m}")
+    private Duration staleTtl;
+
+    @Value("${app.character.cache.redis-enabled:true}")
+    private boolean redisEnabled;
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService armoryCacheRefreshExecutor() {
+        // stale 갱신은 대부분 외부 API 대기 시간이라 가상 스레드로 충분
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TwoTierCache<ArmoryTotalDto> armoryCache(
+            @Value("${app.character.cache.l1-max-entries:2000}") int maxEntries,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return twoTier("armory", ArmoryTotalDto.class, maxEntries, redisTemplate, cacheValueCodec,
+                armoryCacheRefreshExecutor, meterRegistry, jsonETag(objectMapper));
+    }
+
+    /**
+     * 섹션별 캐시 (키: "{name}|{section}", 값: 해당 섹션만 채워진 ArmoryTotalDto)
+     */
+    @Bean
+    public TwoTierCache<ArmoryTotalDto> armorySectionCache(
+            @Value("${app.character.cache.section-l1-max-entries:10000}") int maxEntries,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return twoTier("armory-section", ArmoryTotalDto.class, maxEntries, redisTemplate, cacheValueCodec,
+                armoryCacheRefreshExecutor, meterRegistry, jsonETag(objectMapper));
+    }
+
+    /**
+     * 원본 바이트(pass-through) 캐시 (키: 정규화된 캐릭터 이름, 값: gzip 압축 원본)
+     * - ETag는 원본 바이트 기준으로 RawArmoryDto 안에 들어 있음
+     */
+    @Bean
+    public TwoTierCache<RawArmoryDto> armoryRawCache(
+            @Value("${app.character.cache.raw-l1-max-entries:2000}") int maxEntries,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return twoTier("armory-raw", RawArmoryDto.class, maxEntries, redisTemplate, cacheValueCodec,
+                armoryCacheRefreshExecutor, meterRegistry, RawArmoryDto::etag);
+    }
+
+    /**
+     * 존재하지 않는 캐릭터 캐시 (키: 정규화된 캐릭터 이름)
+     * - 아머리/원본 조회가 함께 사용 (없는 캐릭터는 어느 쪽으로 조회해도 없음)
+     */
+    @Bean
+    public NegativeCache armoryNegativeCache(
+            @Value("${app.character.cache.negative-l1-max-entries:20000}") int maxEntries,
+            @Value("${app.character.cache.negative-ttl:2m}") Duration ttl,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        StringRedisTemplate redis = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        return new NegativeCache("armory-missing", maxEntries, ttl, redis, meterRegistry, System::currentTimeMillis);
+    }
+
+    /**
+     * 원정대 캐시 (키: rosterId, 값: 원정대 캐릭터 목록)
+     * - 원정대 구성은 자주 바뀌지 않으므로 app.character.roster.*의 별도 TTL을 쓴다.
+     */
+    @Bean
+    public TwoTierCache<RosterDto> rosterCache(
+            @Value("${app.character.roster.l1-max-entries:5000}") int maxEntries,
+            @Value("${app.character.roster.fresh-ttl:1h}") Duration rosterFreshTtl,
+            @Value("${app.character.roster.stale-ttl:24h}") Duration rosterStaleTtl,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return twoTier("roster", RosterDto.class, maxEntries, rosterFreshTtl, rosterStaleTtl, redisTemplate,
+                cacheValueCodec, armoryCacheRefreshExecutor, meterRegistry, null);
+    }
+
+    /**
+     * 원정대 인덱스 (키: 정규화된 캐릭터 이름, 값: rosterId)
+     */
+    @Bean
+    public TwoTierCache<String> rosterIndexCache(
+            @Value("${app.character.roster.index-l1-max-entries:50000}") int maxEntries,
+            @Value("${app.character.roster.fresh-ttl:1h}") Duration rosterFreshTtl,
+            @Value("${app.character.roster.stale-ttl:24h}") Duration rosterStaleTtl,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return twoTier("roster-index", String.class, maxEntries, rosterFreshTtl, rosterStaleTtl, redisTemplate,
+                cacheValueCodec, armoryCacheRefreshExecutor, meterRegistry, null);
+    }
+
+    /**
+     * 아머리 역직렬화(@Interned 필드)에 쓰는 intern 풀
+     */
+    @Bean
+    public StringInternPool armoryInternPool(
+            @Value("${app.character.intern.enabled:true}") boolean enabled,
+            @Value("${app.character.intern.max-entries:50000}") int maxEntries,
+            @Value("${app.character.intern.max-length:256}") int maxLength,
+            MeterRegistry meterRegistry
+    ) {
+        StringInternPool pool = new StringInternPool(maxEntries, maxLength, enabled);
+
+        Gauge.builder("armory.intern.size", pool, StringInternPool::size).register(meterRegistry);
+        FunctionCounter.builder("armory.intern.lookups", pool, StringInternPool::hits)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("armory.intern.lookups", pool, StringInternPool::misses)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("armory.intern.lookups", pool, StringInternPool::rejected)
+                .tag("result", "rejected").register(meterRegistry);
+        return pool;
+    }
+
+    /**
+     * @Interned 필드를 armoryInternPool로 읽도록 공유 ObjectMapper에 등록 (Module 빈은 Spring Boot가 등록)
+     */
+    @Bean
+    public Module internedStringModule(StringInternPool armoryInternPool) {
+        return new InternedStringModule(armoryInternPool);
+    }
+
+    /**
+     * L2(Redis) 값 직렬화 방식 (app.character.cache.codec.*)
+     * - 기본 smile + deflate: JSON 텍스트 파싱 비용과 툴팁 때문에 큰 값 크기를 줄임
+     * - 형식을 바꿔도 기존에 저장된 값(JSON 텍스트 포함)은 그대로 읽힌다.
+     */
+    @Bean
+    public CacheValueCodec cacheValueCodec(
+            @Value("${app.character.cache.codec.format:smile}") String format,
+            @Value("${app.character.cache.codec.compression:deflate}") String compression,
+            @Value("${app.character.cache.codec.deflate-level:1}") int deflateLevel,
+            ObjectMapper objectMapper
+    ) {
+        return JacksonCacheValueCodec.of(objectMapper, format, compression, deflateLevel);
+    }
+
+    /**
+     * TwoTierCache 공통 생성 (TTL/Redis 사용 여부는 app.character.cache.* 공통값)
+     */
+    private <V> TwoTierCache<V> twoTier(String name,
+                                        Class<V> valueType,
+                                        int maxEntries,
+                                        ObjectProvider<StringRedisTemplate> redisTemplate,
+                                        CacheValueCodec codec,
+                                        ExecutorService refreshExecutor,
+                                        MeterRegistry meterRegistry,
+                                        Function<V, String> etagFunction) {
+        return twoTier(name, valueType, maxEntries, freshTtl, staleTtl, redisTemplate, codec,
+                refreshExecutor, meterRegistry, etagFunction);
+    }
+
+    private <V> TwoTierCache<V> twoTier(String name,
+                                        Class<V> valueType,
+                                        int maxEntries,
+                                        Duration freshTtl,
+                                        Duration staleTtl,
+                                        ObjectProvider<StringRedisTemplate> redisTemplate,
+                                        CacheValueCodec codec,
+                                        ExecutorService refreshExecutor,
+                                        MeterRegistry meterRegistry,
+                                        Function<V, String> etagFunction) {
+        StringRedisTemplate redis = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        return new TwoTierCache<>(
+                name,
+                valueType,
+                maxEntries,
+                freshTtl,
+                staleTtl,
+                redis,
+                codec,
+                refreshExecutor,
+                meterRegistry,
+                System::currentTimeMillis,
+                etagFunction
+        );
+    }
+
+    // 지연 디코딩 아머리는 섹션을 객체로 만들지 않고 원본 조각으로 ETag 계산
+    private static <V> Function<V, String> jsonETag(ObjectMapper objectMapper) {
+        ObjectWriter etagWriter = objectMapper.writer().withAttribute(LazyArmoryTotalDto.RAW_SECTIONS, Boolean.TRUE);
+        return value -> {
+            try {
+                return ETags.of(etagWriter.writeValueAsBytes(value));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package kr.elfaka.lostark.character.cache;
+
+/**
+ * 캐시에 저장되는 값 + 시간 정보
+ *
+ * - freshUntil 이전: 그대로 응답 (fresh)
+ * - freshUntil ~ staleUntil: 일단 응답하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - staleUntil 이후: 만료, 원본을 다시 조회해야 함
+ *
+ * @param value      캐시된 값
+ * @param fetchedAt  원본에서 가져온 시각 (epoch millis)
+ * @param freshUntil fresh 상태가 끝나는 시각 (epoch millis)
+ * @param staleUntil stale 응답까지 허용되는 시각 (epoch millis)
+ * @param etag       값의 내용 해시 (ETag, 계산하지 않는 캐시는 null)
+ */
+public record CacheEntry<V>(
+        V value,
+        long fetchedAt,
+        long freshUntil,
+        long staleUntil,
+        String etag
+) {
+
+    public boolean isFresh(long now) {
+        return now < freshUntil;
+    }
+
+    public boolean isServable(long now) {
+        return now < staleUntil;
+    }
+}
@@ -0,0 +1,29 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+
+/**
+ * L2(Redis) 캐시 값 직렬화 방식
+ *
+ * - TwoTierCache는 이 인터페이스로만 값을 바이트로 바꾸고 되돌린다.
+ * - 구현체는 자기가 쓰지 않은 형식도 알아볼 수 있으면 읽어야 한다. (설정 변경 후에도 기존 값을 miss 없이 사용)
+ */
+public interface CacheValueCodec {
+
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * @return 알 수 없는 형식이면 null (캐시 miss로 처리)
+     */
+    <T> T decode(byte[] bytes, JavaType type) throws IOException;
+
+    TypeFactory typeFactory();
+
+    /**
+     * 메트릭/로그용 이름 (예: smile+deflate)
+     */
+    String name();
+}
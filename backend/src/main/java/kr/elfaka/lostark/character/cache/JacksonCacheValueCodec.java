@@ -0,0 +1,131 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import kr.elfaka.lostark.character.lazy.LazyArmoryTotalDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Jackson 기반 CacheValueCodec (JSON / Smile / CBOR + 선택적 Deflate)
+ *
+ * [저장 형식]
+ * - 첫 바이트: 헤더 (0xA0 | 형식 << 1 | deflate 여부)
+ * - 나머지: 해당 형식으로 직렬화한 값 (deflate면 압축된 상태)
+ * - 헤더 없이 '{'로 시작하면 이전 버전이 저장한 JSON 텍스트로 읽는다.
+ *
+ * [ObjectMapper]
+ * - Spring의 ObjectMapper를 copyWith()로 복사해서 모듈/설정(@Interned 등)을 그대로 쓴다.
+ */
+public class JacksonCacheValueCodec implements CacheValueCodec {
+
+    public enum Format { JSON, SMILE, CBOR }
+
+    private static final int HEADER_MARK = 0xA0;
+    private static final int HEADER_MASK = 0xF0;
+
+    private final Format format;
+    private final boolean deflate;
+    private final int deflateLevel;
+    private final Map<Format, ObjectMapper> mappers = new EnumMap<>(Format.class);
+    // 지연 디코딩 아머리는 원본 조각을 그대로 저장 (LazyArmoryTotalDto.RAW_SECTIONS)
+    private final Map<Format, ObjectWriter> writers = new EnumMap<>(Format.class);
+
+    public JacksonCacheValueCodec(ObjectMapper objectMapper, Format format, boolean deflate, int deflateLevel) {
+        this.format = format;
+        this.deflate = deflate;
+        this.deflateLevel = deflateLevel;
+        mappers.put(Format.JSON, objectMapper);
+        // 반복되는 필드 이름/짧은 문자열을 back-reference로 줄임
+        mappers.put(Format.SMILE, objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()));
+        mappers.put(Format.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.forEach((f, mapper) ->
+                writers.put(f, mapper.writer().withAttribute(LazyArmoryTotalDto.RAW_SECTIONS, Boolean.TRUE)));
+    }
+
+    /**
+     * 압축 없는 JSON (테스트/기본값)
+     */
+    public static JacksonCacheValueCodec json(ObjectMapper objectMapper) {
+        return new JacksonCacheValueCodec(objectMapper, Format.JSON, false, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param format      json / smile / cbor
+     * @param compression none / deflate
+     */
+    public static JacksonCacheValueCodec of(ObjectMapper objectMapper, String format, String compression, int deflateLevel) {
+        Format parsed = Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        boolean deflate = switch (compression.trim().toLowerCase(Locale.ROOT)) {
+            case "none" -> false;
+            case "deflate" -> true;
+            default -> throw new IllegalArgumentException("unsupported cache compression: " + compression);
+        };
+        return new JacksonCacheValueCodec(objectMapper, parsed, deflate, deflateLevel);
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        out.write(HEADER_MARK | format.ordinal() << 1 | (deflate ? 1 : 0));
+        if (deflate) {
+            Deflater deflater = new Deflater(deflateLevel);
+            try (OutputStream body = new DeflaterOutputStream(out, deflater)) {
+                writers.get(format).writeValue(body, value);
+            } finally {
+                deflater.end();
+            }
+        } else {
+            writers.get(format).writeValue(out, value);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) throws IOException {
+        if (bytes == null || bytes.length == 0) return null;
+
+        int header = bytes[0] & 0xFF;
+        if (header == '{') {
+            return mappers.get(Format.JSON).readValue(bytes, type);
+        }
+        int formatIndex = (header >> 1) & 0x07;
+        if ((header & HEADER_MASK) != HEADER_MARK || formatIndex >= Format.values().length) return null;
+
+        ObjectMapper mapper = mappers.get(Format.values()[formatIndex]);
+        InputStream body = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+        if ((header & 1) != 0) {
+            try (InputStream inflated = new InflaterInputStream(body)) {
+                return mapper.readValue(inflated, type);
+            }
+        }
+        return mapper.readValue(body, type);
+    }
+
+    @Override
+    public TypeFactory typeFactory() {
+        return mappers.get(Format.JSON).getTypeFactory();
+    }
+
+    @Override
+    public String name() {
+        return format.name().toLowerCase(Locale.ROOT) + (deflate ? "+deflate" : "");
+    }
+}
@@ -0,0 +1,74 @@
+package kr.elfaka.lostark.character.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최대 크기가 정해진 in-process LRU 캐시 (L1)
+ *
+ * - LinkedHashMap(accessOrder = true) 기반, 가장 오래 사용되지 않은 항목부터 제거
+ * - 조회/저장 빈도가 높지 않은 캐릭터 조회 경로용이라 단순 synchronized로 충분하다.
+ */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, V> map;
+
+    public LruCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    /**
+     * 이미 있으면 기존 값을 반환 (최근 사용으로 갱신), 없으면 저장하고 null
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        return map.putIfAbsent(key, value);
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * 최근 사용 순서를 바꾸지 않고 값을 최대 limit개까지 복사해서 반환 (메모리 측정 등 진단용)
+     */
+    public synchronized List<V> sample(int limit) {
+        List<V> result = new ArrayList<>(Math.min(limit, map.size()));
+        for (V value : map.values()) {
+            if (result.size() >= limit) break;
+            result.add(value);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+}
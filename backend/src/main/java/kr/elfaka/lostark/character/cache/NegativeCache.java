@@ -0,0 +1,119 @@
+package kr.elfaka.lostark.character.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * "존재하지 않음" 결과 캐시 (오타/삭제된 캐릭터, 무작위 이름을 찌르는 봇 대응)
+ *
+ * - TwoTierCache는 null을 캐시하지 않으므로 없는 캐릭터는 매번 upstream까지 간다. 그 결과만 따로 짧게 보관한다.
+ * - L1: 키 → 만료 시각, L2: Redis 키 하나 (값 없이 TTL만, 여러 인스턴스 공유)
+ * - Redis에서 찾으면 남은 TTL(PTTL)만큼만 L1에 올린다. (TTL이 늘어나지 않도록)
+ * - 새로 생성/이름 변경된 캐릭터는 최대 ttl만큼 늦게 보인다. (그래서 짧게)
+ *
+ * [메트릭]
+ * - armory.cache.negative{cache, result} : l1.hit / l2.hit / store
+ * - armory.cache.negative.size{cache} : 현재 L1 항목 수
+ */
+@Slf4j
+public class NegativeCache {
+
+    private final String name;
+    private final LruCache<String, Long> l1;
+    private final StringRedisTemplate redis; // null이면 L1만 사용
+    private final String redisKeyPrefix;
+    private final Duration ttl;
+    private final LongSupplier clock;
+
+    private final Counter l1Hit;
+    private final Counter l2Hit;
+    private final Counter store;
+
+    public NegativeCache(String name,
+                         int maxEntries,
+                         Duration ttl,
+                         StringRedisTemplate redis,
+                         MeterRegistry meterRegistry,
+                         LongSupplier clock) {
+        this.name = name;
+        this.l1 = new LruCache<>(maxEntries);
+        this.redis = redis;
+        this.redisKeyPrefix = name + ":";
+        this.ttl = ttl;
+        this.clock = clock;
+
+        this.l1Hit = counter(meterRegistry, "l1.hit");
+        this.l2Hit = counter(meterRegistry, "l2.hit");
+        this.store = counter(meterRegistry, "store");
+        Gauge.builder("armory.cache.negative.size", l1, LruCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("armory.cache.negative")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 최근에 "존재하지 않음"으로 확인된 키인지
+     */
+    public boolean contains(String key) {
+        long now = clock.getAsLong();
+
+        Long expiresAt = l1.get(key);
+        if (expiresAt != null) {
+            if (now < expiresAt) {
+                l1Hit.increment();
+                return true;
+            }
+            l1.remove(key);
+        }
+
+        long remaining = readRedisTtl(key);
+        if (remaining > 0) {
+            l1.put(key, now + remaining);
+            l2Hit.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void put(String key) {
+        l1.put(key, clock.getAsLong() + ttl.toMillis());
+        store.increment();
+        if (redis == null) return;
+        try {
+            redis.opsForValue().set(redisKeyPrefix + key, "", ttl);
+        } catch (RuntimeException e) {
+            log.warn("[{}] redis write failed. key={}", name, key, e);
+        }
+    }
+
+    public int size() {
+        return l1.size();
+    }
+
+    /**
+     * @return 남은 TTL(ms), 없거나 Redis를 쓰지 않으면 0
+     */
+    private long readRedisTtl(String key) {
+        if (redis == null) return 0;
+        try {
+            Long remaining = redis.getExpire(redisKeyPrefix + key, TimeUnit.MILLISECONDS);
+            return remaining == null ? 0 : remaining;
+        } catch (RuntimeException e) {
+            log.warn("[{}] redis read failed. key={}", name, key, e);
+            return 0;
+        }
+    }
+}
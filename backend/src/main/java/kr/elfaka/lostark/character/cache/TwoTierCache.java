@@ -0,0 +1,295 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 2단 read-through 캐시 (L1: in-process LRU, L2: Redis)
+ *
+ * [조회 순서]
+ * 1) L1 → 2) L2(Redis) → 3) loader(원본 API)
+ *
+ * [stale-while-revalidate]
+ * - fresh 기간이 지났지만 stale 기간 안이면 캐시 값을 바로 응답하고,
+ *   같은 키에 대해 한 번만 백그라운드 갱신을 돌린다.
+ *
+ * [L2]
+ * - Redis는 여러 인스턴스가 공유하는 보조 캐시라서 장애가 나도 요청은 실패시키지 않는다.
+ *   (경고 로그만 남기고 L1 + 원본 조회로 계속 진행)
+ * - 값은 CacheValueCodec으로 바이트 변환해서 저장 (JSON 텍스트 대신 Smile/CBOR + 압축 가능)
+ *
+ * [ETag]
+ * - etagFunction이 있으면 저장 시점에 한 번만 계산해서 CacheEntry에 같이 보관한다.
+ *   (조회 때마다 직렬화/해시하지 않도록)
+ *
+ * [메트릭]
+ * - armory.cache.gets{cache, result} : l1.hit / l1.stale / l2.hit / l2.stale / miss
+ * - armory.cache.refreshes{cache, result} : 백그라운드 갱신 성공/실패
+ * - armory.cache.size{cache} : 현재 L1 항목 수
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final LruCache<String, CacheEntry<V>> l1;
+    private final StringRedisTemplate redis; // null이면 L1만 사용
+    private final String redisKeyPrefix;
+    private final CacheValueCodec codec;
+    private final JavaType entryType;
+    private final Duration freshTtl;
+    private final Duration staleTtl;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final Function<V, String> etagFunction; // null이면 ETag 계산 안 함
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter l1Hit;
+    private final Counter l1Stale;
+    private final Counter l2Hit;
+    private final Counter l2Stale;
+    private final Counter miss;
+    private final Counter refreshOk;
+    private final Counter refreshFail;
+
+    public TwoTierCache(String name,
+                        Class<V> valueType,
+                        int maxEntries,
+                        Duration freshTtl,
+                        Duration staleTtl,
+                        StringRedisTemplate redis,
+                        CacheValueCodec codec,
+                        Executor refreshExecutor,
+                        MeterRegistry meterRegistry,
+                        LongSupplier clock) {
+        this(name, valueType, maxEntries, freshTtl, staleTtl, redis, codec,
+                refreshExecutor, meterRegistry, clock, null);
+    }
+
+    public TwoTierCache(String name,
+                        Class<V> valueType,
+                        int maxEntries,
+                        Duration freshTtl,
+                        Duration staleTtl,
+                        StringRedisTemplate redis,
+                        CacheValueCodec codec,
+                        Executor refreshExecutor,
+                        MeterRegistry meterRegistry,
+                        LongSupplier clock,
+                        Function<V, String> etagFunction) {
+        this.name = name;
+        this.l1 = new LruCache<>(maxEntries);
+        this.redis = redis;
+        this.redisKeyPrefix = name + ":";
+        this.codec = codec;
+        this.entryType = codec.typeFactory().constructParametricType(CacheEntry.class, valueType);
+        this.freshTtl = freshTtl;
+        this.staleTtl = staleTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.etagFunction = etagFunction;
+
+        this.l1Hit = counter(meterRegistry, "armory.cache.gets", "l1.hit");
+        this.l1Stale = counter(meterRegistry, "armory.cache.gets", "l1.stale");
+        this.l2Hit = counter(meterRegistry, "armory.cache.gets", "l2.hit");
+        this.l2Stale = counter(meterRegistry, "armory.cache.gets", "l2.stale");
+        this.miss = counter(meterRegistry, "armory.cache.gets", "miss");
+        this.refreshOk = counter(meterRegistry, "armory.cache.refreshes", "success");
+        this.refreshFail = counter(meterRegistry, "armory.cache.refreshes", "failure");
+        Gauge.builder("armory.cache.size", l1, LruCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry registry, String metric, String result) {
+        return Counter.builder(metric)
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 가져와서 L1/L2에 저장
+     * - loader가 null을 반환하면 캐시하지 않고 null 반환
+     */
+    public V get(String key, Supplier<V> loader) {
+        CacheEntry<V> entry = getEntry(key, loader);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * get()과 같지만 ETag/시간 정보가 담긴 CacheEntry를 반환
+     */
+    public CacheEntry<V> getEntry(String key, Supplier<V> loader) {
+        CacheEntry<V> cached = getEntryIfPresent(key, loader);
+        if (cached != null) return cached;
+
+        // 3) 원본 조회
+        return load(key, loader);
+    }
+
+    /**
+     * 캐시에 있을 때만 반환 (없으면 miss로 집계하고 null)
+     * - stale이면 값을 반환하면서 refresher로 백그라운드 갱신
+     * - 여러 키를 모아서 한 번에 원본 조회하는 경우(섹션 조회 등)에 사용
+     */
+    public V getIfPresent(String key, Supplier<V> refresher) {
+        CacheEntry<V> entry = getEntryIfPresent(key, refresher);
+        return entry == null ? null : entry.value();
+    }
+
+    public CacheEntry<V> getEntryIfPresent(String key, Supplier<V> refresher) {
+        long now = clock.getAsLong();
+
+        // 1) L1
+        CacheEntry<V> entry = l1.get(key);
+        if (entry != null && entry.isServable(now)) {
+            if (entry.isFresh(now)) {
+                l1Hit.increment();
+            } else {
+                l1Stale.increment();
+                refreshAsync(key, refresher);
+            }
+            return entry;
+        }
+
+        // 2) L2 (Redis)
+        entry = readRedis(key);
+        if (entry != null && entry.isServable(now)) {
+            l1.put(key, entry);
+            if (entry.isFresh(now)) {
+                l2Hit.increment();
+            } else {
+                l2Stale.increment();
+                refreshAsync(key, refresher);
+            }
+            return entry;
+        }
+
+        miss.increment();
+        return null;
+    }
+
+    /**
+     * 원본에서 가져온 값을 직접 캐시에 반영
+     */
+    public CacheEntry<V> put(String key, V value) {
+        if (value == null) return null;
+        long now = clock.getAsLong();
+        CacheEntry<V> entry = new CacheEntry<>(
+                value,
+                now,
+                now + freshTtl.toMillis(),
+                now + freshTtl.toMillis() + staleTtl.toMillis(),
+                etagFunction == null ? null : etagFunction.apply(value)
+        );
+        l1.put(key, entry);
+        writeRedis(key, entry, now);
+        return entry;
+    }
+
+    public void evict(String key) {
+        l1.remove(key);
+        if (redis == null) return;
+        try {
+            redis.delete(redisKeyPrefix + key);
+        } catch (RuntimeException e) {
+            log.warn("[{}] redis evict failed. key={}", name, key, e);
+        }
+    }
+
+    /**
+     * L1에 있는 항목을 만료 여부와 관계없이 그대로 반환 (갱신/메트릭 없음)
+     */
+    public CacheEntry<V> peek(String key) {
+        return l1.get(key);
+    }
+
+    /**
+     * L1 항목 일부 (메트릭/갱신 없음, 메모리 측정 등 진단용)
+     */
+    public List<CacheEntry<V>> sample(int limit) {
+        return l1.sample(limit);
+    }
+
+    public int size() {
+        return l1.size();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private CacheEntry<V> load(String key, Supplier<V> loader) {
+        return put(key, loader.get());
+    }
+
+    private void refreshAsync(String key, Supplier<V> loader) {
+        // 같은 키에 대한 갱신은 동시에 하나만
+        if (!refreshing.add(key)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                    refreshOk.increment();
+                } catch (RuntimeException e) {
+                    refreshFail.increment();
+                    log.warn("[{}] background refresh failed. key={}", name, key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            log.warn("[{}] background refresh rejected. key={}", name, key, e);
+        }
+    }
+
+    private CacheEntry<V> readRedis(String key) {
+        if (redis == null) return null;
+        try {
+            byte[] redisKey = redisKey(key);
+            byte[] bytes = redis.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(redisKey));
+            if (bytes == null) return null;
+            return codec.decode(bytes, entryType);
+        } catch (Exception e) {
+            log.warn("[{}] redis read failed. key={}", name, key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, CacheEntry<V> entry, long now) {
+        if (redis == null) return;
+        long ttlMillis = entry.staleUntil() - now;
+        if (ttlMillis <= 0) return;
+        try {
+            byte[] redisKey = redisKey(key);
+            byte[] bytes = codec.encode(entry);
+            redis.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(redisKey, bytes, Expiration.milliseconds(ttlMillis), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            log.warn("[{}] redis write failed. key={}", name, key, e);
+        }
+    }
+
+    private byte[] redisKey(String key) {
+        return (redisKeyPrefix + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
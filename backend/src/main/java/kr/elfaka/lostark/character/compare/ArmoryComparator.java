@@ -0,0 +1,171 @@
+package kr.elfaka.lostark.character.compare;
+
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEquipmentDto.ArmoryEquipment;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CharacterCompareDto;
+import kr.elfaka.lostark.character.dto.TooltipDto.EquipmentTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import kr.elfaka.lostark.character.tooltip.TooltipParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 두 아머리의 섹션별 차이 계산 (/api/character/compare)
+ *
+ * - 장비는 부위, 보석은 적용 스킬, 각인은 이름, 스탯은 종류로 맞춘다. (배열 순서와 무관)
+ * - 각 항목을 key → (field → 값) 으로 펼친 뒤 값이 다른 field만 남긴다.
+ * - 장비/보석 툴팁은 TooltipParser(메모이제이션)로 파싱하므로 같은 장비를 다시 비교할 때는 파싱하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArmoryComparator {
+
+    /**
+     * 비교에 필요한 섹션 (스탯은 프로필에 포함)
+     */
+    public static final Set<ArmorySection> SECTIONS = Collections.unmodifiableSet(EnumSet.of(
+            ArmorySection.PROFILES, ArmorySection.EQUIPMENT, ArmorySection.GEMS, ArmorySection.ENGRAVINGS));
+
+    private final TooltipParser tooltipParser;
+
+    public CharacterCompareDto compare(ArmoryTotalDto a, ArmoryTotalDto b) {
+        Double levelA = ItemLevels.avgLevel(a);
+        Double levelB = ItemLevels.avgLevel(b);
+        return new CharacterCompareDto(
+                side(a.getArmoryProfile()),
+                side(b.getArmoryProfile()),
+                levelA == null || levelB == null ? null : round(levelB - levelA),
+                diff(equipment(a), equipment(b)),
+                diff(gems(a), gems(b)),
+                diff(engravings(a), engravings(b)),
+                diff(stats(a), stats(b))
+        );
+    }
+
+    private static CharacterCompareDto.Side side(ArmoryProfile p) {
+        if (p == null) return null;
+        return new CharacterCompareDto.Side(p.getCharacterName(), p.getServerName(), p.getCharacterClassName(),
+                p.getItemAvgLevel());
+    }
+
+    private Map<String, Map<String, String>> equipment(ArmoryTotalDto armory) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        if (armory.getArmoryEquipment() == null) return result;
+
+        Map<String, Integer> seen = new HashMap<>();
+        for (ArmoryEquipment e : armory.getArmoryEquipment()) {
+            int n = seen.merge(String.valueOf(e.getType()), 1, Integer::sum);
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("name", e.getName());
+            fields.put("grade", e.getGrade());
+            EquipmentTooltip detail = tooltipParser.parseEquipment(e.getTooltip());
+            if (detail != null) {
+                fields.put("upgradeLevel", Integer.toString(detail.upgradeLevel()));
+                if (detail.quality() >= 0) fields.put("quality", Integer.toString(detail.quality()));
+                if (detail.itemLevel() != null) fields.put("itemLevel", number(detail.itemLevel()));
+            }
+            result.put(n == 1 ? e.getType() : e.getType() + "#" + n, fields);
+        }
+        return result;
+    }
+
+    private Map<String, Map<String, String>> gems(ArmoryTotalDto armory) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        if (armory.getArmoryGem() == null || armory.getArmoryGem().getGems() == null) return result;
+
+        for (Gem g : armory.getArmoryGem().getGems()) {
+            GemTooltip detail = tooltipParser.parseGem(g.getTooltip());
+            // 툴팁에서 스킬을 못 찾으면 슬롯 기준
+            String key = detail == null || detail.skillName() == null ? "slot " + g.getSlot() : detail.skillName();
+            String type = detail == null ? "unknown" : detail.type().toLowerCase(Locale.ROOT);
+            Map<String, String> fields = result.computeIfAbsent(key, k -> new LinkedHashMap<>());
+            fields.put(type + "Level", Integer.toString(g.getLevel()));
+            fields.put(type + "Gem", g.getName());
+        }
+        return result;
+    }
+
+    private static Map<String, Map<String, String>> engravings(ArmoryTotalDto armory) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        if (armory.getArmoryEngraving() == null || armory.getArmoryEngraving().getArkPassiveEffects() == null) {
+            return result;
+        }
+        for (ArkPassiveEffect e : armory.getArmoryEngraving().getArkPassiveEffects()) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("grade", e.getGrade());
+            fields.put("level", Integer.toString(e.getLevel()));
+            if (e.getAbilityStoneLevel() != null) {
+                fields.put("abilityStoneLevel", e.getAbilityStoneLevel().toString());
+            }
+            result.put(e.getName(), fields);
+        }
+        return result;
+    }
+
+    private static Map<String, Map<String, String>> stats(ArmoryTotalDto armory) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        ArmoryProfile profile = armory.getArmoryProfile();
+        if (profile == null || profile.getStats() == null) return result;
+        for (Stat s : profile.getStats()) {
+            result.put(s.getType(), Map.of("value", String.valueOf(s.getValue())));
+        }
+        return result;
+    }
+
+    /**
+     * a의 key 순서 → b에만 있는 key 순서로, 값이 다른 field만
+     */
+    static List<CharacterCompareDto.Change> diff(Map<String, Map<String, String>> a, Map<String, Map<String, String>> b) {
+        Set<String> keys = new LinkedHashSet<>(a.keySet());
+        keys.addAll(b.keySet());
+
+        List<CharacterCompareDto.Change> changes = new ArrayList<>();
+        for (String key : keys) {
+            Map<String, String> fieldsA = a.getOrDefault(key, Map.of());
+            Map<String, String> fieldsB = b.getOrDefault(key, Map.of());
+            Set<String> fields = new LinkedHashSet<>(fieldsA.keySet());
+            fields.addAll(fieldsB.keySet());
+            for (String field : fields) {
+                String valueA = fieldsA.get(field);
+                String valueB = fieldsB.get(field);
+                if (Objects.equals(valueA, valueB)) continue;
+                changes.add(new CharacterCompareDto.Change(key, field, valueA, valueB, delta(valueA, valueB)));
+            }
+        }
+        return changes;
+    }
+
+    private static Double delta(String a, String b) {
+        Double x = ItemLevels.parse(a);
+        Double y = ItemLevels.parse(b);
+        return x == null || y == null ? null : round(y - x);
+    }
+
+    // 1680.0 → "1680", 1680.5 → "1680.5"
+    private static String number(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    // 부동소수 오차 정리 (소수 둘째 자리)
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,23 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.CacheFootprintDto;
+import kr.elfaka.lostark.character.service.CacheFootprintService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheFootprintController {
+
+    private final CacheFootprintService cacheFootprintService;
+
+    // 캐시된 캐릭터당 힙 사용량 (운영 진단용, /api/** 인증 필요)
+    @GetMapping("/api/character-cache/footprint")
+    public CacheFootprintDto getFootprint(
+            @RequestParam(name = "sample", defaultValue = "200") int sample
+    ) {
+        return cacheFootprintService.report(sample);
+    }
+}
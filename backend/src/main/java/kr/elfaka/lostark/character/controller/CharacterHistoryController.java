@@ -0,0 +1,46 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.ItemLevelSeriesDto;
+import kr.elfaka.lostark.character.snapshot.CharacterSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.character.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CharacterHistoryController {
+
+    private final CharacterSnapshotService characterSnapshotService;
+
+    // at 시점의 아머리 복원 (예: ?at=2026-01-01T00:00:00Z, 없으면 마지막 스냅샷)
+    @GetMapping("/api/character/{characterName}/history")
+    public ResponseEntity<ArmoryTotalDto> getCharacterAt(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at
+    ) {
+        ArmoryTotalDto armory = characterSnapshotService.getAt(characterName, at == null ? Instant.now() : at);
+        return armory == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(armory);
+    }
+
+    // 아이템 레벨 변화 (기본: 최근 90일)
+    @GetMapping("/api/character/{characterName}/history/item-level")
+    public ItemLevelSeriesDto getItemLevelSeries(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(Duration.ofDays(90)) : from;
+        return characterSnapshotService.getItemLevelSeries(characterName, start, end);
+    }
+}
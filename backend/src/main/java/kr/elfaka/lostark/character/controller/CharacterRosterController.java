@@ -0,0 +1,27 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.RosterDto;
+import kr.elfaka.lostark.character.roster.RosterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CharacterRosterController {
+
+    private final RosterService rosterService;
+
+    // 같은 계정(원정대)의 캐릭터 목록, prefetch=N이면 상위 N명 아머리를 미리 캐시에 올림
+    @GetMapping("/api/character/{characterName}/siblings")
+    public ResponseEntity<RosterDto> getSiblings(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "prefetch", defaultValue = "0") int prefetch
+    ) {
+        RosterDto roster = rosterService.getRoster(characterName, prefetch);
+        return roster == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(roster);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.CharacterSuggestDto;
+import kr.elfaka.lostark.character.suggest.CharacterSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.character.suggest", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CharacterSuggestController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final CharacterSuggestService characterSuggestService;
+
+    // 캐릭터 이름 자동완성 (예: ?prefix=바드&limit=10, upstream 호출 없음)
+    @GetMapping("/api/character/suggest")
+    public CharacterSuggestDto suggest(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        return characterSuggestService.suggest(prefix, Math.max(0, Math.min(limit, MAX_LIMIT)));
+    }
+}
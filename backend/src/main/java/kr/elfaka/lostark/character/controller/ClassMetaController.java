@@ -0,0 +1,30 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.ClassMetaDto;
+import kr.elfaka.lostark.character.meta.ClassMetaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.character.meta", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClassMetaController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ClassMetaService classMetaService;
+
+    // 직업별 각인/보석/아크 패시브/카드 분포 (예: /api/character/meta/건슬링어?minItemLevel=1680, upstream 호출 없음)
+    @GetMapping("/api/character/meta/{className}")
+    public ClassMetaDto getClassMeta(
+            @PathVariable("className") String className,
+            @RequestParam(name = "minItemLevel", required = false) Integer minItemLevel,
+            @RequestParam(name = "limit", defaultValue = "30") int limit
+    ) {
+        return classMetaService.distribution(className, minItemLevel, Math.max(0, Math.min(limit, MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,41 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.LeaderboardDto;
+import kr.elfaka.lostark.character.leaderboard.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.character.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final LeaderboardService leaderboardService;
+
+    // 아이템 레벨 상위 캐릭터 (예: ?server=루페온&class=바드&limit=20)
+    @GetMapping("/api/character/leaderboard")
+    public LeaderboardDto getLeaderboard(
+            @RequestParam(name = "server", required = false) String server,
+            @RequestParam(name = "class", required = false) String className,
+            @RequestParam(name = "limit", defaultValue = "50") int limit
+    ) {
+        return leaderboardService.top(server, className, Math.max(0, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // 조건(서버/직업) 안에서 캐릭터 순위
+    @GetMapping("/api/character/leaderboard/rank")
+    public ResponseEntity<LeaderboardDto.Entry> getRank(
+            @RequestParam(name = "name") String characterName,
+            @RequestParam(name = "server", required = false) String server,
+            @RequestParam(name = "class", required = false) String className
+    ) {
+        LeaderboardDto.Entry entry = leaderboardService.rank(characterName, server, className);
+        return entry == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(entry);
+    }
+}
@@ -1,21 +1,224 @@
 package kr.elfaka.lostark.character.controller;
 
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.compare.ArmoryComparator;
 import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CharacterBatchRequestDto;
+import kr.elfaka.lostark.character.dto.CharacterBatchResponseDto;
+import kr.elfaka.lostark.character.dto.CharacterCompareDto;
+import kr.elfaka.lostark.character.dto.CombatSummaryDto;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.dto.SlimArmoryDto;
+import kr.elfaka.lostark.character.projection.ArmoryProjector;
+import kr.elfaka.lostark.character.projection.FieldProjection;
+import kr.elfaka.lostark.character.service.ArmoryLookup;
+import kr.elfaka.lostark.character.service.CharacterBatchService;
 import kr.elfaka.lostark.character.service.LostArkService;
+import kr.elfaka.lostark.character.service.RawArmoryService;
+import kr.elfaka.lostark.character.summary.CombatSummaryService;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import kr.elfaka.lostark.character.support.ETags;
+import kr.elfaka.lostark.character.support.Gzip;
+import kr.elfaka.lostark.character.tooltip.SlimArmoryMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 @RestController
 @RequiredArgsConstructor // 필수: final 필드의 생성자를 자동 생성
 public class LostArkController {
 
     private final LostArkService lostArkService;
+    private final CharacterBatchService characterBatchService;
+    private final SlimArmoryMapper slimArmoryMapper;
+    private final RawArmoryService rawArmoryService;
+    private final CombatSummaryService combatSummaryService;
+    private final ArmoryComparator armoryComparator;
+    private final ArmoryProjector armoryProjector;
+
+    // upstream 장애로 만료된 캐시 값을 대신 응답했다는 표시
+    private static final String STALE_HEADER = "X-Armory-Stale";
 
+    // sections 예: ?sections=profiles,equipment (없으면 전체)
+    // 존재하지 않는 캐릭터면 404 (짧게 캐시되어 같은 이름은 upstream을 다시 호출하지 않음)
+    // If-None-Match가 캐시된 ETag와 같으면 본문 없이 304
+    // upstream 대기 중에는 서블릿 스레드를 반납 (app.character.async.deadline 초과 시 504)
     @GetMapping("/api/character/{characterName}")
-    public ArmoryTotalDto getCharacterInfo(@PathVariable("characterName") String characterName) {
-        return lostArkService.getCharacterInfo(characterName);
+    public CompletableFuture<ResponseEntity<ArmoryTotalDto>> getCharacterInfo(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "sections", required = false) String sections,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return lostArkService.lookupCharacterSectionsAsync(characterName, ArmorySection.parse(sections))
+                .thenApply(lookup -> {
+                    if (lookup == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    return conditional(ifNoneMatch, lookup.etag(), lookup.freshUntil(), lookup.stale(), lookup::armory);
+                });
+    }
+
+    // 필요한 필드만 (예: ?fields=ArmoryProfile.CharacterName,ArmoryEquipment.Name,ArmoryEquipment.Grade)
+    // 경로는 응답 JSON 이름 (대소문자 무시, 배열은 건너뜀), 없는 필드면 400
+    // sections를 주지 않으면 선택한 최상위 필드의 섹션만 조회
+    @GetMapping(value = "/api/character/{characterName}", params = "fields")
+    public CompletableFuture<ResponseEntity<byte[]>> getCharacterFields(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "sections", required = false) String sections,
+            @RequestParam("fields") String fields,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        FieldProjection projection = armoryProjector.compile(fields);
+        Set<ArmorySection> requested = ArmorySection.parse(sections);
+        if (requested.isEmpty()) requested = armoryProjector.sections(projection);
+
+        return lostArkService.lookupCharacterSectionsAsync(characterName, requested)
+                .thenApply(lookup -> {
+                    if (lookup == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    String etag = ETags.combine(lookup.etag(), "fields", projection.key());
+                    ResponseEntity<byte[]> notModified = notModified(ifNoneMatch, etag, lookup.freshUntil());
+                    if (notModified != null) return notModified;
+
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .eTag(etag)
+                            .cacheControl(cacheControl(lookup.freshUntil()));
+                    if (lookup.stale()) {
+                        response.header(STALE_HEADER, "true");
+                    }
+                    ArmoryLookup full = lostArkService.peekCharacter(characterName);
+                    return response.body(armoryProjector.write(lookup.armory(), projection,
+                            full == null ? null : full.armory(), full == null ? null : full.etag()));
+                });
+    }
+
+    // 툴팁을 서버에서 파싱한 경량 응답 (원본 툴팁 문자열 제외)
+    @GetMapping("/api/character/{characterName}/slim")
+    public CompletableFuture<ResponseEntity<SlimArmoryDto>> getCharacterSlim(
+            @PathVariable("characterName") String characterName,
+            @RequestParam(name = "sections", required = false) String sections,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return lostArkService.lookupCharacterSectionsAsync(characterName, ArmorySection.parse(sections))
+                .thenApply(lookup -> {
+                    if (lookup == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    // 304면 slim 변환도 생략
+                    return conditional(ifNoneMatch, ETags.combine(lookup.etag(), "slim"), lookup.freshUntil(), lookup.stale(),
+                            () -> slimArmoryMapper.toSlim(lookup.armory()));
+                });
+    }
+
+    // 두 캐릭터의 장비/보석/각인/스탯 중 다른 값만 (두 캐릭터를 동시에 조회, 캐시에 있으면 캐시 사용)
+    // 둘 중 하나라도 존재하지 않으면 404
+    @GetMapping("/api/character/compare")
+    public CompletableFuture<ResponseEntity<CharacterCompareDto>> compareCharacters(
+            @RequestParam("a") String a,
+            @RequestParam("b") String b,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return lostArkService.lookupCharacterSectionsAsync(a, ArmoryComparator.SECTIONS)
+                .thenCombine(lostArkService.lookupCharacterSectionsAsync(b, ArmoryComparator.SECTIONS), (left, right) -> {
+                    if (left == null || right == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    return conditional(ifNoneMatch, ETags.combine(left.etag(), right.etag(), "compare"),
+                            Math.min(left.freshUntil(), right.freshUntil()), left.stale() || right.stale(),
+                            () -> armoryComparator.compare(left.armory(), right.armory()));
+                });
+    }
+
+    // 보석/각인/스탯/아크 패시브 집계 (같은 아머리에 대해서는 한 번만 계산)
+    @GetMapping("/api/character/{characterName}/summary")
+    public ResponseEntity<CombatSummaryDto> getCharacterSummary(
+            @PathVariable("characterName") String characterName,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CombatSummaryService.SummaryLookup lookup = combatSummaryService.lookupSummary(characterName);
+        if (lookup == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return conditional(ifNoneMatch, lookup.etag(), lookup.freshUntil(), lookup.stale(), lookup::summary);
+    }
+
+    // upstream 원본 JSON pass-through (gzip 지원 클라이언트에는 압축 바이트 그대로 전송)
+    @GetMapping("/api/character/{characterName}/raw")
+    public ResponseEntity<byte[]> getCharacterRaw(
+            @PathVariable("characterName") String characterName,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CacheEntry<RawArmoryDto> entry = rawArmoryService.getCharacterRawEntry(characterName);
+        if (entry == null) {
+            return ResponseEntity.notFound().build();
+        }
+        RawArmoryDto raw = entry.value();
+
+        ResponseEntity<byte[]> notModified = notModified(ifNoneMatch, raw.etag(), entry.freshUntil());
+        if (notModified != null) return notModified;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(raw.etag())
+                .cacheControl(cacheControl(entry.freshUntil()));
+        if (!entry.isServable(System.currentTimeMillis())) {
+            response.header(STALE_HEADER, "true");
+        }
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(raw.gzipped());
+        }
+        return response.body(Gzip.decompress(raw.gzipped()));
+    }
+
+    // 여러 캐릭터 일괄 조회 (부분 성공 + 이름별 에러)
+    @PostMapping("/api/character/batch")
+    public CharacterBatchResponseDto getCharacters(@RequestBody CharacterBatchRequestDto request) {
+        return characterBatchService.getCharacters(request.names(), ArmorySection.parse(request.sections()));
+    }
+
+    private static <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, long freshUntil, boolean stale,
+                                                 Supplier<T> body) {
+        ResponseEntity<T> notModified = notModified(ifNoneMatch, etag, freshUntil);
+        if (notModified != null) return notModified;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl(freshUntil));
+        if (stale) {
+            response.header(STALE_HEADER, "true");
+        }
+        return response.body(body.get());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String ifNoneMatch, String etag, long freshUntil) {
+        if (!ETags.matches(ifNoneMatch, etag)) return null;
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl(freshUntil))
+                .build();
+    }
 
+    // 로그인 사용자별 응답이라 private, 캐시가 fresh인 동안만 브라우저 캐시 허용 (이후엔 ETag로 재검증)
+    private static CacheControl cacheControl(long freshUntil) {
+        long remaining = Math.max(0, freshUntil - System.currentTimeMillis());
+        return CacheControl.maxAge(Duration.ofMillis(remaining)).cachePrivate();
     }
-}
\ No newline at end of file
+}
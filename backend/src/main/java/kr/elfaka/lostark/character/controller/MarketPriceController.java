@@ -0,0 +1,59 @@
+package kr.elfaka.lostark.character.controller;
+
+import kr.elfaka.lostark.character.dto.MarketItemDto;
+import kr.elfaka.lostark.character.dto.MarketPriceSeriesDto;
+import kr.elfaka.lostark.character.error.InvalidCharacterRequestException;
+import kr.elfaka.lostark.character.market.MarketPriceService;
+import kr.elfaka.lostark.character.market.PriceResolution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.character.market", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MarketPriceController {
+
+    private final MarketPriceService marketPriceService;
+
+    // 시세를 수집하는 아이템 목록과 마지막 가격
+    @GetMapping("/api/market/items")
+    public List<MarketItemDto> getItems() {
+        return marketPriceService.items();
+    }
+
+    // 시세 차트 (기본: 최근 7일, resolution 없으면 기간에 맞춰 minute/hour/day, upstream 호출 없음)
+    @GetMapping("/api/market/items/{itemKey}/prices")
+    public ResponseEntity<MarketPriceSeriesDto> getPrices(
+            @PathVariable("itemKey") String itemKey,
+            @RequestParam(name = "resolution", required = false) String resolution,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(Duration.ofDays(7)) : from;
+        if (start.isAfter(end)) {
+            throw new InvalidCharacterRequestException("from must not be after to");
+        }
+        MarketPriceSeriesDto series = marketPriceService.series(itemKey, resolution(resolution), start, end);
+        return series == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(series);
+    }
+
+    private static PriceResolution resolution(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return PriceResolution.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCharacterRequestException("unknown resolution: " + value + " (minute, hour, day)");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArkPassiveDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -12,6 +13,7 @@ public class ArkPassiveEffect {
     @JsonProperty("Description")
     private String description;  // 아크 패시브 효과 설명
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 아크 패시브 효과 아이콘 URL
 
@@ -1,20 +1,24 @@
 package kr.elfaka.lostark.character.dto.ArmoryAvatarDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
 public class ArmoryAvatar {
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 아바타 종류 (예: 무기 아바타, 상의 아바타 등)
 
     @JsonProperty("Name")
     private String name;  // 아바타 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 아바타 아이콘 URL
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 아바타 등급 (예: 전설, 영웅 등)
 
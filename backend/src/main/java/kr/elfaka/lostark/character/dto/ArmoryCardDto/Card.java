@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryCardDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -12,6 +13,7 @@ public class Card {
     @JsonProperty("Name")
     private String name;  // 카드 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 카드 아이콘 URL
 
@@ -21,6 +23,7 @@ public class Card {
     @JsonProperty("AwakeTotal")
     private int awakeTotal;  // 각성 총 합
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 카드 등급 (예: 전설)
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryEngravingDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -9,12 +10,14 @@ public class ArkPassiveEffect {
     @JsonProperty("AbilityStoneLevel")
     private Integer abilityStoneLevel;  // 각인 스톤 레벨 (nullable)
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 각인 등급 (예: 유물, 고대)
 
     @JsonProperty("Level")
     private int level;  // 각인 레벨
 
+    @Interned
     @JsonProperty("Name")
     private String name;  // 각인 이름 (예: 원한, 돌격대장)
 
@@ -1,14 +1,17 @@
 package kr.elfaka.lostark.character.dto.ArmoryEngravingDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
 public class Effect {
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 효과 아이콘 URL
 
+    @Interned
     @JsonProperty("Name")
     private String name;  // 효과 이름
 
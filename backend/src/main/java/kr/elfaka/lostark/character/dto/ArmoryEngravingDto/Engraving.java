@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryEngravingDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -9,9 +10,11 @@ public class Engraving {
     @JsonProperty("Slot")
     private int slot;  // 각인 슬롯 번호
 
+    @Interned
     @JsonProperty("Name")
     private String name;  // 각인 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 각인 아이콘 URL
 
@@ -1,20 +1,24 @@
 package kr.elfaka.lostark.character.dto.ArmoryEquipmentDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
 public class ArmoryEquipment {
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 장비 타입 (예: 무기, 투구, 상의 등)
 
     @JsonProperty("Name")
     private String name;  // 장비 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 장비 아이콘 URL
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 장비 등급 (예: 고대)
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryGemDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -12,12 +13,14 @@ public class Gem {
     @JsonProperty("Name")
     private String name;  // 보석 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 보석 아이콘 URL
 
     @JsonProperty("Level")
     private int level;  // 보석 레벨
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 보석 등급 (예: 전설)
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryGemDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 import java.util.List;
 
@@ -19,6 +20,7 @@ public class Skill {
     @JsonProperty("Option")
     private String option;  // 스킬 옵션
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 스킬 아이콘 URL
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmoryProfileDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 import java.util.List;
 
@@ -13,6 +14,7 @@ public class ArmoryProfile {
     @JsonProperty("ExpeditionLevel")
     private int expeditionLevel;  // 원정대 레벨
 
+    @Interned
     @JsonProperty("PvpGradeName")
     private String pvpGradeName;  // PVP 등급
 
@@ -25,6 +27,7 @@ public class ArmoryProfile {
     @JsonProperty("Title")
     private String title;  // 칭호
 
+    @Interned
     @JsonProperty("GuildMemberGrade")
     private String guildMemberGrade;  // 길드 내 등급 (예: 일반 길드원)
 
@@ -43,6 +46,7 @@ public class ArmoryProfile {
     @JsonProperty("Tendencies")
     private List<Tendency> tendencies;  // 성향 배열
 
+    @Interned
     @JsonProperty("ServerName")
     private String serverName;  // 서버 이름
 
@@ -52,6 +56,7 @@ public class ArmoryProfile {
     @JsonProperty("CharacterLevel")
     private int characterLevel;  // 캐릭터 레벨
 
+    @Interned
     @JsonProperty("CharacterClassName")
     private String characterClassName;  // 캐릭터 클래스 이름
 
@@ -1,12 +1,14 @@
 package kr.elfaka.lostark.character.dto.ArmoryProfileDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 import java.util.List;
 
 @Data
 public class Stat {
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 스탯 종류 (예: 치명, 특화 등)
 
@@ -1,11 +1,13 @@
 package kr.elfaka.lostark.character.dto.ArmoryProfileDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
 public class Tendency {
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 성향 종류 (예: 지성, 담력 등)
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmorySkillsDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 import java.util.List;
 
@@ -10,12 +11,14 @@ public class ArmorySkills {
     @JsonProperty("Name")
     private String name;  // 스킬 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 스킬 아이콘 URL
 
     @JsonProperty("Level")
     private int level;  // 스킬 레벨
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 스킬 타입 (예: 일반, 각성 등)
 
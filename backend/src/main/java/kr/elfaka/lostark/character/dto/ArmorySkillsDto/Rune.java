@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmorySkillsDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -9,9 +10,11 @@ public class Rune {
     @JsonProperty("Name")
     private String name;  // 룬 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 룬 아이콘 URL
 
+    @Interned
     @JsonProperty("Grade")
     private String grade;  // 룬 등급
 
@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ArmorySkillsDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -15,6 +16,7 @@ public class Tripod {
     @JsonProperty("Name")
     private String name;  // 트라이포드 이름
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 트라이포드 아이콘 URL
 
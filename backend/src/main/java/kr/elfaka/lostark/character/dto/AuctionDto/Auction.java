@@ -0,0 +1,22 @@
+package kr.elfaka.lostark.character.dto.AuctionDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class Auction {
+
+    @JsonProperty("PageNo")
+    private int pageNo;
+
+    @JsonProperty("PageSize")
+    private int pageSize;
+
+    @JsonProperty("TotalCount")
+    private int totalCount;
+
+    @JsonProperty("Items")
+    private List<AuctionItem> items;
+}
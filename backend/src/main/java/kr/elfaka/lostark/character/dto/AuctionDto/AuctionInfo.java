@@ -0,0 +1,35 @@
+package kr.elfaka.lostark.character.dto.AuctionDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class AuctionInfo {
+
+    @JsonProperty("StartPrice")
+    private long startPrice;  // 시작가
+
+    @JsonProperty("BuyPrice")
+    private Long buyPrice;  // 즉시 구매가 (없으면 null)
+
+    @JsonProperty("BidPrice")
+    private long bidPrice;  // 현재 입찰가
+
+    @JsonProperty("EndDate")
+    private String endDate;  // 경매 종료 시각
+
+    @JsonProperty("BidCount")
+    private int bidCount;  // 입찰 수
+
+    @JsonProperty("BidStartPrice")
+    private long bidStartPrice;  // 최소 입찰가
+
+    @JsonProperty("IsCompetitive")
+    private boolean isCompetitive;  // 경쟁 입찰 여부
+
+    @JsonProperty("TradeAllowCount")
+    private int tradeAllowCount;  // 남은 거래 가능 횟수
+
+    @JsonProperty("UpgradeLevel")
+    private Integer upgradeLevel;  // 강화 단계
+}
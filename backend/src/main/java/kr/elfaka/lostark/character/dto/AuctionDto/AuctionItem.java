@@ -0,0 +1,32 @@
+package kr.elfaka.lostark.character.dto.AuctionDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
+import lombok.Data;
+
+@Data
+public class AuctionItem {
+
+    @JsonProperty("Name")
+    private String name;  // 아이템 이름
+
+    @Interned
+    @JsonProperty("Grade")
+    private String grade;  // 등급
+
+    @JsonProperty("Tier")
+    private int tier;  // 티어
+
+    @JsonProperty("Level")
+    private Integer level;  // 아이템 레벨
+
+    @Interned
+    @JsonProperty("Icon")
+    private String icon;  // 아이콘 URL
+
+    @JsonProperty("GradeQuality")
+    private Integer gradeQuality;  // 품질
+
+    @JsonProperty("AuctionInfo")
+    private AuctionInfo auctionInfo;  // 입찰/즉시 구매 정보
+}
@@ -0,0 +1,48 @@
+package kr.elfaka.lostark.character.dto.AuctionDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 경매장 검색 조건 (POST /auctions/items, 값이 없는 조건은 보내지 않음)
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuctionSearchRequest {
+
+    @JsonProperty("ItemLevelMin")
+    private Integer itemLevelMin;
+
+    @JsonProperty("ItemLevelMax")
+    private Integer itemLevelMax;
+
+    @JsonProperty("ItemGradeQuality")
+    private Integer itemGradeQuality;
+
+    @JsonProperty("Sort")
+    private String sort;  // BASIC_PRICE / BUY_PRICE / EXPIREDATE / ITEM_GRADE / ITEM_LEVEL / ITEM_QUALITY
+
+    @JsonProperty("CategoryCode")
+    private Integer categoryCode;  // 예: 210000 (보석)
+
+    @JsonProperty("CharacterClass")
+    private String characterClass;
+
+    @JsonProperty("ItemTier")
+    private Integer itemTier;
+
+    @JsonProperty("ItemGrade")
+    private String itemGrade;
+
+    @JsonProperty("ItemName")
+    private String itemName;
+
+    @JsonProperty("PageNo")
+    private Integer pageNo;
+
+    @JsonProperty("SortCondition")
+    private String sortCondition;  // ASC / DESC
+}
@@ -0,0 +1,48 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 아머리 캐시 힙 사용량 리포트
+ *
+ * @param caches 캐시별 측정 결과
+ * @param intern 문자열 intern 풀 상태
+ */
+public record CacheFootprintDto(
+        List<Cache> caches,
+        Intern intern
+) {
+
+    /**
+     * L1 항목 일부(sampled)를 객체 그래프 단위로 측정한 결과
+     * - 같은 샘플 안에서 공유되는 객체(intern된 문자열 등)는 한 번만 센다.
+     *
+     * @param name          캐시 이름
+     * @param entries       현재 L1 항목 수
+     * @param sampled       측정한 항목 수
+     * @param sampledBytes  측정한 항목들의 총 힙 사용량 (bytes)
+     * @param bytesPerEntry 항목당 평균 (bytes, 측정 항목이 없으면 0)
+     */
+    public record Cache(
+            String name,
+            int entries,
+            int sampled,
+            long sampledBytes,
+            long bytesPerEntry
+    ) {}
+
+    /**
+     * @param enabled  intern 사용 여부
+     * @param size     풀에 들어 있는 문자열 수
+     * @param hits     기존 인스턴스를 재사용한 횟수
+     * @param misses   새로 풀에 넣은 횟수
+     * @param rejected max-length보다 길어서 intern하지 않은 횟수
+     */
+    public record Intern(
+            boolean enabled,
+            int size,
+            long hits,
+            long misses,
+            long rejected
+    ) {}
+}
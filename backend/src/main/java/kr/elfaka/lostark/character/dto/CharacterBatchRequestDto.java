@@ -0,0 +1,14 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 캐릭터 일괄 조회 요청
+ *
+ * @param names    조회할 캐릭터 이름 목록
+ * @param sections 섹션 필터 (예: "profiles,equipment", 없으면 전체)
+ */
+public record CharacterBatchRequestDto(
+        List<String> names,
+        String sections
+) {}
@@ -0,0 +1,36 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 캐릭터 일괄 조회 응답
+ * - 일부 캐릭터가 실패해도 성공한 결과는 results에, 실패한 이름은 errors에 담아 함께 반환
+ *
+ * @param results 조회 성공 결과 (요청 순서 유지)
+ * @param errors  이름별 실패 사유
+ */
+public record CharacterBatchResponseDto(
+        List<Result> results,
+        List<Error> errors
+) {
+
+    /**
+     * @param name   요청한 캐릭터 이름
+     * @param armory 조회 결과
+     */
+    public record Result(
+            String name,
+            ArmoryTotalDto armory
+    ) {}
+
+    /**
+     * @param name    요청한 캐릭터 이름
+     * @param code    NOT_FOUND / UPSTREAM_TIMEOUT / UPSTREAM_UNAVAILABLE / RATE_LIMITED / UPSTREAM_ERROR
+     * @param message 상세 메시지
+     */
+    public record Error(
+            String name,
+            String code,
+            String message
+    ) {}
+}
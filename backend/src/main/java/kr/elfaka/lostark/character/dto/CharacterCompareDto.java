@@ -0,0 +1,46 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 두 캐릭터 비교 결과 (/api/character/compare, 다른 값만 포함)
+ *
+ * - 섹션마다 같은 기준(key)끼리 맞춰서 항목(field)별로 비교하고, 값이 다른 것만 Change로 담는다.
+ * - 한쪽에만 있는 key는 반대쪽 값이 모두 null인 Change로 나온다.
+ *
+ * @param itemLevelDelta 평균 아이템 레벨 차이 (b - a, 한쪽이라도 모르면 null)
+ * @param equipment      장비 (key: 부위, 같은 부위가 여러 개면 "반지#2"처럼 순번)
+ * @param gems           보석 (key: 적용 스킬, field: damageLevel / damageGem / cooldownLevel / cooldownGem)
+ * @param engravings     각인 (key: 각인 이름, field: grade / level / abilityStoneLevel)
+ * @param stats          스탯 (key: 스탯 종류, field: value)
+ */
+public record CharacterCompareDto(
+        Side a,
+        Side b,
+        Double itemLevelDelta,
+        List<Change> equipment,
+        List<Change> gems,
+        List<Change> engravings,
+        List<Change> stats
+) {
+
+    public record Side(
+            String characterName,
+            String serverName,
+            String characterClassName,
+            String itemAvgLevel
+    ) {}
+
+    /**
+     * @param a     a 쪽 값 (없으면 null)
+     * @param b     b 쪽 값 (없으면 null)
+     * @param delta 양쪽 모두 숫자면 b - a, 아니면 null
+     */
+    public record Change(
+            String key,
+            String field,
+            String a,
+            String b,
+            Double delta
+    ) {}
+}
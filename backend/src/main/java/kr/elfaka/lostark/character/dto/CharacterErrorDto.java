@@ -0,0 +1,12 @@
+package kr.elfaka.lostark.character.dto;
+
+/**
+ * 캐릭터 API 에러 응답
+ *
+ * @param code    에러 코드 (예: UPSTREAM_TIMEOUT)
+ * @param message 상세 메시지
+ */
+public record CharacterErrorDto(
+        String code,
+        String message
+) {}
@@ -0,0 +1,29 @@
+package kr.elfaka.lostark.character.dto.CharacterSiblingDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
+import lombok.Data;
+
+@Data
+public class CharacterSibling {
+
+    @Interned
+    @JsonProperty("ServerName")
+    private String serverName;  // 서버 이름
+
+    @JsonProperty("CharacterName")
+    private String characterName;  // 캐릭터 이름
+
+    @JsonProperty("CharacterLevel")
+    private int characterLevel;  // 전투 레벨
+
+    @Interned
+    @JsonProperty("CharacterClassName")
+    private String characterClassName;  // 직업
+
+    @JsonProperty("ItemAvgLevel")
+    private String itemAvgLevel;  // 평균 아이템 레벨 (예: "1,620.83")
+
+    @JsonProperty("ItemMaxLevel")
+    private String itemMaxLevel;  // 최대 아이템 레벨
+}
@@ -0,0 +1,22 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 캐릭터 이름 자동완성 (이 서비스에서 조회에 성공한 캐릭터 기준)
+ *
+ * @param prefix      요청한 접두어
+ * @param suggestions 이름 순
+ */
+public record CharacterSuggestDto(
+        String prefix,
+        List<Suggestion> suggestions
+) {
+
+    public record Suggestion(
+            String characterName,
+            String serverName,
+            String characterClassName,
+            Double itemLevel
+    ) {}
+}
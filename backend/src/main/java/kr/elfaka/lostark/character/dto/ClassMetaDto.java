@@ -0,0 +1,36 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 직업별 세팅 분포 (이 서비스에서 조회된 캐릭터 기준, /api/character/meta/{className})
+ *
+ * - 각 항목의 share는 조건에 해당하는 캐릭터 수 대비 비율 (보석은 캐릭터당 여러 개라 1을 넘을 수 있음)
+ *
+ * @param minItemLevel 아이템 레벨 조건 (10 단위로 내림, 없으면 전체)
+ * @param characters   조건에 해당하는 캐릭터 수
+ * @param engravings   각인 (이름 / 등급+레벨)
+ * @param gems         보석 (종류 / 레벨)
+ * @param arkPassives  아크 패시브 노드 (노드 이름 / 레벨)
+ * @param cardSets     카드 세트 (마지막으로 활성화된 세트 효과)
+ */
+public record ClassMetaDto(
+        String characterClassName,
+        Integer minItemLevel,
+        long characters,
+        List<Entry> engravings,
+        List<Entry> gems,
+        List<Entry> arkPassives,
+        List<Entry> cardSets
+) {
+
+    /**
+     * @param variant 같은 이름 안에서의 구분 (레벨 등, 없으면 null)
+     */
+    public record Entry(
+            String name,
+            String variant,
+            long count,
+            double share
+    ) {}
+}
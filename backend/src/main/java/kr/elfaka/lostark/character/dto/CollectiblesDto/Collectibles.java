@@ -1,15 +1,18 @@
 package kr.elfaka.lostark.character.dto.CollectiblesDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 import java.util.List;
 
 @Data
 public class Collectibles {
 
+    @Interned
     @JsonProperty("Type")
     private String type;  // 수집 가능한 아이템의 종류 (예: '모코코 씨앗', '위대한 미술품')
 
+    @Interned
     @JsonProperty("Icon")
     private String icon;  // 아이콘 이미지 URL
 
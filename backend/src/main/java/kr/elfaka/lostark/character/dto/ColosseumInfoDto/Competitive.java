@@ -1,6 +1,7 @@
 package kr.elfaka.lostark.character.dto.ColosseumInfoDto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
 import lombok.Data;
 
 @Data
@@ -9,9 +10,11 @@ public class Competitive {
     @JsonProperty("Rank")
     private int rank;  // 랭크
 
+    @Interned
     @JsonProperty("RankName")
     private String rankName;  // 랭크 이름
 
+    @Interned
     @JsonProperty("RankIcon")
     private String rankIcon;  // 랭크 아이콘 URL
 
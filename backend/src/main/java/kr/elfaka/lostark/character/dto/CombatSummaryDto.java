@@ -0,0 +1,68 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아머리에서 한 번에 계산한 전투 관련 집계값 (/summary)
+ *
+ * - 프론트가 보석/각인/스탯/아크 패시브를 매 렌더마다 순회하며 더하지 않도록 서버에서 미리 계산한다.
+ * - 같은 아머리(ETag)에 대해서는 한 번만 계산해서 재사용한다.
+ *
+ * @param itemLevel        평균 아이템 레벨 (없으면 null)
+ * @param stats            프로필 스탯 합계
+ * @param gems             보석 효과 합계
+ * @param engravings       각인 (아크 패시브 각인 기준)
+ * @param arkPassivePoints 아크 패시브 포인트 (예: 진화 → 140)
+ */
+public record CombatSummaryDto(
+        String characterName,
+        String characterClassName,
+        Double itemLevel,
+        Stats stats,
+        Gems gems,
+        List<Engraving> engravings,
+        Map<String, Integer> arkPassivePoints
+) {
+
+    /**
+     * @param combat      전투 특성 (치명/특화/제압/신속/인내/숙련 → 수치)
+     * @param combatTotal 전투 특성 합계
+     * @param attackPower 공격력 (없으면 null)
+     * @param maxHp       최대 생명력 (없으면 null)
+     */
+    public record Stats(
+            Map<String, Integer> combat,
+            int combatTotal,
+            Integer attackPower,
+            Integer maxHp
+    ) {}
+
+    /**
+     * @param count           장착 보석 수
+     * @param averageLevel    평균 보석 레벨
+     * @param damagePercent   피해 증가 보석 수치 합계(%)
+     * @param cooldownPercent 재사용 대기시간 감소 보석 수치 합계(%)
+     * @param bySkill         스킬별 합계 (보석 슬롯 순서)
+     */
+    public record Gems(
+            int count,
+            double averageLevel,
+            double damagePercent,
+            double cooldownPercent,
+            List<SkillGems> bySkill
+    ) {}
+
+    public record SkillGems(
+            String skillName,
+            double damagePercent,
+            double cooldownPercent
+    ) {}
+
+    public record Engraving(
+            String name,
+            String grade,
+            int level,
+            Integer abilityStoneLevel
+    ) {}
+}
@@ -0,0 +1,14 @@
+package kr.elfaka.lostark.character.dto;
+
+/**
+ * 아이템 레벨 시계열 (값이 바뀐 시점만, 열 단위 배열)
+ *
+ * @param name       요청한 캐릭터 이름
+ * @param timestamps 측정 시각 (epoch millis, 오름차순)
+ * @param itemLevels 해당 시각부터의 평균 아이템 레벨
+ */
+public record ItemLevelSeriesDto(
+        String name,
+        long[] timestamps,
+        double[] itemLevels
+) {}
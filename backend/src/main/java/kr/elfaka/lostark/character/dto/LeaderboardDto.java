@@ -0,0 +1,25 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 아이템 레벨 순위 (이 서비스에서 조회된 캐릭터 기준)
+ *
+ * @param serverName         서버 조건 (없으면 전체)
+ * @param characterClassName 직업 조건 (없으면 전체)
+ * @param total              조건에 해당하는 캐릭터 수
+ * @param entries            1위부터
+ */
+public record LeaderboardDto(
+        String serverName,
+        String characterClassName,
+        long total,
+        List<Entry> entries
+) {
+
+    public record Entry(
+            long rank,
+            String characterName,
+            double itemLevel
+    ) {}
+}
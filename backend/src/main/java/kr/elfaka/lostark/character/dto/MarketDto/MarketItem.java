@@ -0,0 +1,38 @@
+package kr.elfaka.lostark.character.dto.MarketDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.elfaka.lostark.character.support.Interned;
+import lombok.Data;
+
+@Data
+public class MarketItem {
+
+    @JsonProperty("Id")
+    private long id;  // 거래소 아이템 ID
+
+    @JsonProperty("Name")
+    private String name;  // 아이템 이름
+
+    @Interned
+    @JsonProperty("Grade")
+    private String grade;  // 등급
+
+    @Interned
+    @JsonProperty("Icon")
+    private String icon;  // 아이콘 URL
+
+    @JsonProperty("BundleCount")
+    private int bundleCount;  // 묶음 단위 (가격은 묶음 기준)
+
+    @JsonProperty("TradeRemainCount")
+    private Integer tradeRemainCount;  // 남은 거래 가능 횟수
+
+    @JsonProperty("YDayAvgPrice")
+    private double yDayAvgPrice;  // 전일 평균 거래가
+
+    @JsonProperty("RecentPrice")
+    private double recentPrice;  // 최근 거래가
+
+    @JsonProperty("CurrentMinPrice")
+    private double currentMinPrice;  // 현재 최저가
+}
@@ -0,0 +1,39 @@
+package kr.elfaka.lostark.character.dto.MarketDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 거래소 검색 조건 (POST /markets/items, 값이 없는 조건은 보내지 않음)
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MarketSearchRequest {
+
+    @JsonProperty("Sort")
+    private String sort;  // GRADE / YDAY_AVG_PRICE / RECENT_PRICE / CURRENT_MIN_PRICE
+
+    @JsonProperty("CategoryCode")
+    private Integer categoryCode;  // 예: 40000 (각인서), 50000 (강화 재료)
+
+    @JsonProperty("CharacterClass")
+    private String characterClass;
+
+    @JsonProperty("ItemTier")
+    private Integer itemTier;
+
+    @JsonProperty("ItemGrade")
+    private String itemGrade;
+
+    @JsonProperty("ItemName")
+    private String itemName;
+
+    @JsonProperty("PageNo")
+    private Integer pageNo;
+
+    @JsonProperty("SortCondition")
+    private String sortCondition;  // ASC / DESC
+}
@@ -0,0 +1,17 @@
+package kr.elfaka.lostark.character.dto;
+
+/**
+ * 시세를 수집하는 아이템
+ *
+ * @param key       차트 조회용 키 (/api/market/items/{key}/prices)
+ * @param source    MARKET(거래소) / AUCTION(경매장)
+ * @param lastPrice 이 인스턴스가 마지막으로 수집한 가격 (재시작 후 아직 수집 전이면 null)
+ * @param sampledAt 마지막 가격이 속한 분 (epoch millis, 없으면 null)
+ */
+public record MarketItemDto(
+        String key,
+        String itemName,
+        String source,
+        Double lastPrice,
+        Long sampledAt
+) {}
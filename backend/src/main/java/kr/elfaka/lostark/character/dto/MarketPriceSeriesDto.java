@@ -0,0 +1,24 @@
+package kr.elfaka.lostark.character.dto;
+
+/**
+ * 아이템 시세 차트 (버킷 단위, 열 단위 배열, 샘플이 없던 버킷은 빠짐)
+ *
+ * @param resolution 버킷 단위 (MINUTE / HOUR / DAY)
+ * @param timestamps 버킷 시작 시각 (epoch millis, 오름차순)
+ * @param min        버킷 내 최저가
+ * @param max        버킷 내 최고가
+ * @param avg        버킷 내 평균가
+ * @param last       버킷 내 마지막 가격
+ * @param samples    버킷 내 샘플 수
+ */
+public record MarketPriceSeriesDto(
+        String itemKey,
+        String itemName,
+        String resolution,
+        long[] timestamps,
+        double[] min,
+        double[] max,
+        double[] avg,
+        double[] last,
+        int[] samples
+) {}
@@ -0,0 +1,16 @@
+package kr.elfaka.lostark.character.dto;
+
+/**
+ * LostArk API 원본 응답 바이트 (gzip 압축 상태로 보관)
+ *
+ * - 객체 그래프를 만들지 않고 그대로 전달/캐시하기 위한 값
+ *
+ * @param gzipped   gzip 압축된 원본 JSON
+ * @param rawLength 압축 전 크기 (bytes)
+ * @param etag      압축 전 원본 바이트의 내용 해시 (weak ETag)
+ */
+public record RawArmoryDto(
+        byte[] gzipped,
+        int rawLength,
+        String etag
+) {}
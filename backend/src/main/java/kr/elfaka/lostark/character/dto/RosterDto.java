@@ -0,0 +1,27 @@
+package kr.elfaka.lostark.character.dto;
+
+import java.util.List;
+
+/**
+ * 원정대(같은 계정) 캐릭터 목록 (/siblings)
+ *
+ * @param rosterId 구성 캐릭터로 만든 식별자 (캐릭터가 추가/삭제되면 바뀜)
+ * @param members  아이템 레벨 내림차순
+ */
+public record RosterDto(
+        String rosterId,
+        List<Member> members
+) {
+
+    /**
+     * @param itemLevel 평균 아이템 레벨 (숫자, 파싱할 수 없으면 null)
+     */
+    public record Member(
+            String serverName,
+            String characterName,
+            int characterLevel,
+            String characterClassName,
+            String itemAvgLevel,
+            Double itemLevel
+    ) {}
+}
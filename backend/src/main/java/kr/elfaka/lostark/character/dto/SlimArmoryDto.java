@@ -0,0 +1,112 @@
+package kr.elfaka.lostark.character.dto;
+
+import kr.elfaka.lostark.character.dto.TooltipDto.EquipmentTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.SkillTooltip;
+
+import java.util.List;
+
+/**
+ * 원본 툴팁(HTML/JSON 문자열)을 빼고, 서버에서 파싱한 값만 담은 경량 아머리 응답
+ *
+ * - 프론트가 매 렌더마다 툴팁을 다시 파싱하지 않도록 필요한 값만 구조화해서 내려준다.
+ * - 아바타/수집형 포인트/PVP처럼 툴팁 위주의 섹션은 포함하지 않는다.
+ */
+public record SlimArmoryDto(
+        Profile profile,
+        List<Equipment> equipment,
+        List<Gem> gems,
+        List<Skill> skills,
+        List<Card> cards,
+        List<CardSet> cardSets,
+        List<Engraving> engravings,
+        List<ArkPassiveNode> arkPassive
+) {
+
+    public record Profile(
+            String characterName,
+            String serverName,
+            String characterClassName,
+            int characterLevel,
+            String itemAvgLevel,
+            int expeditionLevel,
+            String guildName,
+            String title,
+            String characterImage,
+            List<Stat> stats
+    ) {}
+
+    public record Stat(
+            String type,
+            String value
+    ) {}
+
+    public record Equipment(
+            String type,
+            String name,
+            String icon,
+            String grade,
+            EquipmentTooltip detail
+    ) {}
+
+    public record Gem(
+            int slot,
+            String name,
+            String icon,
+            int level,
+            String grade,
+            GemTooltip detail
+    ) {}
+
+    public record Skill(
+            String name,
+            String icon,
+            int level,
+            String type,
+            List<Tripod> tripods,
+            String runeName,
+            String runeGrade,
+            SkillTooltip detail
+    ) {}
+
+    /**
+     * 선택된 트라이포드만 포함
+     */
+    public record Tripod(
+            int tier,
+            int slot,
+            String name,
+            int level
+    ) {}
+
+    public record Card(
+            int slot,
+            String name,
+            String icon,
+            String grade,
+            int awakeCount,
+            int awakeTotal
+    ) {}
+
+    /**
+     * @param name        세트 효과 이름 (예: "세상을 구하는 빛 6세트 (30각성합계)")
+     * @param description 효과 설명 (HTML 제거)
+     */
+    public record CardSet(
+            String name,
+            String description
+    ) {}
+
+    public record Engraving(
+            String name,
+            String grade,
+            int level,
+            Integer abilityStoneLevel,
+            String description
+    ) {}
+
+    public record ArkPassiveNode(
+            String name,
+            String description
+    ) {}
+}
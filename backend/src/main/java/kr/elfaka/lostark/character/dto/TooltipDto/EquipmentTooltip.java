@@ -0,0 +1,25 @@
+package kr.elfaka.lostark.character.dto.TooltipDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장비 툴팁 파싱 결과
+ *
+ * @param upgradeLevel      강화 수치 (예: +20 → 20, 없으면 0)
+ * @param quality           품질 (0~100, 없으면 -1)
+ * @param itemLevel         아이템 레벨 (예: 1680.0, 없으면 null)
+ * @param tier              아이템 티어 (없으면 0)
+ * @param baseEffects       기본 효과 줄 목록 (예: "힘 +50000")
+ * @param additionalEffects 추가 효과 줄 목록
+ * @param effects           그 외 효과 블록 (제목 → 줄 목록, 예: 세트 효과/엘릭서/초월/팔찌)
+ */
+public record EquipmentTooltip(
+        int upgradeLevel,
+        int quality,
+        Double itemLevel,
+        int tier,
+        List<String> baseEffects,
+        List<String> additionalEffects,
+        Map<String, List<String>> effects
+) {}
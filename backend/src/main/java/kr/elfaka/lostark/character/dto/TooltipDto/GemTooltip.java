@@ -0,0 +1,16 @@
+package kr.elfaka.lostark.character.dto.TooltipDto;
+
+/**
+ * 보석 툴팁 파싱 결과
+ *
+ * @param skillName 적용 스킬 이름
+ * @param type      DAMAGE(피해 증가) / COOLDOWN(재사용 대기시간 감소) / UNKNOWN
+ * @param value     효과 수치(%)
+ * @param effect    효과 원문 (HTML 제거)
+ */
+public record GemTooltip(
+        String skillName,
+        String type,
+        double value,
+        String effect
+) {}
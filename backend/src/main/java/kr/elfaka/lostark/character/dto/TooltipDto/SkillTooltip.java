@@ -0,0 +1,10 @@
+package kr.elfaka.lostark.character.dto.TooltipDto;
+
+/**
+ * 스킬 툴팁 파싱 결과
+ *
+ * @param cooldownSeconds 재사용 대기시간(초, 없으면 null)
+ */
+public record SkillTooltip(
+        Double cooldownSeconds
+) {}
@@ -0,0 +1,69 @@
+package kr.elfaka.lostark.character.error;
+
+import feign.FeignException;
+import feign.RetryableException;
+import kr.elfaka.lostark.character.dto.CharacterErrorDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice(basePackages = "kr.elfaka.lostark.character")
+public class CharacterExceptionHandler {
+
+    @ExceptionHandler(UpstreamTimeoutException.class)
+    public ResponseEntity<CharacterErrorDto> handleUpstreamTimeout(UpstreamTimeoutException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new CharacterErrorDto("UPSTREAM_TIMEOUT", e.getMessage()));
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<CharacterErrorDto> handleUpstreamUnavailable(UpstreamUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(new CharacterErrorDto("UPSTREAM_UNAVAILABLE", e.getMessage()));
+    }
+
+    @ExceptionHandler(UpstreamRateLimitedException.class)
+    public ResponseEntity<CharacterErrorDto> handleRateLimited(UpstreamRateLimitedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(new CharacterErrorDto("RATE_LIMITED", e.getMessage()));
+    }
+
+    /**
+     * Feign 예외가 그대로 500으로 나가지 않도록 상태별로 변환
+     * - 429: upstream 쿼터 초과 (재시도 후에도 실패)
+     * - 상태 없는 RetryableException: 연결/읽기 타임아웃 등 I/O 실패
+     * - 그 외: upstream 오류 (502)
+     */
+    @ExceptionHandler(FeignException.class)
+    public ResponseEntity<CharacterErrorDto> handleFeign(FeignException e) {
+        if (e.status() == 429) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new CharacterErrorDto("RATE_LIMITED", "LostArk API rate limited"));
+        }
+        if (e instanceof RetryableException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(new CharacterErrorDto("UPSTREAM_TIMEOUT", e.getMessage()));
+        }
+        log.warn("LostArk API call failed. status={}", e.status(), e);
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(new CharacterErrorDto("UPSTREAM_ERROR", "LostArk API error (status " + e.status() + ")"));
+    }
+
+    @ExceptionHandler(InvalidArmorySectionException.class)
+    public ResponseEntity<CharacterErrorDto> handleInvalidSection(InvalidArmorySectionException e) {
+        return ResponseEntity.badRequest()
+                .body(new CharacterErrorDto("INVALID_SECTION", e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCharacterRequestException.class)
+    public ResponseEntity<CharacterErrorDto> handleInvalidRequest(InvalidCharacterRequestException e) {
+        return ResponseEntity.badRequest()
+                .body(new CharacterErrorDto("INVALID_REQUEST", e.getMessage()));
+    }
+}
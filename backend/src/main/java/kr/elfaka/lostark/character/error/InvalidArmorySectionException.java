@@ -0,0 +1,11 @@
+package kr.elfaka.lostark.character.error;
+
+/**
+ * sections 파라미터에 알 수 없는 섹션 이름이 들어왔을 때 (→ 400)
+ */
+public class InvalidArmorySectionException extends RuntimeException {
+
+    public InvalidArmorySectionException(String section) {
+        super("unknown armory section: " + section);
+    }
+}
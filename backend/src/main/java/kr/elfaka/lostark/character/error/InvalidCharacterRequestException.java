@@ -0,0 +1,11 @@
+package kr.elfaka.lostark.character.error;
+
+/**
+ * 캐릭터 API 요청 파라미터가 잘못되었을 때 (→ 400)
+ */
+public class InvalidCharacterRequestException extends RuntimeException {
+
+    public InvalidCharacterRequestException(String message) {
+        super(message);
+    }
+}
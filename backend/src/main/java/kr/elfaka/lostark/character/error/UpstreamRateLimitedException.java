@@ -0,0 +1,20 @@
+package kr.elfaka.lostark.character.error;
+
+import java.time.Duration;
+
+/**
+ * LostArk API 쿼터를 제한 시간 안에 확보하지 못했을 때 (→ 429)
+ */
+public class UpstreamRateLimitedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
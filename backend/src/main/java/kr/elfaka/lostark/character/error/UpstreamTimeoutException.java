@@ -0,0 +1,15 @@
+package kr.elfaka.lostark.character.error;
+
+/**
+ * LostArk API 응답을 제한 시간 안에 받지 못했을 때 (→ 504)
+ */
+public class UpstreamTimeoutException extends RuntimeException {
+
+    public UpstreamTimeoutException(String message) {
+        super(message);
+    }
+
+    public UpstreamTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package kr.elfaka.lostark.character.error;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커가 열려 있어 LostArk API를 호출하지 않았을 때 (→ 503, 캐시된 값이 없을 때만)
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.elfaka.lostark.character.feign;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 역직렬화 가속 모듈 선택 (app.character.jackson.accelerator)
+ *
+ * - none(기본) / blackbird / afterburner
+ * - Module 빈은 Spring Boot가 공유 ObjectMapper에 등록하므로 Feign 디코더(아머리는 LazyArmoryReader의 섹션 디코딩),
+ *   L2 캐시 코덱, 툴팁 파서가 모두 같은 설정을 쓴다.
+ * - 기본값이 none인 이유: 실제 응답(/raw로 받아 둔 fixture)으로 ArmoryDecodeBenchmark를 돌린 결과가 아직 없다.
+ *   합성 fixture 수치로 고르지 않고, 측정 전까지는 동작을 바꾸지 않는다.
+ *   (아머리 응답은 LazyArmoryReader가 섹션 위치만 기록하므로, 가속 모듈의 효과는 섹션을 읽을 때만 나타남)
+ */
+@Configuration
+public class JacksonAcceleratorConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.character.jackson", name = "accelerator", havingValue = "blackbird")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.character.jackson", name = "accelerator", havingValue = "afterburner")
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+}
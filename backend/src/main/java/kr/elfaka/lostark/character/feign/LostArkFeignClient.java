@@ -1,15 +1,56 @@
 package kr.elfaka.lostark.character.feign;
 
 import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.AuctionDto.Auction;
+import kr.elfaka.lostark.character.dto.AuctionDto.AuctionSearchRequest;
+import kr.elfaka.lostark.character.dto.CharacterSiblingDto.CharacterSibling;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketList;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketSearchRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "open-api")
+import java.util.List;
+
+@FeignClient(name = "open-api", configuration = LostArkFeignConfig.class)
 public interface LostArkFeignClient {
     // Feign 메서드 정의
     @GetMapping("/armories/characters/{characterName}")
     ArmoryTotalDto getCharacterInfo(
             @PathVariable("characterName") String characterName // 경로 변수 매핑
     );
+
+    // 필요한 섹션만 조회 (filters 예: "profiles+equipment")
+    @GetMapping("/armories/characters/{characterName}")
+    ArmoryTotalDto getCharacterSections(
+            @PathVariable("characterName") String characterName,
+            @RequestParam("filters") String filters
+    );
+
+    // 원본 응답 바이트 그대로 조회 (역직렬화 없이 pass-through)
+    @GetMapping("/armories/characters/{characterName}")
+    byte[] getCharacterRaw(
+            @PathVariable("characterName") String characterName
+    );
+
+    // 같은 계정(원정대)의 모든 캐릭터 (존재하지 않는 캐릭터면 null)
+    @GetMapping("/characters/{characterName}/siblings")
+    List<CharacterSibling> getSiblings(
+            @PathVariable("characterName") String characterName
+    );
+
+    // 거래소 검색 (각인서/재료 등 묶음 단위 시세)
+    @PostMapping("/markets/items")
+    MarketList searchMarketItems(
+            @RequestBody MarketSearchRequest request
+    );
+
+    // 경매장 검색 (보석 등 개별 매물)
+    @PostMapping("/auctions/items")
+    Auction searchAuctionItems(
+            @RequestBody AuctionSearchRequest request
+    );
 }
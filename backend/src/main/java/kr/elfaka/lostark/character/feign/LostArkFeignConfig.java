@@ -0,0 +1,97 @@
+package kr.elfaka.lostark.character.feign;
+
+import feign.RequestInterceptor;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import feign.optionals.OptionalDecoder;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.lazy.LazyArmoryReader;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * open-api Feign 클라이언트 전용 설정
+ *
+ * - @Configuration을 붙이지 않는다. (붙이면 모든 Feign 클라이언트에 전역 적용됨)
+ * - 요청 전: LostArkRateLimiter 토큰 획득
+ * - 정상 응답: rate limit 헤더 반영 후 기본 디코더(SpringDecoder)로 위임
+ *   (아머리 응답은 LazyArmoryReader가 있으면 섹션을 필요할 때 읽는 LazyArmoryTotalDto로)
+ * - 429 응답: 백오프 반영 후 RetryableException → RateLimitRetryer가 한 번만 재시도
+ */
+public class LostArkFeignConfig {
+
+    @Bean
+    public RequestInterceptor rateLimitRequestInterceptor(LostArkRateLimiter rateLimiter) {
+        return template -> rateLimiter.acquire();
+    }
+
+    @Bean
+    public Decoder rateLimitHeaderDecoder(LostArkRateLimiter rateLimiter,
+                                          ObjectFactory<HttpMessageConverters> messageConverters,
+                                          ObjectProvider<HttpMessageConverterCustomizer> customizers,
+                                          ObjectProvider<LazyArmoryReader> lazyArmoryReader) {
+        // FeignClientsConfiguration의 기본 디코더 구성과 동일
+        Decoder delegate = new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters, customizers)));
+        LazyArmoryReader lazy = lazyArmoryReader.getIfAvailable();
+        return (response, type) -> {
+            rateLimiter.onResponse(response.headers());
+            if (lazy != null && type == ArmoryTotalDto.class) {
+                return response.body() == null ? null : lazy.read(Util.toByteArray(response.body().asInputStream()));
+            }
+            return delegate.decode(response, type);
+        };
+    }
+
+    @Bean
+    public ErrorDecoder rateLimitErrorDecoder(LostArkRateLimiter rateLimiter) {
+        ErrorDecoder delegate = new ErrorDecoder.Default();
+        return (methodKey, response) -> {
+            if (response.status() == 429) {
+                rateLimiter.onRateLimited(response.headers());
+                return new RetryableException(
+                        429,
+                        "LostArk API rate limited",
+                        response.request().httpMethod(),
+                        (Long) null,
+                        response.request()
+                );
+            }
+            return delegate.decode(methodKey, response);
+        };
+    }
+
+    @Bean
+    public Retryer rateLimitRetryer() {
+        return new RateLimitRetryer();
+    }
+
+    /**
+     * 429에 한해 한 번만 재시도 (재시도 시 RequestInterceptor에서 백오프가 반영된 버킷을 다시 기다림)
+     * - 연결 실패 등 다른 RetryableException은 재시도하지 않는다.
+     */
+    static class RateLimitRetryer implements Retryer {
+
+        private int attempts;
+
+        @Override
+        public void continueOrPropagate(RetryableException e) {
+            if (e.status() != 429 || attempts++ >= 1) {
+                throw e;
+            }
+        }
+
+        @Override
+        public Retryer clone() {
+            return new RateLimitRetryer();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package kr.elfaka.lostark.character.lazy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * upstream 아머리 응답 바이트 → LazyArmoryTotalDto
+ *
+ * - 처음 읽을 때 최상위 필드만 훑어서 섹션별 위치(바이트 오프셋)를 기록한다. (하위 값은 토큰만 건너뜀)
+ * - 섹션 값은 LazyArmoryTotalDto의 getter가 처음 불릴 때 섹션 타입의 ObjectReader로 그 구간만 읽는다.
+ *   (공유 ObjectMapper에서 만들므로 @Interned, FAIL_ON_UNKNOWN_PROPERTIES, 가속 모듈 설정이 그대로 적용)
+ * - 최상위가 객체가 아니거나 섹션 값이 객체/배열/null이 아니면 기존처럼 한 번에 역직렬화한다.
+ * - app.character.lazy.enabled=false면 빈을 만들지 않고 Feign 디코더가 기존 경로(SpringDecoder)를 쓴다.
+ *
+ * [메트릭]
+ * - armory.lazy.decode{section} : 섹션을 객체로 만든 횟수 (조회 수 대비 낮을수록 효과가 큼)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.character.lazy", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LazyArmoryReader {
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final ObjectReader[] readers = new ObjectReader[ArmorySection.values().length];
+    private final Counter[] decodes = new Counter[ArmorySection.values().length];
+    // ArmoryTotalDto를 그대로 직렬화했을 때의 필드 순서
+    private final List<ArmorySection> order;
+
+    public LazyArmoryReader(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+
+        List<ArmorySection> order = new ArrayList<>();
+        for (BeanPropertyDefinition property : objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(ArmoryTotalDto.class)).findProperties()) {
+            ArmorySection section = ArmorySection.fromJsonName(property.getName());
+            if (section == null) continue;
+            order.add(section);
+            readers[section.ordinal()] = objectMapper.readerFor(property.getPrimaryType());
+            decodes[section.ordinal()] = Counter.builder("armory.lazy.decode")
+                    .tag("section", section.filter())
+                    .register(meterRegistry);
+        }
+        if (order.size() != ArmorySection.values().length) {
+            throw new IllegalStateException("ArmoryTotalDto properties do not match ArmorySection: " + order);
+        }
+        this.order = List.copyOf(order);
+    }
+
+    /**
+     * @return 본문이 비었거나 null(존재하지 않는 캐릭터)이면 null
+     */
+    public ArmoryTotalDto read(byte[] json) throws IOException {
+        int[] start = new int[ArmorySection.values().length];
+        int[] end = new int[start.length];
+        Arrays.fill(start, -1);
+        Arrays.fill(end, -1);
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) return null;
+            if (token != JsonToken.START_OBJECT) return eager(json);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                ArmorySection section = ArmorySection.fromJsonName(parser.currentName());
+                JsonToken value = parser.nextToken();
+                int from = (int) parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+                if (section == null || value == JsonToken.VALUE_NULL) continue;
+                if (value != JsonToken.START_OBJECT && value != JsonToken.START_ARRAY) return eager(json);
+                start[section.ordinal()] = from;
+                end[section.ordinal()] = (int) parser.currentLocation().getByteOffset();
+            }
+        }
+        return new LazyArmoryTotalDto(this, json, start, end);
+    }
+
+    Object decode(ArmorySection section, byte[] source, int start, int end) {
+        try {
+            Object value = readers[section.ordinal()].readValue(source, start, end - start);
+            decodes[section.ordinal()].increment();
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException("armory section decode failed. section=" + section.filter(), e);
+        }
+    }
+
+    List<ArmorySection> order() {
+        return order;
+    }
+
+    JsonFactory jsonFactory() {
+        return jsonFactory;
+    }
+
+    private ArmoryTotalDto eager(byte[] json) throws IOException {
+        return objectMapper.readValue(json, ArmoryTotalDto.class);
+    }
+}
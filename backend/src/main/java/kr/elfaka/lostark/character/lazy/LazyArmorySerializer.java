@@ -0,0 +1,90 @@
+package kr.elfaka.lostark.character.lazy;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.support.ArmorySection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LazyArmoryTotalDto 직렬화
+ *
+ * - 기본: ArmoryTotalDto의 bean 직렬화 (HTTP 응답, ?fields= 필터, 스냅샷이 eager DTO와 같은 결과를 내도록)
+ *   getter가 불리므로 응답한 인스턴스는 섹션이 디코딩된 상태로 남는다. (캐시 항목당 한 번)
+ * - ObjectWriter 속성 RAW_SECTIONS가 true일 때만(캐시 ETag, L2 저장) 섹션을 객체로 만들지 않고 원본 조각을 그대로 씀
+ *   - JSON 출력: 원본 조각을 raw 값으로 복사
+ *   - 그 외(Smile/CBOR L2 코덱): 원본 조각을 토큰 단위로 옮겨 씀 (copyCurrentStructure)
+ *   - 원본 조각이 없는 섹션(setter로 바꾼 값)은 객체 값을 일반 직렬화
+ *   원본 조각에는 DTO에 없는 upstream 필드도 그대로 들어 있다. (/raw와 같은 내용, 읽을 때 무시됨)
+ */
+class LazyArmorySerializer extends StdSerializer<LazyArmoryTotalDto> {
+
+    LazyArmorySerializer() {
+        super(LazyArmoryTotalDto.class);
+    }
+
+    @Override
+    public void serialize(LazyArmoryTotalDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!Boolean.TRUE.equals(provider.getAttribute(LazyArmoryTotalDto.RAW_SECTIONS))
+                || provider.getConfig().getFilterProvider() != null) {
+            provider.findValueSerializer(ArmoryTotalDto.class).serialize(value, gen, provider);
+            return;
+        }
+        boolean writeNulls = writeNulls(provider);
+
+        gen.writeStartObject(value);
+        for (ArmorySection section : value.reader().order()) {
+            if (value.hasRaw(section)) {
+                gen.writeFieldName(section.jsonName());
+                writeRaw(value, section, gen);
+                continue;
+            }
+            Object sectionValue = sectionValue(value, section);
+            if (sectionValue == null && !writeNulls) continue;
+            provider.defaultSerializeField(section.jsonName(), sectionValue, gen);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeRaw(LazyArmoryTotalDto value, ArmorySection section, JsonGenerator gen) throws IOException {
+        byte[] source = value.source();
+        int start = value.start(section);
+        int length = value.end(section) - start;
+        if (gen instanceof JsonGeneratorImpl) {
+            gen.writeRawValue(new String(source, start, length, StandardCharsets.UTF_8));
+            return;
+        }
+        try (JsonParser parser = value.reader().jsonFactory().createParser(source, start, length)) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    private static Object sectionValue(LazyArmoryTotalDto value, ArmorySection section) {
+        return switch (section) {
+            case PROFILES -> value.getArmoryProfile();
+            case EQUIPMENT -> value.getArmoryEquipment();
+            case AVATARS -> value.getArmoryAvatars();
+            case COMBAT_SKILLS -> value.getArmorySkills();
+            case ENGRAVINGS -> value.getArmoryEngraving();
+            case CARDS -> value.getArmoryCard();
+            case GEMS -> value.getArmoryGem();
+            case COLOSSEUMS -> value.getColosseumInfo();
+            case COLLECTIBLES -> value.getCollectibles();
+            case ARK_PASSIVE -> value.getArkPassive();
+        };
+    }
+
+    // 기본 bean 직렬화와 같은 null 처리 (spring.jackson.default-property-inclusion)
+    private static boolean writeNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig()
+                .getDefaultPropertyInclusion(ArmoryTotalDto.class).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
@@ -0,0 +1,280 @@
+package kr.elfaka.lostark.character.lazy;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArmoryAvatarDto.ArmoryAvatar;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.ArmoryCard;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryEquipmentDto.ArmoryEquipment;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmorySkillsDto.ArmorySkills;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CollectiblesDto.Collectibles;
+import kr.elfaka.lostark.character.dto.ColosseumInfoDto.ColosseumInfo;
+import kr.elfaka.lostark.character.support.ArmorySection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 섹션을 처음 읽을 때 역직렬화하는 ArmoryTotalDto (LazyArmoryReader가 upstream 원본 바이트로 생성)
+ *
+ * - 원본 바이트 하나 + 섹션별 위치만 들고 있다가, getter가 처음 불린 섹션만 객체로 만든다.
+ *   (프로필만 보는 호출이 스킬 트라이포드/룬, 카드 효과, 수집품까지 만들지 않도록)
+ * - 캐시 ETag/L2 저장용 직렬화(RAW_SECTIONS)는 LazyArmorySerializer가 원본 조각을 그대로 쓰므로 객체로 만들지 않는다.
+ *   응답/스냅샷 직렬화는 eager DTO와 같은 bean 직렬화라 섹션을 디코딩한다.
+ * - 원본 조각은 객체로 만든 뒤에도 직렬화용으로 남긴다. (상태와 관계없이 같은 바이트 → ETag가 바뀌지 않음)
+ *   setter로 값을 바꾼 섹션만 원본 조각을 버리고 객체 값을 쓴다.
+ * - 여러 스레드가 같은 캐시 값을 읽으므로 섹션 디코딩은 synchronized, 디코딩 여부는 volatile 비트로 확인
+ *
+ * equals/hashCode/toString(Lombok @Data)은 getter를 쓰므로 모든 섹션을 디코딩한다.
+ */
+@JsonSerialize(using = LazyArmorySerializer.class)
+public final class LazyArmoryTotalDto extends ArmoryTotalDto {
+
+    /**
+     * ObjectWriter 속성: Boolean.TRUE면 원본 조각을 그대로 직렬화 (캐시 ETag/L2 저장용, 응답에는 쓰지 않음)
+     */
+    public static final String RAW_SECTIONS = "lazyArmory.rawSections";
+
+    private final LazyArmoryReader reader;
+    private final byte[] source;
+    // 섹션 ordinal → 원본 안의 [start, end) (없으면 -1)
+    private final int[] start;
+    private final int[] end;
+    // 원본에 값이 있던 섹션
+    private final int present;
+
+    // 아직 디코딩하지 않은 섹션 (비트 = ordinal)
+    private volatile int pending;
+    // 원본 조각이 현재 값과 같은 섹션 (setter로 바꾸면 해제)
+    private volatile int raw;
+
+    LazyArmoryTotalDto(LazyArmoryReader reader, byte[] source, int[] start, int[] end) {
+        this.reader = reader;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        int present = 0;
+        for (ArmorySection section : ArmorySection.values()) {
+            if (start[section.ordinal()] >= 0) present |= bit(section);
+        }
+        this.present = present;
+        this.pending = present;
+        this.raw = present;
+    }
+
+    /**
+     * 같은 원본을 공유하면서 sections만 남긴 사본 (섹션별 캐시/섹션 응답용, 디코딩하지 않음)
+     * - 이미 디코딩된 섹션은 객체 값도 같이 넘긴다.
+     */
+    public synchronized LazyArmoryTotalDto select(Set<ArmorySection> sections) {
+        int[] s = new int[start.length];
+        int[] e = new int[end.length];
+        Arrays.fill(s, -1);
+        Arrays.fill(e, -1);
+        for (ArmorySection section : sections) {
+            if ((raw & bit(section)) == 0) continue;
+            s[section.ordinal()] = start[section.ordinal()];
+            e[section.ordinal()] = end[section.ordinal()];
+        }
+        LazyArmoryTotalDto copy = new LazyArmoryTotalDto(reader, source, s, e);
+        for (ArmorySection section : sections) {
+            // 원본 조각이 없는 섹션(바뀐 값, 응답에 없던 섹션)과 이미 디코딩된 섹션은 객체 값을 그대로 공유
+            if ((raw & bit(section)) == 0 || (pending & bit(section)) == 0) {
+                section.copy(this, copy);
+                if ((raw & bit(section)) != 0) copy.raw |= bit(section);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * 직렬화용 원본 조각 위치 (없거나 값이 바뀐 섹션이면 false)
+     */
+    boolean hasRaw(ArmorySection section) {
+        return (raw & bit(section)) != 0;
+    }
+
+    LazyArmoryReader reader() {
+        return reader;
+    }
+
+    byte[] source() {
+        return source;
+    }
+
+    int start(ArmorySection section) {
+        return start[section.ordinal()];
+    }
+
+    int end(ArmorySection section) {
+        return end[section.ordinal()];
+    }
+
+    /**
+     * 원본 조각에서 객체로 만든 섹션 수
+     */
+    public int decodedCount() {
+        return Integer.bitCount(present & ~pending);
+    }
+
+    private void ensure(ArmorySection section) {
+        if ((pending & bit(section)) == 0) return;
+        synchronized (this) {
+            if ((pending & bit(section)) == 0) return;
+            Object value = reader.decode(section, source, start[section.ordinal()], end[section.ordinal()]);
+            assign(section, value);
+            // 값을 넣은 뒤에 비트를 내려야 다른 스레드가 비트만 보고 null을 읽지 않음
+            pending &= ~bit(section);
+        }
+    }
+
+    // setter로 바꾼 섹션은 원본 조각을 더 이상 쓰지 않음
+    private synchronized void replaced(ArmorySection section) {
+        pending &= ~bit(section);
+        raw &= ~bit(section);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assign(ArmorySection section, Object value) {
+        switch (section) {
+            case PROFILES -> super.setArmoryProfile((ArmoryProfile) value);
+            case EQUIPMENT -> super.setArmoryEquipment((List<ArmoryEquipment>) value);
+            case AVATARS -> super.setArmoryAvatars((List<ArmoryAvatar>) value);
+            case COMBAT_SKILLS -> super.setArmorySkills((List<ArmorySkills>) value);
+            case ENGRAVINGS -> super.setArmoryEngraving((ArmoryEngraving) value);
+            case CARDS -> super.setArmoryCard((ArmoryCard) value);
+            case GEMS -> super.setArmoryGem((ArmoryGem) value);
+            case COLOSSEUMS -> super.setColosseumInfo((ColosseumInfo) value);
+            case COLLECTIBLES -> super.setCollectibles((List<Collectibles>) value);
+            case ARK_PASSIVE -> super.setArkPassive((ArkPassive) value);
+        }
+    }
+
+    private static int bit(ArmorySection section) {
+        return 1 << section.ordinal();
+    }
+
+    @Override
+    public ArkPassive getArkPassive() {
+        ensure(ArmorySection.ARK_PASSIVE);
+        return super.getArkPassive();
+    }
+
+    @Override
+    public void setArkPassive(ArkPassive arkPassive) {
+        replaced(ArmorySection.ARK_PASSIVE);
+        super.setArkPassive(arkPassive);
+    }
+
+    @Override
+    public List<ArmoryAvatar> getArmoryAvatars() {
+        ensure(ArmorySection.AVATARS);
+        return super.getArmoryAvatars();
+    }
+
+    @Override
+    public void setArmoryAvatars(List<ArmoryAvatar> armoryAvatars) {
+        replaced(ArmorySection.AVATARS);
+        super.setArmoryAvatars(armoryAvatars);
+    }
+
+    @Override
+    public ArmoryCard getArmoryCard() {
+        ensure(ArmorySection.CARDS);
+        return super.getArmoryCard();
+    }
+
+    @Override
+    public void setArmoryCard(ArmoryCard armoryCard) {
+        replaced(ArmorySection.CARDS);
+        super.setArmoryCard(armoryCard);
+    }
+
+    @Override
+    public ArmoryEngraving getArmoryEngraving() {
+        ensure(ArmorySection.ENGRAVINGS);
+        return super.getArmoryEngraving();
+    }
+
+    @Override
+    public void setArmoryEngraving(ArmoryEngraving armoryEngraving) {
+        replaced(ArmorySection.ENGRAVINGS);
+        super.setArmoryEngraving(armoryEngraving);
+    }
+
+    @Override
+    public List<ArmoryEquipment> getArmoryEquipment() {
+        ensure(ArmorySection.EQUIPMENT);
+        return super.getArmoryEquipment();
+    }
+
+    @Override
+    public void setArmoryEquipment(List<ArmoryEquipment> armoryEquipment) {
+        replaced(ArmorySection.EQUIPMENT);
+        super.setArmoryEquipment(armoryEquipment);
+    }
+
+    @Override
+    public ArmoryGem getArmoryGem() {
+        ensure(ArmorySection.GEMS);
+        return super.getArmoryGem();
+    }
+
+    @Override
+    public void setArmoryGem(ArmoryGem armoryGem) {
+        replaced(ArmorySection.GEMS);
+        super.setArmoryGem(armoryGem);
+    }
+
+    @Override
+    public ArmoryProfile getArmoryProfile() {
+        ensure(ArmorySection.PROFILES);
+        return super.getArmoryProfile();
+    }
+
+    @Override
+    public void setArmoryProfile(ArmoryProfile armoryProfile) {
+        replaced(ArmorySection.PROFILES);
+        super.setArmoryProfile(armoryProfile);
+    }
+
+    @Override
+    public List<ArmorySkills> getArmorySkills() {
+        ensure(ArmorySection.COMBAT_SKILLS);
+        return super.getArmorySkills();
+    }
+
+    @Override
+    public void setArmorySkills(List<ArmorySkills> armorySkills) {
+        replaced(ArmorySection.COMBAT_SKILLS);
+        super.setArmorySkills(armorySkills);
+    }
+
+    @Override
+    public List<Collectibles> getCollectibles() {
+        ensure(ArmorySection.COLLECTIBLES);
+        return super.getCollectibles();
+    }
+
+    @Override
+    public void setCollectibles(List<Collectibles> collectibles) {
+        replaced(ArmorySection.COLLECTIBLES);
+        super.setCollectibles(collectibles);
+    }
+
+    @Override
+    public ColosseumInfo getColosseumInfo() {
+        ensure(ArmorySection.COLOSSEUMS);
+        return super.getColosseumInfo();
+    }
+
+    @Override
+    public void setColosseumInfo(ColosseumInfo colosseumInfo) {
+        replaced(ArmorySection.COLOSSEUMS);
+        super.setColosseumInfo(colosseumInfo);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis가 없을 때 쓰는 in-process 순위표
+ *
+ * - 보드마다 RankedSkipList(순위) + HashMap(member → 점수)를 두고 보드 단위로 synchronized
+ * - 인스턴스마다 따로 쌓이므로 여러 인스턴스로 운영할 때는 Redis를 쓴다.
+ */
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<String, String> placements = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String board, String member, double score) {
+        boards.computeIfAbsent(board, k -> new Board()).put(member, score);
+    }
+
+    @Override
+    public void remove(String board, String member) {
+        Board b = boards.get(board);
+        if (b != null) b.remove(member);
+    }
+
+    @Override
+    public List<Ranked> top(String board, int limit) {
+        Board b = boards.get(board);
+        return b == null ? List.of() : b.top(limit);
+    }
+
+    @Override
+    public Ranked rank(String board, String member) {
+        Board b = boards.get(board);
+        return b == null ? null : b.rank(member);
+    }
+
+    @Override
+    public long size(String board) {
+        Board b = boards.get(board);
+        return b == null ? 0 : b.size();
+    }
+
+    @Override
+    public String lowest(String board) {
+        Board b = boards.get(board);
+        return b == null ? null : b.lowest();
+    }
+
+    @Override
+    public String swapPlacement(String member, String placement) {
+        return placements.put(member, placement);
+    }
+
+    @Override
+    public String removePlacement(String member) {
+        return placements.remove(member);
+    }
+
+    private static final class Board {
+
+        private final RankedSkipList list = new RankedSkipList();
+        private final Map<String, Double> scores = new HashMap<>();
+
+        synchronized void put(String member, double score) {
+            Double previous = scores.put(member, score);
+            if (previous != null) {
+                if (previous == score) return;
+                list.delete(member, previous);
+            }
+            list.insert(member, score);
+        }
+
+        synchronized void remove(String member) {
+            Double previous = scores.remove(member);
+            if (previous != null) list.delete(member, previous);
+        }
+
+        synchronized List<Ranked> top(int limit) {
+            return list.range(1, limit);
+        }
+
+        synchronized Ranked rank(String member) {
+            Double score = scores.get(member);
+            if (score == null) return null;
+            return new Ranked(list.rank(member, score), member, score);
+        }
+
+        synchronized int size() {
+            return list.size();
+        }
+
+        synchronized String lowest() {
+            return list.last();
+        }
+    }
+}
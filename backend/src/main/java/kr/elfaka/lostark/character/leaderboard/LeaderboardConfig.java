@@ -0,0 +1,26 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 순위표 저장소 선택
+ * - StringRedisTemplate 빈이 있고 redis-enabled=true면 Redis ZSET, 아니면 in-process skip list
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.character.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardConfig {
+
+    @Bean
+    public LeaderboardStore leaderboardStore(
+            @Value("${app.character.cache.redis-enabled:true}") boolean redisEnabled,
+            ObjectProvider<StringRedisTemplate> redisTemplate
+    ) {
+        StringRedisTemplate redis = redisEnabled ? redisTemplate.getIfAvailable() : null;
+        return redis == null ? new InMemoryLeaderboardStore() : new RedisLeaderboardStore(redis);
+    }
+}
@@ -0,0 +1,188 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.LeaderboardDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 서버/직업별 아이템 레벨 순위표
+ *
+ * [갱신]
+ * - upstream에서 아머리를 새로 가져올 때마다(ArmoryFetchedEvent) 프로필의 서버/직업/아이템 레벨을 큐에만 넣고,
+ *   flush-interval마다 모아서 저장소에 반영 (조회 요청/single-flight 안에서 Redis 왕복 없음)
+ * - 같은 flush 안에서 같은 캐릭터가 여러 번 들어오면 마지막 값만 반영
+ * - 한 캐릭터는 4개 보드에 들어간다: 전체 / 서버 / 직업 / 서버+직업
+ * - 서버 이동 등으로 서버가 바뀌면 이전 서버 보드에서 지운다. (placement)
+ * - 전체 보드가 max-members를 넘으면 점수가 가장 낮은 캐릭터부터 모든 보드에서 지운다.
+ *
+ * [조회]
+ * - top-K / 캐릭터 순위 모두 LeaderboardStore에서 O(log n) (스캔 없음)
+ * - member는 upstream 프로필의 캐릭터 이름 그대로
+ *
+ * [메트릭]
+ * - armory.leaderboard.dropped : 큐가 가득 차서 버린 갱신 수
+ * - armory.leaderboard.queue : 반영 대기 중인 갱신 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.character.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardService {
+
+    private static final String ALL = "all";
+    private static final String SEPARATOR = "|";
+
+    private final LeaderboardStore store;
+    private final long maxMembers;
+    private final BlockingQueue<Update> queue;
+    private final int flushBatchSize;
+    private final Counter dropped;
+
+    public LeaderboardService(LeaderboardStore store,
+                              @Value("${app.character.leaderboard.max-members:200000}") long maxMembers,
+                              @Value("${app.character.leaderboard.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.character.leaderboard.flush-batch-size:500}") int flushBatchSize,
+                              MeterRegistry meterRegistry) {
+        this.store = store;
+        this.maxMembers = maxMembers;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushBatchSize = flushBatchSize;
+        this.dropped = Counter.builder("armory.leaderboard.dropped").register(meterRegistry);
+        Gauge.builder("armory.leaderboard.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @EventListener
+    public void onArmoryFetched(ArmoryFetchedEvent event) {
+        ArmoryProfile profile = event.armory().getArmoryProfile();
+        if (profile == null) return;
+        Double itemLevel = ItemLevels.parse(profile.getItemAvgLevel());
+        if (itemLevel == null || profile.getServerName() == null || profile.getCharacterClassName() == null) return;
+
+        String member = profile.getCharacterName() == null ? event.characterName() : profile.getCharacterName();
+        String placement = profile.getServerName() + SEPARATOR + profile.getCharacterClassName();
+        // 순위표는 부가 기능이라 큐가 가득 차면 버리고 조회 흐름은 막지 않음
+        if (!queue.offer(new Update(member, placement, itemLevel))) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.leaderboard.flush-interval:2s}")
+    public void flush() {
+        List<Update> drained = new ArrayList<>();
+        while (queue.drainTo(drained, flushBatchSize) > 0) {
+            Map<String, Update> latest = new LinkedHashMap<>();
+            for (Update update : drained) {
+                latest.put(update.member(), update);
+            }
+            for (Update update : latest.values()) {
+                try {
+                    update(update);
+                } catch (RuntimeException e) {
+                    log.warn("leaderboard update failed. name={}", update.member(), e);
+                }
+            }
+            try {
+                trim();
+            } catch (RuntimeException e) {
+                log.warn("leaderboard trim failed.", e);
+            }
+            drained.clear();
+        }
+    }
+
+    private void update(Update update) {
+        String previous = store.swapPlacement(update.member(), update.placement());
+        if (previous != null && !previous.equals(update.placement())) {
+            for (String board : boards(previous)) {
+                store.remove(board, update.member());
+            }
+        }
+        for (String board : boards(update.placement())) {
+            store.put(board, update.member(), update.itemLevel());
+        }
+    }
+
+    /**
+     * @param serverName 없으면 전체 서버
+     * @param className  없으면 전체 직업
+     */
+    public LeaderboardDto top(String serverName, String className, int limit) {
+        String board = board(serverName, className);
+        List<LeaderboardDto.Entry> entries = store.top(board, limit).stream()
+                .map(LeaderboardService::toEntry)
+                .toList();
+        return new LeaderboardDto(blankToNull(serverName), blankToNull(className), store.size(board), entries);
+    }
+
+    /**
+     * @return 순위표에 없으면 null
+     */
+    public LeaderboardDto.Entry rank(String characterName, String serverName, String className) {
+        LeaderboardStore.Ranked ranked = store.rank(board(serverName, className), characterName.trim());
+        return ranked == null ? null : toEntry(ranked);
+    }
+
+    private void trim() {
+        while (store.size(ALL) > maxMembers) {
+            String lowest = store.lowest(ALL);
+            if (lowest == null) return;
+            String placement = store.removePlacement(lowest);
+            if (placement == null) {
+                store.remove(ALL, lowest);
+                continue;
+            }
+            for (String board : boards(placement)) {
+                store.remove(board, lowest);
+            }
+        }
+    }
+
+    private static List<String> boards(String placement) {
+        int i = placement.indexOf(SEPARATOR);
+        String server = placement.substring(0, i);
+        String className = placement.substring(i + 1);
+        return List.of(ALL, board(server, null), board(null, className), board(server, className));
+    }
+
+    private static String board(String serverName, String className) {
+        boolean server = serverName != null && !serverName.isBlank();
+        boolean clazz = className != null && !className.isBlank();
+        if (server && clazz) return "sc:" + serverName.trim() + SEPARATOR + className.trim();
+        if (server) return "s:" + serverName.trim();
+        if (clazz) return "c:" + className.trim();
+        return ALL;
+    }
+
+    private static LeaderboardDto.Entry toEntry(LeaderboardStore.Ranked ranked) {
+        return new LeaderboardDto.Entry(ranked.rank(), ranked.member(), ranked.score());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * @param placement "{서버}|{직업}"
+     */
+    private record Update(
+            String member,
+            String placement,
+            double itemLevel
+    ) {}
+}
@@ -0,0 +1,58 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import java.util.List;
+
+/**
+ * 점수 내림차순 순위표 저장소 (보드 이름별 sorted set)
+ *
+ * - Redis가 있으면 ZSET(RedisLeaderboardStore), 없으면 in-process skip list(InMemoryLeaderboardStore)
+ * - 모든 조회/갱신은 O(log n) (top-K는 O(log n + K))
+ * - 같은 점수면 member 내림차순 (Redis ZREVRANGE 순서)
+ */
+public interface LeaderboardStore {
+
+    /**
+     * member 점수 저장 (이미 있으면 갱신)
+     */
+    void put(String board, String member, double score);
+
+    void remove(String board, String member);
+
+    /**
+     * 상위 limit개 (1위부터)
+     */
+    List<Ranked> top(String board, int limit);
+
+    /**
+     * @return 보드에 없으면 null
+     */
+    Ranked rank(String board, String member);
+
+    long size(String board);
+
+    /**
+     * 점수가 가장 낮은 member, 비어 있으면 null
+     */
+    String lowest(String board);
+
+    /**
+     * member가 현재 속한 보드 구성 값 저장 (서버 이동 등으로 바뀌면 이전 보드에서 지우기 위함)
+     *
+     * @return 이전 값, 없으면 null
+     */
+    String swapPlacement(String member, String placement);
+
+    /**
+     * @return 지운 값, 없으면 null
+     */
+    String removePlacement(String member);
+
+    /**
+     * @param rank 1부터 시작하는 순위
+     */
+    record Ranked(
+            long rank,
+            String member,
+            double score
+    ) {}
+}
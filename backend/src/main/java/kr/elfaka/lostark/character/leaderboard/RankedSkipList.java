@@ -0,0 +1,189 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 되는 skip list (Redis zskiplist와 같은 구조)
+ *
+ * - 각 링크에 건너뛰는 노드 수(span)를 같이 두어서 순위 계산/순위로 찾기를 O(log n)에 한다.
+ * - 정렬: 점수 내림차순, 같은 점수면 member 내림차순 (Redis ZREVRANGE와 같은 순서)
+ * - 같은 member가 두 번 들어가지 않도록 하는 것은 호출하는 쪽 책임 (InMemoryLeaderboardStore)
+ * - 스레드 안전하지 않음
+ */
+final class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double P = 0.25;
+
+    private final Node head = new Node(null, 0, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(String member, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].before(member, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(member, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        // 새 노드보다 높은 레벨의 링크는 새 노드를 건너뛰게 됨
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * @return 없으면 false
+     */
+    boolean delete(String member, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].before(member, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || !x.is(member, score)) return false;
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @return 1부터 시작하는 순위, 없으면 0
+     */
+    long rank(String member, double score) {
+        long rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i].before(member, score) || x.next[i].is(member, score))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.is(member, score)) return rank;
+        }
+        return 0;
+    }
+
+    /**
+     * start(1부터) 순위부터 최대 count개 (순위, member, 점수)
+     */
+    List<LeaderboardStore.Ranked> range(long start, int count) {
+        List<LeaderboardStore.Ranked> result = new ArrayList<>(Math.max(0, Math.min(count, size)));
+        Node x = byRank(start);
+        for (long rank = start; x != null && result.size() < count; rank++) {
+            result.add(new LeaderboardStore.Ranked(rank, x.member, x.score));
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    /**
+     * 마지막(점수가 가장 낮은) member, 비어 있으면 null
+     */
+    String last() {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null) {
+                x = x.next[i];
+            }
+        }
+        return x == head ? null : x.member;
+    }
+
+    private Node byRank(long rank) {
+        if (rank < 1 || rank > size) return null;
+        long traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) return x;
+        }
+        return null;
+    }
+
+    private static int randomLevel() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < P) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private static final class Node {
+
+        final String member;
+        final double score;
+        final Node[] next;
+        final int[] span;
+
+        Node(String member, double score, int level) {
+            this.member = member;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        /**
+         * 이 노드가 (member, score)보다 앞 순위인지
+         */
+        boolean before(String otherMember, double otherScore) {
+            int c = Double.compare(otherScore, score);
+            return c != 0 ? c < 0 : member.compareTo(otherMember) > 0;
+        }
+
+        boolean is(String otherMember, double otherScore) {
+            return Double.compare(score, otherScore) == 0 && member.equals(otherMember);
+        }
+    }
+}
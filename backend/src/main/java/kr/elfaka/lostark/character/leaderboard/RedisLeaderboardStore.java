@@ -0,0 +1,96 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis ZSET 기반 순위표 (여러 인스턴스가 같은 순위표를 공유)
+ *
+ * - 보드: "leaderboard:{board}" ZSET (score = 아이템 레벨)
+ * - 보드 구성 값: "leaderboard:placement" HASH (member → placement)
+ */
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String PREFIX = "leaderboard:";
+    private static final String PLACEMENT_KEY = PREFIX + "placement";
+
+    // 이전 값 조회와 변경을 한 번에 (GET 후 SET 사이에 다른 인스턴스가 끼어들면 이전 서버 보드가 남음)
+    private static final RedisScript<String> SWAP_PLACEMENT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return previous
+            """, String.class);
+
+    private static final RedisScript<String> REMOVE_PLACEMENT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return previous
+            """, String.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisLeaderboardStore(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void put(String board, String member, double score) {
+        redis.opsForZSet().add(PREFIX + board, member, score);
+    }
+
+    @Override
+    public void remove(String board, String member) {
+        redis.opsForZSet().remove(PREFIX + board, member);
+    }
+
+    @Override
+    public List<Ranked> top(String board, int limit) {
+        if (limit <= 0) return List.of();
+        Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet().reverseRangeWithScores(PREFIX + board, 0, limit - 1);
+        if (tuples == null) return List.of();
+
+        List<Ranked> result = new ArrayList<>(tuples.size());
+        long rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            result.add(new Ranked(rank++, tuple.getValue(), tuple.getScore() == null ? 0 : tuple.getScore()));
+        }
+        return result;
+    }
+
+    @Override
+    public Ranked rank(String board, String member) {
+        String key = PREFIX + board;
+        Double score = redis.opsForZSet().score(key, member);
+        Long index = score == null ? null : redis.opsForZSet().reverseRank(key, member);
+        if (index == null) return null;
+        return new Ranked(index + 1, member, score);
+    }
+
+    @Override
+    public long size(String board) {
+        Long size = redis.opsForZSet().zCard(PREFIX + board);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public String lowest(String board) {
+        Set<String> lowest = redis.opsForZSet().range(PREFIX + board, 0, 0);
+        return lowest == null || lowest.isEmpty() ? null : lowest.iterator().next();
+    }
+
+    @Override
+    public String swapPlacement(String member, String placement) {
+        return redis.execute(SWAP_PLACEMENT, List.of(PLACEMENT_KEY), member, placement);
+    }
+
+    @Override
+    public String removePlacement(String member) {
+        return redis.execute(REMOVE_PLACEMENT, List.of(PLACEMENT_KEY), member);
+    }
+}
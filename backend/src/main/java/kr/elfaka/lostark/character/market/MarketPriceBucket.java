@@ -0,0 +1,78 @@
+package kr.elfaka.lostark.character.market;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 아이템 시세 버킷 (아이템 × 단위 × 버킷 시작 시각마다 한 행)
+ *
+ * - 샘플은 저장하지 않고 최저/최고/합계/개수/마지막 가격만 둔다. (평균 = 합계 / 개수)
+ * - 같은 버킷에 샘플이 더 들어오면 행을 덮어쓴다.
+ * - 운영은 ddl-auto: validate라서 resources/db/market_price_bucket.sql로 테이블을 먼저 만들어야 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(MarketPriceBucket.Key.class)
+@Table(name = "market_price_bucket",
+        indexes = @Index(name = "idx_market_price_bucket_retention", columnList = "resolution, bucket_start"))
+public class MarketPriceBucket {
+
+    @Id
+    @Column(name = "item_key", length = 64)
+    private String itemKey;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private PriceResolution resolution;
+
+    @Id
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
+    @Column(name = "min_price", nullable = false)
+    private double minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private double maxPrice;
+
+    @Column(name = "sum_price", nullable = false)
+    private double sumPrice;
+
+    @Column(nullable = false)
+    private int samples;
+
+    @Column(name = "last_price", nullable = false)
+    private double lastPrice;
+
+    @Builder
+    public MarketPriceBucket(String itemKey, PriceResolution resolution, Instant bucketStart,
+                             double minPrice, double maxPrice, double sumPrice, int samples, double lastPrice) {
+        this.itemKey = itemKey;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.sumPrice = sumPrice;
+        this.samples = samples;
+        this.lastPrice = lastPrice;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String itemKey;
+        private PriceResolution resolution;
+        private Instant bucketStart;
+    }
+}
@@ -0,0 +1,23 @@
+package kr.elfaka.lostark.character.market;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MarketPriceBucketRepository extends JpaRepository<MarketPriceBucket, MarketPriceBucket.Key> {
+
+    // 차트 구간 (PK 순서대로 범위 조회)
+    List<MarketPriceBucket> findByItemKeyAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            String itemKey, PriceResolution resolution, Instant from, Instant to);
+
+    // 보관 기간이 지난 버킷 일괄 삭제 (엔티티를 읽지 않음)
+    @Modifying
+    @Transactional
+    @Query("delete from MarketPriceBucket b where b.resolution = :resolution and b.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") PriceResolution resolution, @Param("before") Instant before);
+}
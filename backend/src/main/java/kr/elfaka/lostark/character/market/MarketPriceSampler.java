@@ -0,0 +1,165 @@
+package kr.elfaka.lostark.character.market;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.dto.AuctionDto.Auction;
+import kr.elfaka.lostark.character.dto.AuctionDto.AuctionItem;
+import kr.elfaka.lostark.character.dto.AuctionDto.AuctionSearchRequest;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketItem;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketList;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketSearchRequest;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 시세 수집 (거래소/경매장 검색 → MarketPriceService)
+ *
+ * [동작]
+ * - interval마다 수집 대상 아이템을 순서대로 돌아가며 최저가를 한 건씩 조회 (아이템당 API 호출 1회)
+ * - 거래소: 현재 최저가 / 경매장: 즉시 구매가 오름차순 첫 매물
+ *
+ * [쿼터]
+ * - HotCharacterRefresher와 같은 방식: 분당 budget-per-minute개를 LostArkRateLimiter.perTick()으로 tick마다 나눠 쓰고,
+ *   토큰 버킷에 reserve-tokens개 이하만 남아 있으면 이번 tick은 건너뛴다. (사용자 요청/선제 갱신이 우선)
+ * - 서킷 브레이커가 열려 있으면 수집하지 않는다.
+ * - 아이템 수 × interval / perTick 마다 한 아이템이 다시 수집되므로, 분 버킷은 아이템 수가 적을 때만 촘촘하다.
+ *
+ * [메트릭]
+ * - market.sample{result=recorded|empty|skipped|failed}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.character.market", name = {"enabled", "sampling-enabled"}, havingValue = "true", matchIfMissing = true)
+public class MarketPriceSampler {
+
+    private final LostArkFeignClient lostArkFeignClient;
+    private final LostArkRateLimiter rateLimiter;
+    private final LostArkCircuitBreaker circuitBreaker;
+    private final MarketPriceService marketPriceService;
+
+    private final int reserveTokens;
+    private final int perTick;
+    private int cursor;
+
+    private final Counter recorded;
+    private final Counter empty;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public MarketPriceSampler(LostArkFeignClient lostArkFeignClient,
+                              LostArkRateLimiter rateLimiter,
+                              LostArkCircuitBreaker circuitBreaker,
+                              MarketPriceService marketPriceService,
+                              @Value("${app.character.market.reserve-tokens:30}") int reserveTokens,
+                              @Value("${app.character.market.budget-per-minute:10}") int budgetPerMinute,
+                              @Value("${app.character.market.interval:15s}") Duration interval,
+                              MeterRegistry meterRegistry) {
+        this.lostArkFeignClient = lostArkFeignClient;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.marketPriceService = marketPriceService;
+        this.reserveTokens = reserveTokens;
+        this.perTick = LostArkRateLimiter.perTick(budgetPerMinute, interval);
+
+        this.recorded = counter(meterRegistry, "recorded");
+        this.empty = counter(meterRegistry, "empty");
+        this.skipped = counter(meterRegistry, "skipped");
+        this.failed = counter(meterRegistry, "failed");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("market.sample").tag("result", result).register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.market.interval:15s}",
+            initialDelayString = "${app.character.market.interval:15s}")
+    public void sample() {
+        if (circuitBreaker.isOpen()) return;
+        List<TrackedItem> items = marketPriceService.trackedItems();
+        if (items.isEmpty()) return;
+
+        int count = Math.min(perTick, items.size());
+        for (int i = 0; i < count; i++) {
+            if (!sample(items.get(cursor % items.size()))) {
+                // 쿼터 여유가 없으면 같은 아이템부터 다음 tick에
+                skipped.increment(count - i);
+                return;
+            }
+            cursor = (cursor + 1) % items.size();
+        }
+    }
+
+    private boolean sample(TrackedItem item) {
+        try {
+            return rateLimiter.runIfAvailable(reserveTokens, () -> {
+                Double price = circuitBreaker.execute(() -> fetchPrice(item));
+                if (price == null) {
+                    empty.increment();
+                } else {
+                    marketPriceService.record(item.key(), Instant.now(), price);
+                    recorded.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("market price sample failed. item={}", item.key(), e);
+            return true;
+        }
+    }
+
+    private Double fetchPrice(TrackedItem item) {
+        return switch (item.source()) {
+            case MARKET -> lowestMarketPrice(lostArkFeignClient.searchMarketItems(MarketSearchRequest.builder()
+                    .categoryCode(item.categoryCode())
+                    .itemName(item.itemName())
+                    .sort("CURRENT_MIN_PRICE")
+                    .sortCondition("ASC")
+                    .pageNo(1)
+                    .build()), item.itemName());
+            case AUCTION -> lowestBuyPrice(lostArkFeignClient.searchAuctionItems(AuctionSearchRequest.builder()
+                    .categoryCode(item.categoryCode())
+                    .itemName(item.itemName())
+                    .itemTier(item.itemTier())
+                    .sort("BUY_PRICE")
+                    .sortCondition("ASC")
+                    .pageNo(1)
+                    .build()));
+        };
+    }
+
+    /**
+     * 이름이 정확히 같은 아이템의 현재 최저가 (같은 이름이 없거나 매물이 없으면 null → empty로 집계)
+     * - 검색은 부분 일치라 "(귀속)" 등 다른 아이템이 섞여 나오므로 첫 결과로 대신하지 않는다.
+     */
+    static Double lowestMarketPrice(MarketList list, String itemName) {
+        if (list == null || list.getItems() == null) return null;
+        return list.getItems().stream()
+                .filter(i -> itemName.equals(i.getName()))
+                .findFirst()
+                .map(MarketItem::getCurrentMinPrice)
+                .filter(price -> price > 0)
+                .orElse(null);
+    }
+
+    /**
+     * 즉시 구매가가 있는 첫 매물 가격 (즉시 구매가 오름차순 검색 결과 기준, 없으면 null)
+     */
+    static Double lowestBuyPrice(Auction auction) {
+        if (auction == null || auction.getItems() == null) return null;
+        for (AuctionItem item : auction.getItems()) {
+            Long buyPrice = item.getAuctionInfo() == null ? null : item.getAuctionInfo().getBuyPrice();
+            if (buyPrice != null && buyPrice > 0) return buyPrice.doubleValue();
+        }
+        return null;
+    }
+}
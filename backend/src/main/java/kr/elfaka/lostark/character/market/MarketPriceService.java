@@ -0,0 +1,225 @@
+package kr.elfaka.lostark.character.market;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.MarketItemDto;
+import kr.elfaka.lostark.character.dto.MarketPriceSeriesDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래소/경매장 시세 시계열 (/api/market/**)
+ *
+ * [기록]
+ * - MarketPriceSampler가 가져온 가격 하나를 분/시간/일 버킷에 동시에 반영 (원본 샘플은 저장하지 않음)
+ * - 진행 중인 버킷만 메모리에 두고, 바뀐 버킷은 flush-interval마다 market_price_bucket 테이블에 덮어쓴다.
+ * - 이 인스턴스가 시작되기 전부터 있던 버킷(재시작 직후의 현재 시간/일 버킷)은 처음 한 번 DB 값을 읽어서 이어서 집계
+ *
+ * [조회]
+ * - 차트는 DB의 버킷(PK 범위 조회) + 아직 저장 전인 버킷만 읽는다. (조회마다 upstream 호출 없음)
+ *
+ * [보관]
+ * - 분 버킷은 retention.minute, 시간 버킷은 retention.hour만큼만 두고 지운다. (일 버킷은 계속 보관)
+ *
+ * [메트릭]
+ * - market.price.dirty : 저장 대기 중인 버킷 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.character.market", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MarketPriceService {
+
+    private final MarketPriceBucketRepository repository;
+    private final Map<String, TrackedItem> items;
+    private final Map<PriceResolution, Duration> retention = new EnumMap<>(PriceResolution.class);
+    private final long startedAt;
+
+    // (아이템, 단위)별 진행 중인 버킷
+    private final Map<SeriesKey, PriceBucket> current = new ConcurrentHashMap<>();
+    // 저장 대기 중인 버킷 (키에 시작 시각이 있어서 다음 버킷으로 넘어가도 지난 버킷 변경분이 남음)
+    private final Map<BucketKey, PriceBucket> dirty = new ConcurrentHashMap<>();
+
+    public MarketPriceService(MarketPriceBucketRepository repository,
+                              @Value("${app.character.market.items:}") List<String> items,
+                              @Value("${app.character.market.retention.minute:2d}") Duration minuteRetention,
+                              @Value("${app.character.market.retention.hour:90d}") Duration hourRetention,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.items = parse(items);
+        this.retention.put(PriceResolution.MINUTE, minuteRetention);
+        this.retention.put(PriceResolution.HOUR, hourRetention);
+        this.startedAt = System.currentTimeMillis();
+        Gauge.builder("market.price.dirty", dirty, Map::size).register(meterRegistry);
+    }
+
+    private static Map<String, TrackedItem> parse(List<String> specs) {
+        Map<String, TrackedItem> items = new LinkedHashMap<>();
+        for (String spec : specs) {
+            if (spec.isBlank()) continue;
+            TrackedItem item = TrackedItem.parse(spec);
+            if (items.putIfAbsent(item.key(), item) != null) {
+                throw new IllegalArgumentException("duplicate market item key: " + item.key());
+            }
+        }
+        return items;
+    }
+
+    List<TrackedItem> trackedItems() {
+        return List.copyOf(items.values());
+    }
+
+    /**
+     * 샘플 하나를 모든 단위의 버킷에 반영 (수집 스레드에서 호출)
+     */
+    synchronized void record(String itemKey, Instant at, double price) {
+        long t = at.toEpochMilli();
+        for (PriceResolution resolution : PriceResolution.values()) {
+            long start = resolution.floor(t);
+            SeriesKey seriesKey = new SeriesKey(itemKey, resolution);
+
+            PriceBucket bucket = current.get(seriesKey);
+            if (bucket != null && bucket.start() > start) continue; // 시계가 거꾸로 간 경우
+            if (bucket == null || bucket.start() < start) {
+                bucket = start < startedAt ? load(itemKey, resolution, start) : null;
+            }
+            bucket = bucket == null ? PriceBucket.first(start, price) : bucket.add(price);
+
+            current.put(seriesKey, bucket);
+            dirty.put(new BucketKey(itemKey, resolution, start), bucket);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.market.flush-interval:1m}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        List<Map.Entry<BucketKey, PriceBucket>> batch = new ArrayList<>(dirty.entrySet());
+        List<MarketPriceBucket> rows = new ArrayList<>(batch.size());
+        for (Map.Entry<BucketKey, PriceBucket> e : batch) {
+            // 이 사이에 다시 바뀐 버킷은 다음 flush에서 저장
+            dirty.remove(e.getKey(), e.getValue());
+            rows.add(toRow(e.getKey(), e.getValue()));
+        }
+        try {
+            repository.saveAll(rows);
+        } catch (RuntimeException e) {
+            // 집계값은 다시 만들 수 없으므로 버리지 않고 다음 flush에서 재시도 (그 사이 더 새로운 값이 있으면 그쪽 유지)
+            batch.forEach(b -> dirty.putIfAbsent(b.getKey(), b.getValue()));
+            log.warn("market price save failed. count={}", rows.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.market.purge-interval:1h}",
+            initialDelayString = "${app.character.market.purge-interval:1h}")
+    public void purge() {
+        Instant now = Instant.now();
+        retention.forEach((resolution, keep) -> {
+            try {
+                int deleted = repository.deleteOlderThan(resolution, now.minus(keep));
+                if (deleted > 0) log.info("market price buckets purged. resolution={} count={}", resolution, deleted);
+            } catch (RuntimeException e) {
+                log.warn("market price purge failed. resolution={}", resolution, e);
+            }
+        });
+    }
+
+    public List<MarketItemDto> items() {
+        List<MarketItemDto> result = new ArrayList<>(items.size());
+        for (TrackedItem item : items.values()) {
+            PriceBucket latest = current.get(new SeriesKey(item.key(), PriceResolution.MINUTE));
+            result.add(new MarketItemDto(item.key(), item.itemName(), item.source().name(),
+                    latest == null ? null : latest.last(),
+                    latest == null ? null : latest.start()));
+        }
+        return result;
+    }
+
+    /**
+     * @param resolution null이면 기간에 맞춰 선택 (PriceResolution.forRange)
+     * @return 수집 대상이 아닌 키면 null
+     */
+    public MarketPriceSeriesDto series(String itemKey, PriceResolution resolution, Instant from, Instant to) {
+        TrackedItem item = items.get(itemKey);
+        if (item == null) return null;
+        PriceResolution r = resolution != null ? resolution : PriceResolution.forRange(Duration.between(from, to));
+        long start = r.floor(from.toEpochMilli());
+        long end = to.toEpochMilli();
+
+        TreeMap<Long, PriceBucket> buckets = new TreeMap<>();
+        for (MarketPriceBucket row : repository.findByItemKeyAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                itemKey, r, Instant.ofEpochMilli(start), to)) {
+            long rowStart = row.getBucketStart().toEpochMilli();
+            buckets.put(rowStart, new PriceBucket(rowStart, row.getMinPrice(), row.getMaxPrice(),
+                    row.getSumPrice(), row.getSamples(), row.getLastPrice()));
+        }
+        // 아직 저장 전인 버킷은 메모리 값이 최신
+        dirty.forEach((key, bucket) -> {
+            if (key.itemKey().equals(itemKey) && key.resolution() == r && key.start() >= start && key.start() <= end) {
+                buckets.put(key.start(), bucket);
+            }
+        });
+
+        int n = buckets.size();
+        long[] timestamps = new long[n];
+        double[] min = new double[n];
+        double[] max = new double[n];
+        double[] avg = new double[n];
+        double[] last = new double[n];
+        int[] samples = new int[n];
+        int i = 0;
+        for (PriceBucket b : buckets.values()) {
+            timestamps[i] = b.start();
+            min[i] = b.min();
+            max[i] = b.max();
+            avg[i] = b.avg();
+            last[i] = b.last();
+            samples[i] = b.samples();
+            i++;
+        }
+        return new MarketPriceSeriesDto(item.key(), item.itemName(), r.name(),
+                timestamps, min, max, avg, last, samples);
+    }
+
+    private PriceBucket load(String itemKey, PriceResolution resolution, long start) {
+        try {
+            return repository.findById(new MarketPriceBucket.Key(itemKey, resolution, Instant.ofEpochMilli(start)))
+                    .map(row -> new PriceBucket(start, row.getMinPrice(), row.getMaxPrice(),
+                            row.getSumPrice(), row.getSamples(), row.getLastPrice()))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            // 읽지 못하면 새 버킷으로 시작 (저장 시 그 버킷의 이전 값은 덮어써짐)
+            log.warn("market price bucket load failed. item={} resolution={}", itemKey, resolution, e);
+            return null;
+        }
+    }
+
+    private static MarketPriceBucket toRow(BucketKey key, PriceBucket bucket) {
+        return MarketPriceBucket.builder()
+                .itemKey(key.itemKey())
+                .resolution(key.resolution())
+                .bucketStart(Instant.ofEpochMilli(key.start()))
+                .minPrice(bucket.min())
+                .maxPrice(bucket.max())
+                .sumPrice(bucket.sum())
+                .samples(bucket.samples())
+                .lastPrice(bucket.last())
+                .build();
+    }
+
+    private record SeriesKey(String itemKey, PriceResolution resolution) {}
+
+    private record BucketKey(String itemKey, PriceResolution resolution, long start) {}
+}
@@ -0,0 +1,24 @@
+package kr.elfaka.lostark.character.market;
+
+/**
+ * 한 버킷 동안의 시세 집계 (불변, 샘플이 들어올 때마다 새 값으로 교체)
+ *
+ * @param start   버킷 시작 시각 (epoch millis)
+ * @param sum     평균 계산용 합계
+ * @param samples 샘플 수
+ * @param last    마지막 샘플 가격 (종가)
+ */
+record PriceBucket(long start, double min, double max, double sum, int samples, double last) {
+
+    static PriceBucket first(long start, double price) {
+        return new PriceBucket(start, price, price, price, 1, price);
+    }
+
+    PriceBucket add(double price) {
+        return new PriceBucket(start, Math.min(min, price), Math.max(max, price), sum + price, samples + 1, price);
+    }
+
+    double avg() {
+        return samples == 0 ? 0 : sum / samples;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.elfaka.lostark.character.market;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 시세 버킷 단위
+ *
+ * - 분/시간 버킷은 UTC 기준, 일 버킷은 한국 시간 자정 기준으로 자른다.
+ */
+public enum PriceResolution {
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private static final long KST_OFFSET_MILLIS = Duration.ofHours(9).toMillis();
+
+    private final long stepMillis;
+
+    PriceResolution(Duration step) {
+        this.stepMillis = step.toMillis();
+    }
+
+    /**
+     * epochMillis가 속한 버킷의 시작 시각
+     */
+    public long floor(long epochMillis) {
+        long offset = this == DAY ? KST_OFFSET_MILLIS : 0;
+        return Math.floorDiv(epochMillis + offset, stepMillis) * stepMillis - offset;
+    }
+
+    /**
+     * 조회 기간에 맞는 단위 (하루 이하 → 분, 31일 이하 → 시간, 그 이상 → 일)
+     */
+    public static PriceResolution forRange(Duration range) {
+        if (range.compareTo(Duration.ofDays(1)) <= 0) return MINUTE;
+        if (range.compareTo(Duration.ofDays(31)) <= 0) return HOUR;
+        return DAY;
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 단위
+     */
+    public static PriceResolution parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
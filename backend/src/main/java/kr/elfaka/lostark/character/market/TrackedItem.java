@@ -0,0 +1,46 @@
+package kr.elfaka.lostark.character.market;
+
+import java.util.regex.Pattern;
+
+/**
+ * 시세를 수집하는 아이템 (app.character.market.items 한 줄)
+ *
+ * - 형식: "키|market|카테고리|이름" 또는 "키|auction|카테고리|이름[|티어]"
+ * - 키는 URL에 쓰므로 영문 소문자/숫자/하이픈만
+ *
+ * @param source       MARKET: 거래소 현재 최저가 / AUCTION: 경매장 즉시 구매 최저가
+ * @param categoryCode 검색 카테고리 (예: 40000 각인서, 210000 보석)
+ * @param itemName     검색 이름 (거래소는 이름이 정확히 같은 아이템을 우선)
+ * @param itemTier     경매장 티어 조건 (없으면 null)
+ */
+record TrackedItem(String key, Source source, int categoryCode, String itemName, Integer itemTier) {
+
+    enum Source { MARKET, AUCTION }
+
+    private static final Pattern KEY = Pattern.compile("[a-z0-9-]{1,64}");
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    static TrackedItem parse(String spec) {
+        String[] parts = spec.trim().split("\\|");
+        if (parts.length < 4 || parts.length > 5) {
+            throw new IllegalArgumentException("invalid market item: " + spec);
+        }
+        String key = parts[0].trim();
+        if (!KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("invalid market item key: " + key);
+        }
+        Source source = switch (parts[1].trim()) {
+            case "market" -> Source.MARKET;
+            case "auction" -> Source.AUCTION;
+            default -> throw new IllegalArgumentException("invalid market item source: " + spec);
+        };
+        String name = parts[3].trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("invalid market item name: " + spec);
+        }
+        Integer tier = parts.length == 5 ? Integer.valueOf(parts[4].trim()) : null;
+        return new TrackedItem(key, source, Integer.parseInt(parts[2].trim()), name, tier);
+    }
+}
@@ -0,0 +1,151 @@
+package kr.elfaka.lostark.character.meta;
+
+import kr.elfaka.lostark.character.dto.ClassMetaDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직업별 세팅 카운터 (각인/보석/아크 패시브/카드 세트)
+ *
+ * [구조]
+ * - 항목(종류, 이름, 구분)은 처음 볼 때 int id를 붙이고, 카운터는 (직업, 아이템 레벨 10 단위 구간)별 int[id] 배열
+ * - 캐릭터마다 마지막으로 더한 항목 id 목록(int[])을 기억해 두고, 다시 조회되면 빼고 새로 더한다. (중복 집계 없음)
+ * - 기억하는 캐릭터는 max-characters까지 (LRU), 밀려난 캐릭터의 값은 카운터에서도 뺀다.
+ *   → 분포는 항상 "최근 조회된 max-characters명" 기준
+ *
+ * [동시성]
+ * - 갱신은 upstream 조회 빈도(API 키 쿼터 이하)라 전체를 하나의 잠금으로 보호한다.
+ * - 조회도 같은 잠금 안에서 배열을 합산만 한다. (스캔/재계산 없음)
+ */
+final class ClassMetaAggregator {
+
+    enum Kind { ENGRAVING, GEM, ARK_PASSIVE, CARD_SET }
+
+    record Feature(Kind kind, String name, String variant) {}
+
+    private record Bucket(String className, int tier) {}
+
+    private record Contribution(Bucket bucket, int[] featureIds) {}
+
+    private static final class Counters {
+        int characters;
+        int[] counts = new int[64];
+
+        void add(int[] ids, int delta) {
+            characters += delta;
+            for (int id : ids) {
+                if (id >= counts.length) {
+                    counts = Arrays.copyOf(counts, Math.max(id + 1, counts.length * 2));
+                }
+                counts[id] += delta;
+            }
+        }
+    }
+
+    private final int maxCharacters;
+    private final Map<Feature, Integer> featureIds = new HashMap<>();
+    private final List<Feature> features = new ArrayList<>();
+    private final Map<Bucket, Counters> buckets = new HashMap<>();
+    private final LinkedHashMap<String, Contribution> contributions;
+
+    ClassMetaAggregator(int maxCharacters) {
+        this.maxCharacters = Math.max(1, maxCharacters);
+        this.contributions = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 캐릭터 한 명의 현재 세팅 반영 (이전에 반영한 값은 대체)
+     *
+     * @param key       정규화된 캐릭터 이름
+     * @param itemLevel 없으면 0 구간
+     */
+    synchronized void ingest(String key, String className, double itemLevel, List<Feature> current) {
+        int[] ids = new int[current.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = featureIds.computeIfAbsent(current.get(i), f -> {
+                features.add(f);
+                return features.size() - 1;
+            });
+        }
+        Bucket bucket = new Bucket(className, tier(itemLevel));
+
+        Contribution previous = contributions.put(key, new Contribution(bucket, ids));
+        if (previous != null) {
+            subtract(previous);
+        }
+        buckets.computeIfAbsent(bucket, b -> new Counters()).add(ids, 1);
+
+        if (contributions.size() > maxCharacters) {
+            Iterator<Contribution> eldest = contributions.values().iterator();
+            subtract(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @param minItemLevel 이 레벨 이상 구간만 (null이면 전체)
+     * @param limit        종류별 상위 개수
+     */
+    synchronized ClassMetaDto distribution(String className, Integer minItemLevel, int limit) {
+        int minTier = minItemLevel == null ? Integer.MIN_VALUE : tier(minItemLevel);
+        long characters = 0;
+        long[] sum = new long[features.size()];
+        for (Map.Entry<Bucket, Counters> e : buckets.entrySet()) {
+            Bucket bucket = e.getKey();
+            if (!bucket.className().equals(className) || bucket.tier() < minTier) continue;
+            Counters counters = e.getValue();
+            characters += counters.characters;
+            int n = Math.min(counters.counts.length, sum.length);
+            for (int id = 0; id < n; id++) {
+                sum[id] += counters.counts[id];
+            }
+        }
+
+        Map<Kind, List<ClassMetaDto.Entry>> byKind = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) byKind.put(kind, new ArrayList<>());
+        for (int id = 0; id < sum.length; id++) {
+            if (sum[id] <= 0) continue;
+            Feature f = features.get(id);
+            double share = characters == 0 ? 0 : (double) sum[id] / characters;
+            byKind.get(f.kind()).add(new ClassMetaDto.Entry(f.name(), f.variant(), sum[id], share));
+        }
+
+        Comparator<ClassMetaDto.Entry> order = Comparator.comparingLong(ClassMetaDto.Entry::count).reversed()
+                .thenComparing(ClassMetaDto.Entry::name);
+        for (List<ClassMetaDto.Entry> entries : byKind.values()) {
+            entries.sort(order);
+            if (entries.size() > limit) entries.subList(limit, entries.size()).clear();
+        }
+        return new ClassMetaDto(className, minItemLevel == null ? null : minTier, characters,
+                byKind.get(Kind.ENGRAVING), byKind.get(Kind.GEM), byKind.get(Kind.ARK_PASSIVE), byKind.get(Kind.CARD_SET));
+    }
+
+    synchronized int characters() {
+        return contributions.size();
+    }
+
+    synchronized int featureCount() {
+        return features.size();
+    }
+
+    private void subtract(Contribution contribution) {
+        Counters counters = buckets.get(contribution.bucket());
+        counters.add(contribution.featureIds(), -1);
+        if (counters.characters == 0) {
+            buckets.remove(contribution.bucket());
+        }
+    }
+
+    // 아이템 레벨 10 단위 구간 (예: 1685.83 → 1680)
+    private static int tier(double itemLevel) {
+        return (int) Math.floor(itemLevel / 10) * 10;
+    }
+}
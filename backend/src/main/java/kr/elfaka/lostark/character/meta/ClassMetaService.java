@@ -0,0 +1,131 @@
+package kr.elfaka.lostark.character.meta;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.ArmoryCard;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.CardEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.ClassMetaDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import kr.elfaka.lostark.character.tooltip.TooltipText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 직업별 세팅 분포 (각인/보석/아크 패시브/카드 세트)
+ *
+ * [갱신]
+ * - upstream에서 아머리를 새로 가져올 때마다(ArmoryFetchedEvent) 한 번만 항목을 뽑아서 ClassMetaAggregator에 반영
+ * - 이력을 다시 읽지 않고, 조회 시에도 upstream을 호출하지 않는다.
+ *
+ * [항목]
+ * - 각인: 아크 패시브 각인 이름 / "등급 Lv.레벨"
+ * - 보석: "작열의 보석" 등 종류 / 레벨 (보석 이름에서 "N레벨 " 제거)
+ * - 아크 패시브: "치명 1티어 효과" 등 노드 / "Lv.N" (설명 문자열에서 태그 제거 후 분리)
+ * - 카드: 세트별로 마지막(가장 높은) 활성 효과 이름
+ *
+ * [메트릭]
+ * - armory.meta.characters : 집계에 들어 있는 캐릭터 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.character.meta", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ClassMetaService {
+
+    private static final Pattern GEM_LEVEL_PREFIX = Pattern.compile("^\\d+레벨\\s*");
+    private static final Pattern NODE_LEVEL = Pattern.compile("^(.+?)\\s*(Lv\\.\\d+)$");
+
+    private final ClassMetaAggregator aggregator;
+
+    public ClassMetaService(@Value("${app.character.meta.max-characters:100000}") int maxCharacters,
+                            MeterRegistry meterRegistry) {
+        this.aggregator = new ClassMetaAggregator(maxCharacters);
+        Gauge.builder("armory.meta.characters", aggregator, ClassMetaAggregator::characters).register(meterRegistry);
+    }
+
+    @EventListener
+    public void onArmoryFetched(ArmoryFetchedEvent event) {
+        ArmoryProfile profile = event.armory().getArmoryProfile();
+        if (profile == null || profile.getCharacterClassName() == null) return;
+        try {
+            Double itemLevel = ItemLevels.parse(profile.getItemAvgLevel());
+            aggregator.ingest(event.key(), profile.getCharacterClassName(), itemLevel == null ? 0 : itemLevel,
+                    features(event.armory()));
+        } catch (RuntimeException e) {
+            // 통계는 부가 기능이라 조회 흐름을 실패시키지 않음
+            log.warn("class meta update failed. key={}", event.key(), e);
+        }
+    }
+
+    /**
+     * @param minItemLevel 이 레벨 이상 (10 단위로 내림, null이면 전체)
+     * @param limit        종류별 상위 개수
+     */
+    public ClassMetaDto distribution(String className, Integer minItemLevel, int limit) {
+        return aggregator.distribution(className.trim(), minItemLevel, limit);
+    }
+
+    static List<ClassMetaAggregator.Feature> features(ArmoryTotalDto armory) {
+        List<ClassMetaAggregator.Feature> features = new ArrayList<>();
+        engravings(armory.getArmoryEngraving(), features);
+        gems(armory.getArmoryGem(), features);
+        arkPassives(armory.getArkPassive(), features);
+        cardSets(armory.getArmoryCard(), features);
+        return features;
+    }
+
+    private static void engravings(ArmoryEngraving engraving, List<ClassMetaAggregator.Feature> out) {
+        if (engraving == null || engraving.getArkPassiveEffects() == null) return;
+        for (ArkPassiveEffect e : engraving.getArkPassiveEffects()) {
+            if (e.getName() == null) continue;
+            String variant = (e.getGrade() == null ? "" : e.getGrade() + " ") + "Lv." + e.getLevel();
+            out.add(new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ENGRAVING, e.getName(), variant));
+        }
+    }
+
+    private static void gems(ArmoryGem armoryGem, List<ClassMetaAggregator.Feature> out) {
+        if (armoryGem == null || armoryGem.getGems() == null) return;
+        for (Gem gem : armoryGem.getGems()) {
+            String name = GEM_LEVEL_PREFIX.matcher(TooltipText.strip(gem.getName())).replaceFirst("");
+            if (name.isEmpty()) continue;
+            out.add(new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.GEM, name, String.valueOf(gem.getLevel())));
+        }
+    }
+
+    private static void arkPassives(ArkPassive arkPassive, List<ClassMetaAggregator.Feature> out) {
+        if (arkPassive == null || arkPassive.getEffects() == null) return;
+        for (kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassiveEffect e : arkPassive.getEffects()) {
+            String text = TooltipText.strip(e.getDescription());
+            if (text.isEmpty()) continue;
+            Matcher m = NODE_LEVEL.matcher(text);
+            out.add(m.matches()
+                    ? new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ARK_PASSIVE, m.group(1), m.group(2))
+                    : new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ARK_PASSIVE, text, null));
+        }
+    }
+
+    private static void cardSets(ArmoryCard armoryCard, List<ClassMetaAggregator.Feature> out) {
+        if (armoryCard == null || armoryCard.getEffects() == null) return;
+        for (CardEffect effect : armoryCard.getEffects()) {
+            if (effect.getItems() == null || effect.getItems().isEmpty()) continue;
+            String name = effect.getItems().get(effect.getItems().size() - 1).getName();
+            if (name == null) continue;
+            out.add(new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.CARD_SET, name, null));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package kr.elfaka.lostark.character.projection;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.cache.LruCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 아머리 응답 필드 선택 (/api/character/{name}?fields=...)
+ *
+ * - 선택자는 한 번만 컴파일해서 (FieldProjection + 그 필터를 건 ObjectWriter) 선택자 문자열별로 캐시
+ * - 직렬화 중에 필터가 선택되지 않은 필드를 건너뛰므로 중간 트리(JsonNode)나 DTO 복사본을 만들지 않는다.
+ * - 선택한 최상위 필드에 해당하는 섹션만 조회하면 되므로 sections를 따로 주지 않으면 여기서 정한다.
+ *
+ * [메트릭]
+ * - armory.projection.bytes{kind} : full(같은 캐릭터를 fields/sections 없이 받았을 때) / projected 응답 크기
+ *   → 1 - sum(projected) / sum(full) 이 줄어든 비율
+ * - full은 섹션만 조회한 결과가 아니라 캐시된 전체 armory로 잰다. 전체 armory가 L1에 없으면
+ *   (섹션 캐시로만 응답) 비율이 어긋나지 않도록 두 값 모두 기록하지 않음
+ * - full 크기는 전체 armory의 ETag당 한 번만 잰다. (바이트를 만들지 않고 길이만 셈)
+ */
+@Component
+public class ArmoryProjector {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper filteringMapper;
+    private final JavaType rootType;
+    private final int maxPaths;
+    private final LruCache<String, Compiled> compiled;
+    private final LruCache<String, Long> fullSizes;
+
+    private final DistributionSummary fullBytes;
+    private final DistributionSummary projectedBytes;
+
+    public ArmoryProjector(ObjectMapper objectMapper,
+                           @Value("${app.character.projection.max-selectors:256}") int maxSelectors,
+                           @Value("${app.character.projection.max-fields:64}") int maxPaths,
+                           MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        // 공유 ObjectMapper에는 필터를 걸지 않는다. (다른 응답/캐시 코덱에 영향 없도록 복사본 사용)
+        this.filteringMapper = objectMapper.copy().addMixIn(Object.class, FilteredMixin.class);
+        this.rootType = objectMapper.constructType(ArmoryTotalDto.class);
+        this.maxPaths = maxPaths;
+        this.compiled = new LruCache<>(maxSelectors);
+        this.fullSizes = new LruCache<>(maxSelectors * 8);
+        this.fullBytes = bytes(meterRegistry, "full");
+        this.projectedBytes = bytes(meterRegistry, "projected");
+    }
+
+    private static DistributionSummary bytes(MeterRegistry registry, String kind) {
+        return DistributionSummary.builder("armory.projection.bytes")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    /**
+     * @throws kr.elfaka.lostark.character.error.InvalidCharacterRequestException 비었거나 없는 필드 (→ 400)
+     */
+    public FieldProjection compile(String fields) {
+        return compiledFor(fields).projection();
+    }
+
+    /**
+     * 선택한 최상위 필드가 속한 섹션
+     */
+    public Set<ArmorySection> sections(FieldProjection projection) {
+        EnumSet<ArmorySection> sections = EnumSet.noneOf(ArmorySection.class);
+        for (String name : projection.topLevelNames()) {
+            sections.add(ArmorySection.fromJsonName(name));
+        }
+        return sections;
+    }
+
+    /**
+     * @param armory   응답할 armory (요청한 섹션만 있을 수 있음)
+     * @param full     같은 캐릭터의 전체 armory (full 크기 측정용, 모르면 null → 크기 기록 안 함)
+     * @param fullEtag 전체 armory의 ETag (full 크기 측정 캐시 키, null이면 매번 측정)
+     */
+    public byte[] write(ArmoryTotalDto armory, FieldProjection projection, ArmoryTotalDto full, String fullEtag) {
+        try {
+            byte[] body = compiledFor(projection.key()).writer().writeValueAsBytes(armory);
+            if (full != null) {
+                projectedBytes.record(body.length);
+                fullBytes.record(fullSize(full, fullEtag));
+            }
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Compiled compiledFor(String fields) {
+        Compiled cached = compiled.get(fields);
+        if (cached != null) return cached;
+
+        FieldProjection projection = FieldProjection.compile(fields, rootType,
+                filteringMapper.getSerializationConfig(), maxPaths);
+        // 표기만 다른 같은 선택이면 먼저 만든 것을 공유
+        Compiled created = compiled.get(projection.key());
+        if (created == null) {
+            created = new Compiled(projection, filteringMapper.writer(
+                    new SimpleFilterProvider().addFilter(FieldProjection.FILTER_ID, projection)));
+        }
+        // 원래 문자열과 정규화된 키 둘 다로 찾을 수 있게
+        compiled.put(fields, created);
+        compiled.put(projection.key(), created);
+        return created;
+    }
+
+    private long fullSize(ArmoryTotalDto full, String etag) throws IOException {
+        Long cached = etag == null ? null : fullSizes.get(etag);
+        if (cached != null) return cached;
+
+        CountingOutputStream out = new CountingOutputStream();
+        // 캐시에 있는 LazyArmoryTotalDto를 직렬화하면서 디코딩하지 않도록 사본으로 잼
+        objectMapper.writeValue(out, ArmorySection.select(full, EnumSet.allOf(ArmorySection.class)));
+        if (etag != null) fullSizes.put(etag, out.count);
+        return out.count;
+    }
+
+    private record Compiled(FieldProjection projection, ObjectWriter writer) {}
+
+    @JsonFilter(FieldProjection.FILTER_ID)
+    private static final class FilteredMixin {
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
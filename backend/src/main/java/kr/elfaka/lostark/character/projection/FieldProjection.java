@@ -0,0 +1,171 @@
+package kr.elfaka.lostark.character.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import kr.elfaka.lostark.character.error.InvalidCharacterRequestException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ?fields= 선택자를 컴파일한 결과 (경로 트리 + Jackson 필터)
+ *
+ * - 경로는 응답 JSON 이름을 '.'으로 이은 것 (예: ArmoryProfile.CharacterName, ArmoryEquipment.Grade)
+ * - 대소문자는 구분하지 않고, 컴파일할 때 DTO 타입을 따라가며 실제 JSON 이름으로 바꾼다. (없는 이름이면 400)
+ * - 배열은 경로에 나타나지 않는다. (ArmoryEquipment.Name = 모든 장비의 Name)
+ * - 경로가 객체에서 끝나면 그 아래는 전부 포함
+ * - 컴파일 결과는 불변이라 ArmoryProjector가 선택자 문자열별로 캐시해서 재사용한다.
+ */
+public final class FieldProjection extends SimpleBeanPropertyFilter {
+
+    static final String FILTER_ID = "armoryFields";
+
+    // 하위 전부 포함 (선택한 경로의 끝)
+    private static final Node ALL = new Node(Collections.emptyMap());
+
+    private final Node root;
+    private final String key;
+
+    private FieldProjection(Node root, String key) {
+        this.root = root;
+        this.key = key;
+    }
+
+    /**
+     * @param fields   "a.b,c" 형태 (쉼표 구분)
+     * @param rootType 응답 최상위 타입 (이름 검증/대소문자 보정용)
+     */
+    static FieldProjection compile(String fields, JavaType rootType, SerializationConfig config, int maxPaths) {
+        if (fields == null || fields.isBlank()) {
+            throw new InvalidCharacterRequestException("fields must not be empty");
+        }
+        Map<String, Object> tree = new TreeMap<>();
+        int paths = 0;
+        for (String token : fields.split(",")) {
+            String path = token.trim();
+            if (path.isEmpty()) continue;
+            if (++paths > maxPaths) {
+                throw new InvalidCharacterRequestException("too many fields (max " + maxPaths + ")");
+            }
+            add(tree, path, rootType, config);
+        }
+        if (paths == 0) {
+            throw new InvalidCharacterRequestException("fields must not be empty");
+        }
+        return new FieldProjection(toNode(tree), canonical(tree, new StringBuilder(), new ArrayList<>()));
+    }
+
+    /**
+     * 정렬된 경로 목록 (같은 선택이면 순서/대소문자와 관계없이 같은 값 → ETag/캐시 키)
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * 최상위에서 선택된 JSON 이름 (조회할 섹션 결정용)
+     */
+    public List<String> topLevelNames() {
+        return List.copyOf(root.children().keySet());
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        Node node = nodeFor(gen.getOutputContext());
+        if (node == ALL || node != null && node.children().containsKey(writer.getName())) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    // 지금 쓰고 있는 객체의 위치 → 트리 노드 (배열 단계는 건너뜀)
+    private Node nodeFor(JsonStreamContext context) {
+        List<String> names = new ArrayList<>(4);
+        for (JsonStreamContext c = context.getParent(); c != null; c = c.getParent()) {
+            if (c.inObject()) names.add(c.getCurrentName());
+        }
+        Node node = root;
+        for (int i = names.size() - 1; i >= 0 && node != ALL; i--) {
+            node = node.children().get(names.get(i));
+            if (node == null) return null;
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(Map<String, Object> tree, String path, JavaType rootType, SerializationConfig config) {
+        JavaType type = rootType;
+        Map<String, Object> level = tree;
+        String[] names = path.split("\\.", -1);
+        for (int i = 0; i < names.length; i++) {
+            while (type.isContainerType()) type = type.getContentType();
+            BeanPropertyDefinition property = findProperty(type, names[i], config);
+            if (property == null) {
+                throw new InvalidCharacterRequestException("unknown field: " + path);
+            }
+            String name = property.getName();
+            if (i == names.length - 1) {
+                level.put(name, ALL);
+                return;
+            }
+            Object child = level.get(name);
+            if (child == ALL) return; // 이미 상위 경로 전체가 선택됨
+            if (child == null) {
+                child = new TreeMap<String, Object>();
+                level.put(name, child);
+            }
+            level = (Map<String, Object>) child;
+            type = property.getPrimaryType();
+        }
+    }
+
+    private static BeanPropertyDefinition findProperty(JavaType type, String name, SerializationConfig config) {
+        if (name.isEmpty() || type.isPrimitive() || type.isEnumType() || type.getRawClass().getName().startsWith("java.")) {
+            return null;
+        }
+        BeanDescription description = config.introspect(type);
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.couldSerialize() && property.getName().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT))) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Node toNode(Map<String, Object> tree) {
+        Map<String, Node> children = new TreeMap<>();
+        tree.forEach((name, child) -> children.put(name, child == ALL ? ALL : toNode((Map<String, Object>) child)));
+        return new Node(Map.copyOf(children));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String canonical(Map<String, Object> tree, StringBuilder prefix, List<String> out) {
+        tree.forEach((name, child) -> {
+            int length = prefix.length();
+            prefix.append(name);
+            if (child == ALL) {
+                out.add(prefix.toString());
+            } else {
+                canonical((Map<String, Object>) child, prefix.append('.'), out);
+            }
+            prefix.setLength(length);
+        });
+        return String.join(",", out);
+    }
+
+    private record Node(Map<String, Node> children) {}
+}
@@ -0,0 +1,196 @@
+package kr.elfaka.lostark.character.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.elfaka.lostark.character.error.UpstreamRateLimitedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LostArk Open API 쿼터 관리
+ *
+ * [역할]
+ * - API 키의 분당 쿼터 크기의 토큰 버킷으로 upstream 호출 속도를 제한
+ * - 토큰이 없으면 실패 대신 대기(최대 max-wait), 그래도 안 되면 UpstreamRateLimitedException
+ * - 응답 헤더(X-RateLimit-Remaining / X-RateLimit-Reset, 429의 Retry-After)를 보고
+ *   로컬 버킷을 upstream 상태에 맞춘다. (adaptive backoff)
+ *
+ * [메트릭]
+ * - lostark.ratelimit.available : 로컬 버킷의 즉시 사용 가능 토큰 수 (쿼터 여유분)
+ * - lostark.ratelimit.upstream.remaining : upstream이 마지막으로 알려준 남은 요청 수
+ * - lostark.ratelimit.wait : 토큰 대기 시간
+ * - lostark.ratelimit.rejected : max-wait 안에 토큰을 못 받아 거절된 요청 수
+ * - lostark.ratelimit.throttled : upstream 429 응답 수
+ */
+@Slf4j
+@Component
+public class LostArkRateLimiter {
+
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    static final String HEADER_RESET = "X-RateLimit-Reset";
+    static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    private final TokenBucket bucket;
+    private final Duration maxWait;
+    private final Duration defaultBackoff;
+
+    // runIfAvailable()로 토큰을 미리 받은 스레드 표시 (다음 acquire() 한 번은 토큰 없이 통과)
+    private static final ThreadLocal<Boolean> PREPAID = new ThreadLocal<>();
+    // 스레드별 누적 토큰 대기 시간 (서킷 브레이커가 호출 시간에서 뺌)
+    private static final ThreadLocal<long[]> WAITED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final AtomicInteger upstreamRemaining = new AtomicInteger(-1);
+    private final Timer waitTimer;
+    private final Counter rejected;
+    private final Counter throttled;
+
+    public LostArkRateLimiter(@Value("${app.character.rate-limit.requests-per-minute:100}") int requestsPerMinute,
+                              @Value("${app.character.rate-limit.max-wait:5s}") Duration maxWait,
+                              @Value("${app.character.rate-limit.default-backoff:10s}") Duration defaultBackoff,
+                              MeterRegistry meterRegistry) {
+        this.bucket = new TokenBucket(requestsPerMinute, Duration.ofMinutes(1), System::nanoTime);
+        this.maxWait = maxWait;
+        this.defaultBackoff = defaultBackoff;
+
+        Gauge.builder("lostark.ratelimit.available", bucket, TokenBucket::availableTokens)
+                .register(meterRegistry);
+        Gauge.builder("lostark.ratelimit.upstream.remaining", upstreamRemaining, AtomicInteger::get)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("lostark.ratelimit.wait").register(meterRegistry);
+        this.rejected = Counter.builder("lostark.ratelimit.rejected").register(meterRegistry);
+        this.throttled = Counter.builder("lostark.ratelimit.throttled").register(meterRegistry);
+    }
+
+    /**
+     * upstream 호출 전 토큰 획득 (필요하면 대기)
+     *
+     * @throws UpstreamRateLimitedException max-wait 안에 토큰을 받을 수 없을 때
+     */
+    public void acquire() {
+        if (PREPAID.get() != null) {
+            PREPAID.remove();
+            return;
+        }
+        long waitNanos = bucket.reserve(maxWait);
+        if (waitNanos < 0) {
+            rejected.increment();
+            throw new UpstreamRateLimitedException("LostArk API quota exhausted", maxWait);
+        }
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos == 0) return;
+        long start = System.nanoTime();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamRateLimitedException("interrupted while waiting for LostArk API quota", maxWait);
+        } finally {
+            WAITED.get()[0] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * 현재 스레드가 지금까지 토큰을 기다린 시간 합계 (두 시점의 차이로 호출 중 대기 시간을 구함)
+     */
+    public static long waitedNanos() {
+        return WAITED.get()[0];
+    }
+
+    /**
+     * 대기 없이 토큰을 얻을 수 있을 때만 true (백그라운드 갱신 등 우선순위 낮은 호출용)
+     */
+    public boolean tryAcquire() {
+        return bucket.tryAcquire();
+    }
+
+    /**
+     * 쿼터 여유가 reserve개보다 많을 때만 토큰 1개를 미리 받고 call 실행 (대기 없음)
+     * - 백그라운드 갱신이 사용자 요청 몫의 쿼터를 쓰지 않도록 reserve만큼은 남겨 둔다.
+     * - call 안의 첫 upstream 호출(RequestInterceptor의 acquire())은 다시 토큰을 받지 않는다.
+     *
+     * @return 토큰을 받지 못해 call을 실행하지 않았으면 false
+     */
+    public boolean runIfAvailable(int reserve, Runnable call) {
+        if (bucket.availableTokens() < reserve + 1 || !bucket.tryAcquire()) return false;
+        PREPAID.set(Boolean.TRUE);
+        try {
+            call.run();
+        } finally {
+            PREPAID.remove();
+        }
+        return true;
+    }
+
+    /**
+     * 정상 응답의 rate limit 헤더 반영
+     * - 남은 요청 수가 로컬 토큰보다 적으면 맞춰 줄이고, 0이면 Reset 시각까지 멈춘다.
+     */
+    public void onResponse(Map<String, Collection<String>> headers) {
+        Integer remaining = intHeader(headers, HEADER_REMAINING);
+        if (remaining == null) return;
+
+        upstreamRemaining.set(remaining);
+        bucket.limitTo(remaining);
+        if (remaining <= 0) {
+            pauseFor(resetDelay(headers));
+        }
+    }
+
+    /**
+     * 429 응답 반영: Retry-After(초) 또는 Reset 시각까지, 둘 다 없으면 default-backoff만큼 멈춘다.
+     */
+    public void onRateLimited(Map<String, Collection<String>> headers) {
+        throttled.increment();
+        upstreamRemaining.set(0);
+
+        Integer retryAfter = intHeader(headers, HEADER_RETRY_AFTER);
+        Duration delay = retryAfter != null ? Duration.ofSeconds(retryAfter) : resetDelay(headers);
+        pauseFor(delay);
+        log.warn("LostArk API rate limited. backing off for {}", delay);
+    }
+
+    public Duration maxWait() {
+        return maxWait;
+    }
+
+    /**
+     * 백그라운드 작업의 분당 호출 예산을 tick마다 균등하게 나눈 값 (올림, 최소 1)
+     * - 한 tick에 몰아서 호출하지 않도록 선제 갱신/시세 수집이 같이 사용
+     */
+    public static int perTick(int budgetPerMinute, Duration interval) {
+        long ticksPerMinute = Math.max(1, Duration.ofMinutes(1).toMillis() / Math.max(1, interval.toMillis()));
+        return (int) Math.max(1, (budgetPerMinute + ticksPerMinute - 1) / ticksPerMinute);
+    }
+
+    private void pauseFor(Duration delay) {
+        bucket.pauseUntil(System.nanoTime() + delay.toNanos());
+    }
+
+    private Duration resetDelay(Map<String, Collection<String>> headers) {
+        Integer resetEpochSeconds = intHeader(headers, HEADER_RESET);
+        if (resetEpochSeconds == null) return defaultBackoff;
+        long delayMillis = resetEpochSeconds * 1000L - System.currentTimeMillis();
+        if (delayMillis <= 0) return Duration.ZERO;
+        return Duration.ofMillis(Math.min(delayMillis, Duration.ofMinutes(1).toMillis()));
+    }
+
+    private static Integer intHeader(Map<String, Collection<String>> headers, String name) {
+        if (headers == null) return null;
+        Collection<String> values = headers.get(name);
+        if (values == null || values.isEmpty()) return null;
+        try {
+            return Integer.parseInt(values.iterator().next().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package kr.elfaka.lostark.character.ratelimit;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 예약(reservation) 방식의 토큰 버킷
+ *
+ * [동작]
+ * - capacity만큼 버스트를 허용하고, 이후에는 interval마다 토큰 1개씩 채워진다.
+ * - 토큰이 없으면 "다음 토큰이 생기는 시각"을 예약해 주고, 호출자는 그 시각까지 기다린다.
+ *   예약은 synchronized 안에서 순서대로 배정되므로 먼저 온 요청이 먼저 나간다. (FIFO 공정성)
+ * - 예약 시각이 deadline을 넘으면 예약하지 않고 -1을 반환한다. (대기열 자리를 차지하지 않음)
+ *
+ * [백오프]
+ * - pauseUntil(t): upstream이 429/쿼터 소진을 알려주면 t까지 새 토큰 배정을 멈춘다.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+
+    private double storedTokens;
+    private long nextFreeNanos;
+
+    public TokenBucket(int capacity, Duration refillPeriod, LongSupplier nanoClock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.nanoClock = nanoClock;
+        this.storedTokens = capacity;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 1개 예약
+     *
+     * @param maxWait 허용 대기 시간
+     * @return 기다려야 할 시간(nanos, 0이면 즉시) / 대기 시간이 maxWait를 넘으면 -1
+     */
+    public synchronized long reserve(Duration maxWait) {
+        long now = nanoClock.getAsLong();
+        resync(now);
+
+        if (storedTokens >= 1) {
+            storedTokens -= 1;
+            return 0;
+        }
+
+        // 부족한 만큼(1 - 남은 소수점 토큰) 채워지는 시각을 예약
+        long moment = nextFreeNanos + (long) ((1 - storedTokens) * intervalNanos);
+        long waitNanos = moment - now;
+        if (waitNanos > maxWait.toNanos()) {
+            return -1;
+        }
+        storedTokens = 0;
+        nextFreeNanos = moment;
+        return waitNanos;
+    }
+
+    /**
+     * 기다리지 않고 바로 쓸 수 있을 때만 토큰 사용 (백그라운드 작업용)
+     */
+    public synchronized boolean tryAcquire() {
+        return reserve(Duration.ZERO) == 0;
+    }
+
+    /**
+     * until(nanoClock 기준)까지 토큰 배정 중단, 저장된 토큰도 비운다.
+     */
+    public synchronized void pauseUntil(long untilNanos) {
+        resync(nanoClock.getAsLong());
+        storedTokens = 0;
+        // 첫 토큰이 정확히 until 시점에 생기도록 한 칸 앞당겨 둔다.
+        nextFreeNanos = Math.max(nextFreeNanos, untilNanos - intervalNanos);
+    }
+
+    /**
+     * upstream이 알려준 남은 쿼터가 로컬 토큰보다 적으면 로컬 토큰을 줄여 맞춘다.
+     */
+    public synchronized void limitTo(int remaining) {
+        resync(nanoClock.getAsLong());
+        storedTokens = Math.min(storedTokens, Math.max(0, remaining));
+    }
+
+    /**
+     * 지금 바로 쓸 수 있는 토큰 수 (쿼터 여유분 메트릭용)
+     */
+    public synchronized double availableTokens() {
+        long now = nanoClock.getAsLong();
+        resync(now);
+        return nextFreeNanos > now ? 0 : storedTokens;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void resync(long now) {
+        if (now > nextFreeNanos) {
+            double refilled = (double) (now - nextFreeNanos) / intervalNanos;
+            storedTokens = Math.min(capacity, storedTokens + refilled);
+            nextFreeNanos = now;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package kr.elfaka.lostark.character.refresh;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import kr.elfaka.lostark.character.service.LostArkService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 인기 캐릭터 선제 갱신
+ *
+ * [동작]
+ * - interval마다 PopularityTracker 상위 top-k 중 캐시가 없거나 fresh 만료가 refresh-ahead 안으로 다가온 캐릭터를
+ *   만료가 가까운 순서로 다시 조회해서 캐시에 넣는다. (인기 캐릭터는 cold miss를 겪지 않도록)
+ *
+ * [쿼터]
+ * - 분당 budget-per-minute개를 tick마다 균등하게 나눠 쓴다. (한 번에 몰아서 호출하지 않음)
+ * - 토큰 버킷에 reserve-tokens개 이하만 남아 있으면 사용자 요청 몫이므로 이번 tick은 건너뛴다.
+ *
+ * [메트릭]
+ * - armory.refresh.hot{result=refreshed|not_found|skipped|failed}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.character.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotCharacterRefresher {
+
+    private final PopularityTracker popularityTracker;
+    private final LostArkService lostArkService;
+    private final LostArkRateLimiter rateLimiter;
+    private final LostArkCircuitBreaker circuitBreaker;
+    private final TwoTierCache<ArmoryTotalDto> armoryCache;
+
+    private final int topK;
+    private final long refreshAheadMillis;
+    private final int reserveTokens;
+    private final int perTick;
+
+    private final Counter refreshed;
+    private final Counter notFound;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public HotCharacterRefresher(PopularityTracker popularityTracker,
+                                 LostArkService lostArkService,
+                                 LostArkRateLimiter rateLimiter,
+                                 LostArkCircuitBreaker circuitBreaker,
+                                 @Qualifier("armoryCache") TwoTierCache<ArmoryTotalDto> armoryCache,
+                                 @Value("${app.character.refresh.top-k:50}") int topK,
+                                 @Value("${app.character.refresh.refresh-ahead:1m}") Duration refreshAhead,
+                                 @Value("${app.character.refresh.reserve-tokens:20}") int reserveTokens,
+                                 @Value("${app.character.refresh.budget-per-minute:20}") int budgetPerMinute,
+                                 @Value("${app.character.refresh.interval:10s}") Duration interval,
+                                 MeterRegistry meterRegistry) {
+        this.popularityTracker = popularityTracker;
+        this.lostArkService = lostArkService;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.armoryCache = armoryCache;
+        this.topK = topK;
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.reserveTokens = reserveTokens;
+        this.perTick = LostArkRateLimiter.perTick(budgetPerMinute, interval);
+
+        this.refreshed = counter(meterRegistry, "refreshed");
+        this.notFound = counter(meterRegistry, "not_found");
+        this.skipped = counter(meterRegistry, "skipped");
+        this.failed = counter(meterRegistry, "failed");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("armory.refresh.hot").tag("result", result).register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.refresh.interval:10s}",
+            initialDelayString = "${app.character.refresh.interval:10s}")
+    public void refreshHotCharacters() {
+        popularityTracker.decay();
+        // upstream 장애 중에는 선제 갱신으로 시험 호출 자리를 쓰지 않음
+        if (circuitBreaker.isOpen()) return;
+
+        long now = System.currentTimeMillis();
+        List<Candidate> candidates = popularityTracker.top(topK).stream()
+                .map(hot -> new Candidate(hot, freshUntil(hot.key())))
+                .filter(c -> c.freshUntil() - now < refreshAheadMillis)
+                .sorted(Comparator.comparingLong(Candidate::freshUntil))
+                .limit(perTick)
+                .toList();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!refresh(candidates.get(i).hot())) {
+                // 쿼터 여유가 없으면 남은 후보는 다음 tick으로
+                skipped.increment(candidates.size() - i);
+                return;
+            }
+        }
+    }
+
+    private boolean refresh(PopularityTracker.Hot hot) {
+        try {
+            return rateLimiter.runIfAvailable(reserveTokens, () -> {
+                if (lostArkService.refreshCharacter(hot.name())) {
+                    refreshed.increment();
+                } else {
+                    notFound.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("hot character refresh failed. name={}", hot.name(), e);
+            return true;
+        }
+    }
+
+    // 캐시에 없으면 0 (가장 먼저 갱신)
+    private long freshUntil(String key) {
+        CacheEntry<ArmoryTotalDto> entry = armoryCache.peek(key);
+        return entry == null ? 0 : entry.freshUntil();
+    }
+
+    private record Candidate(PopularityTracker.Hot hot, long freshUntil) {}
+}
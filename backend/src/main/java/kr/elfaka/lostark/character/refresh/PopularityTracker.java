@@ -0,0 +1,117 @@
+package kr.elfaka.lostark.character.refresh;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 캐릭터별 조회 빈도 (지수 감쇠 카운터)
+ *
+ * - 조회 1회 = +1점, 점수는 half-life마다 절반으로 줄어든다.
+ *   (최근에 많이 조회된 캐릭터일수록 점수가 높음)
+ * - 감쇠는 조회 때가 아니라 decay() 호출 시 한꺼번에 적용한다. (HotCharacterRefresher가 주기적으로 호출)
+ * - 추적 대상 수는 max-tracked로 제한, 가득 차면 새 이름은 다음 decay()에서 자리가 날 때까지 무시한다.
+ */
+@Component
+public class PopularityTracker {
+
+    // 이보다 낮아진 점수는 추적 중단 (1회 조회 후 약 4.3 half-life)
+    private static final double MIN_SCORE = 0.05;
+
+    private final ConcurrentHashMap<String, Score> scores = new ConcurrentHashMap<>();
+    private final Duration halfLife;
+    private final int maxTracked;
+    private final LongSupplier clock;
+
+    private long lastDecayAt;
+
+    @Autowired
+    public PopularityTracker(@Value("${app.character.refresh.half-life:10m}") Duration halfLife,
+                             @Value("${app.character.refresh.max-tracked:10000}") int maxTracked) {
+        this(halfLife, maxTracked, System::currentTimeMillis);
+    }
+
+    PopularityTracker(Duration halfLife, int maxTracked, LongSupplier clock) {
+        this.halfLife = halfLife;
+        this.maxTracked = maxTracked;
+        this.clock = clock;
+        this.lastDecayAt = clock.getAsLong();
+    }
+
+    /**
+     * @param key           정규화된 이름 (캐시 키)
+     * @param characterName 요청에 들어온 이름 (갱신 시 upstream 호출에 사용)
+     */
+    public void record(String key, String characterName) {
+        if (!scores.containsKey(key) && scores.size() >= maxTracked) return;
+        scores.compute(key, (k, score) -> {
+            if (score == null) return new Score(characterName, 1);
+            score.name = characterName;
+            score.value += 1;
+            return score;
+        });
+    }
+
+    /**
+     * 마지막 호출 이후 흐른 시간만큼 모든 점수를 감쇠, 낮아진 항목은 제거
+     */
+    public synchronized void decay() {
+        long now = clock.getAsLong();
+        long elapsed = now - lastDecayAt;
+        if (elapsed <= 0) return;
+        lastDecayAt = now;
+
+        double factor = Math.pow(0.5, (double) elapsed / halfLife.toMillis());
+        scores.replaceAll((k, score) -> {
+            score.value *= factor;
+            return score;
+        });
+        scores.values().removeIf(score -> score.value < MIN_SCORE);
+
+        // 가득 차 있으면 하위 10%를 비워서 새 이름이 들어올 자리를 만든다
+        if (scores.size() >= maxTracked) {
+            List<Hot> all = top(Integer.MAX_VALUE);
+            all.subList(Math.max(0, all.size() - Math.max(1, maxTracked / 10)), all.size())
+                    .forEach(hot -> scores.remove(hot.key()));
+        }
+    }
+
+    /**
+     * 점수 상위 k개 (높은 순)
+     */
+    public List<Hot> top(int k) {
+        List<Hot> result = new ArrayList<>(scores.size());
+        scores.forEach((key, score) -> result.add(new Hot(key, score.name, score.value)));
+        result.sort(Comparator.comparingDouble(Hot::score).reversed());
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * @param key   정규화된 이름
+     * @param name  마지막으로 요청된 이름
+     * @param score 감쇠 반영 점수
+     */
+    public record Hot(String key, String name, double score) {}
+
+    // compute/replaceAll 안에서만 변경 (키 단위로 원자적)
+    private static final class Score {
+        private volatile String name;
+        private volatile double value;
+
+        private Score(String name, double value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package kr.elfaka.lostark.character.roster;
+
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.CharacterSiblingDto.CharacterSibling;
+import kr.elfaka.lostark.character.dto.RosterDto;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.service.CharacterBatchService;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import kr.elfaka.lostark.character.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 원정대(같은 계정 캐릭터 목록) 조회
+ *
+ * [인덱스]
+ * - rosterIndexCache : 캐릭터 이름(정규화) → rosterId
+ * - rosterCache      : rosterId → RosterDto
+ * - upstream에서 한 번 가져오면 원정대의 모든 캐릭터를 인덱스에 넣으므로,
+ *   이후에는 어느 캐릭터로 조회해도 upstream 호출 없이 응답한다.
+ *
+ * [선조회]
+ * - prefetch > 0이면 아이템 레벨 상위 N명의 아머리를 CharacterBatchService로 병렬로 미리 캐시에 올린다.
+ *   (응답은 기다리지 않음, 동시 호출 수는 일괄 조회와 같은 제한을 공유)
+ */
+@Service
+public class RosterService {
+
+    private final LostArkFeignClient lostArkFeignClient;
+    private final TwoTierCache<RosterDto> rosterCache;
+    private final TwoTierCache<String> rosterIndexCache;
+    private final CharacterBatchService characterBatchService;
+    private final LostArkCircuitBreaker circuitBreaker;
+    private final int maxPrefetch;
+
+    private final SingleFlight<String, RosterDto> inFlight;
+
+    public RosterService(LostArkFeignClient lostArkFeignClient,
+                         @Qualifier("rosterCache") TwoTierCache<RosterDto> rosterCache,
+                         @Qualifier("rosterIndexCache") TwoTierCache<String> rosterIndexCache,
+                         CharacterBatchService characterBatchService,
+                         LostArkCircuitBreaker circuitBreaker,
+                         @Value("${app.character.roster.max-prefetch:6}") int maxPrefetch,
+                         @Value("${app.character.single-flight.wait-timeout:10s}") Duration waitTimeout) {
+        this.lostArkFeignClient = lostArkFeignClient;
+        this.rosterCache = rosterCache;
+        this.rosterIndexCache = rosterIndexCache;
+        this.characterBatchService = characterBatchService;
+        this.circuitBreaker = circuitBreaker;
+        this.maxPrefetch = maxPrefetch;
+        this.inFlight = new SingleFlight<>(waitTimeout);
+    }
+
+    /**
+     * @param prefetch 아머리를 미리 조회할 상위 캐릭터 수 (0이면 안 함, 최대 max-prefetch)
+     * @return 존재하지 않는 캐릭터면 null
+     */
+    public RosterDto getRoster(String characterName, int prefetch) {
+        RosterDto roster = lookup(characterName);
+        if (roster != null && prefetch > 0) {
+            prefetch(roster, Math.min(prefetch, maxPrefetch));
+        }
+        return roster;
+    }
+
+    private RosterDto lookup(String characterName) {
+        String key = CharacterNames.normalize(characterName);
+
+        String rosterId = rosterIndexCache.getIfPresent(key, () -> {
+            RosterDto refreshed = fetch(characterName);
+            return refreshed == null ? null : refreshed.rosterId();
+        });
+        if (rosterId != null) {
+            RosterDto cached = rosterCache.getIfPresent(rosterId, () -> fetch(characterName));
+            if (cached != null) return cached;
+        }
+        return fetch(characterName);
+    }
+
+    /**
+     * upstream 조회 후 원정대 전체를 인덱스에 반영
+     */
+    private RosterDto fetch(String characterName) {
+        String key = CharacterNames.normalize(characterName);
+        return inFlight.execute(key, () -> {
+            List<CharacterSibling> siblings = circuitBreaker.execute(() -> lostArkFeignClient.getSiblings(characterName));
+            if (siblings == null || siblings.isEmpty()) return null;
+
+            RosterDto roster = toRoster(siblings);
+            rosterCache.put(roster.rosterId(), roster);
+            for (RosterDto.Member member : roster.members()) {
+                rosterIndexCache.put(CharacterNames.normalize(member.characterName()), roster.rosterId());
+            }
+            return roster;
+        });
+    }
+
+    private void prefetch(RosterDto roster, int count) {
+        List<String> names = roster.members().stream()
+                .limit(count)
+                .map(RosterDto.Member::characterName)
+                .toList();
+        characterBatchService.prefetch(names);
+    }
+
+    private static RosterDto toRoster(List<CharacterSibling> siblings) {
+        List<RosterDto.Member> members = new ArrayList<>(siblings.size());
+        for (CharacterSibling s : siblings) {
+            members.add(new RosterDto.Member(
+                    s.getServerName(),
+                    s.getCharacterName(),
+                    s.getCharacterLevel(),
+                    s.getCharacterClassName(),
+                    s.getItemAvgLevel(),
+                    ItemLevels.parse(s.getItemAvgLevel())
+            ));
+        }
+        members.sort(Comparator.comparing(RosterDto.Member::itemLevel,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return new RosterDto(rosterId(members), List.copyOf(members));
+    }
+
+    /**
+     * 구성 캐릭터 이름(정규화, 정렬)의 해시 → 조회한 캐릭터와 관계없이 같은 원정대면 같은 값
+     */
+    private static String rosterId(List<RosterDto.Member> members) {
+        String joined = String.join("\n", members.stream()
+                .map(m -> CharacterNames.normalize(m.characterName()))
+                .sorted()
+                .toList());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
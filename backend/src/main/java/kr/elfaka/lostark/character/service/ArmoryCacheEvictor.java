@@ -0,0 +1,42 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐릭터 하나의 아머리 캐시(전체/섹션/원본)를 L1/L2에서 지움
+ *
+ * - upstream이 "없는 캐릭터"로 응답했을 때 사용 (삭제/이름 변경된 캐릭터)
+ * - stale 갱신에서 loader가 null을 반환하면 TwoTierCache는 아무것도 저장하지 않으므로,
+ *   여기서 지우지 않으면 이전 값이 staleUntil까지 계속 응답된다.
+ */
+@Component
+public class ArmoryCacheEvictor {
+
+    private final TwoTierCache<ArmoryTotalDto> armoryCache;
+    private final TwoTierCache<ArmoryTotalDto> armorySectionCache;
+    private final TwoTierCache<RawArmoryDto> armoryRawCache;
+
+    public ArmoryCacheEvictor(@Qualifier("armoryCache") TwoTierCache<ArmoryTotalDto> armoryCache,
+                              @Qualifier("armorySectionCache") TwoTierCache<ArmoryTotalDto> armorySectionCache,
+                              @Qualifier("armoryRawCache") TwoTierCache<RawArmoryDto> armoryRawCache) {
+        this.armoryCache = armoryCache;
+        this.armorySectionCache = armorySectionCache;
+        this.armoryRawCache = armoryRawCache;
+    }
+
+    /**
+     * @param key 정규화된 캐릭터 이름
+     */
+    public void evictCharacter(String key) {
+        armoryCache.evict(key);
+        for (ArmorySection section : ArmorySection.values()) {
+            armorySectionCache.evict(LostArkService.sectionKey(key, section));
+        }
+        armoryRawCache.evict(key);
+    }
+}
@@ -0,0 +1,21 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+
+import java.time.Instant;
+
+/**
+ * upstream에서 전체 아머리를 새로 가져왔을 때 발행 (캐시 hit에는 발행하지 않음)
+ * - 스냅샷 기록 등 부가 처리는 이 이벤트를 받아서 요청 경로 밖에서 처리한다.
+ *
+ * @param key           정규화된 캐릭터 이름
+ * @param characterName 요청에 들어온 이름
+ * @param armory        조회 결과의 얕은 사본 (하위 객체는 캐시 값과 공유하므로 수정 금지)
+ * @param fetchedAt     조회 시각
+ */
+public record ArmoryFetchedEvent(
+        String key,
+        String characterName,
+        ArmoryTotalDto armory,
+        Instant fetchedAt
+) {}
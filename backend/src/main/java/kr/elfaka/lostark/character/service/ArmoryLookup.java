@@ -0,0 +1,23 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+
+/**
+ * 캐시를 거친 아머리 조회 결과 + 조건부 요청(ETag/Cache-Control)에 필요한 정보
+ *
+ * @param armory     조회 결과
+ * @param etag       내용 해시 (weak ETag, 알 수 없으면 null)
+ * @param freshUntil 이 시각(epoch millis)까지는 다시 조회해도 같은 값
+ * @param stale      upstream 장애(서킷 브레이커 열림)로 만료된 마지막 값을 대신 반환했는지
+ */
+public record ArmoryLookup(
+        ArmoryTotalDto armory,
+        String etag,
+        long freshUntil,
+        boolean stale
+) {
+
+    public ArmoryLookup(ArmoryTotalDto armory, String etag, long freshUntil) {
+        this(armory, etag, freshUntil, false);
+    }
+}
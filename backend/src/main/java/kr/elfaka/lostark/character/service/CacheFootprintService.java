@@ -0,0 +1,62 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CacheFootprintDto;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.support.StringInternPool;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 캐시된 캐릭터의 힙 사용량 측정 (JOL GraphLayout)
+ *
+ * - 전체를 훑으면 느리고 GC 부담이 있어서 L1 항목 일부만 샘플링한다.
+ * - app.character.intern.enabled를 바꿔가며 재시작 후 같은 조건으로 비교하면 intern 효과를 볼 수 있다.
+ */
+@Service
+public class CacheFootprintService {
+
+    public static final int MAX_SAMPLE = 1000;
+
+    private final List<TwoTierCache<?>> caches;
+    private final StringInternPool internPool;
+
+    public CacheFootprintService(@Qualifier("armoryCache") TwoTierCache<ArmoryTotalDto> armoryCache,
+                                 @Qualifier("armorySectionCache") TwoTierCache<ArmoryTotalDto> armorySectionCache,
+                                 @Qualifier("armoryRawCache") TwoTierCache<RawArmoryDto> armoryRawCache,
+                                 StringInternPool armoryInternPool) {
+        this.caches = List.of(armoryCache, armorySectionCache, armoryRawCache);
+        this.internPool = armoryInternPool;
+    }
+
+    public CacheFootprintDto report(int sample) {
+        int limit = Math.max(0, Math.min(sample, MAX_SAMPLE));
+        List<CacheFootprintDto.Cache> result = caches.stream()
+                .map(cache -> measure(cache, limit))
+                .toList();
+        return new CacheFootprintDto(result, new CacheFootprintDto.Intern(
+                internPool.enabled(),
+                internPool.size(),
+                internPool.hits(),
+                internPool.misses(),
+                internPool.rejected()
+        ));
+    }
+
+    private static CacheFootprintDto.Cache measure(TwoTierCache<?> cache, int limit) {
+        List<? extends CacheEntry<?>> entries = cache.sample(limit);
+        long bytes = entries.isEmpty() ? 0 : GraphLayout.parseInstance(entries.toArray()).totalSize();
+        return new CacheFootprintDto.Cache(
+                cache.name(),
+                cache.size(),
+                entries.size(),
+                bytes,
+                entries.isEmpty() ? 0 : bytes / entries.size()
+        );
+    }
+}
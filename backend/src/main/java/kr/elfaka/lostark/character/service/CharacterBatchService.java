@@ -0,0 +1,164 @@
+package kr.elfaka.lostark.character.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CharacterBatchResponseDto;
+import kr.elfaka.lostark.character.error.InvalidCharacterRequestException;
+import kr.elfaka.lostark.character.error.UpstreamRateLimitedException;
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import kr.elfaka.lostark.character.error.UpstreamUnavailableException;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 캐릭터 일괄 조회 (레이드 공대/길드 페이지용)
+ *
+ * [동작]
+ * - 이름마다 가상 스레드 하나씩 띄워 LostArkService로 조회 (캐시/single-flight 그대로 사용)
+ * - upstream 동시 호출 수는 Semaphore(max-concurrency)로 서비스 전체에서 제한
+ * - fresh 캐시로 응답할 수 있는 이름은 permits를 잡지 않고 바로 응답
+ * - 전체 대기 시간은 timeout으로 제한, 그 안에 끝나지 않은 이름은 UPSTREAM_TIMEOUT으로 응답
+ *   (조회는 인터럽트하지 않는다. single-flight로 다른 요청과 공유 중일 수 있고,
+ *    늦게 끝난 결과도 캐시에 들어가 다음 요청에서 쓰인다.)
+ * - 한 캐릭터의 실패가 다른 캐릭터 결과를 막지 않는다. (부분 성공 응답)
+ */
+@Slf4j
+@Service
+public class CharacterBatchService {
+
+    private final LostArkService lostArkService;
+    private final Semaphore permits;
+    private final int maxNames;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CharacterBatchService(LostArkService lostArkService,
+                                 @Value("${app.character.batch.max-concurrency:8}") int maxConcurrency,
+                                 @Value("${app.character.batch.max-names:60}") int maxNames,
+                                 @Value("${app.character.batch.timeout:15s}") Duration timeout) {
+        this.lostArkService = lostArkService;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxNames = maxNames;
+        this.timeout = timeout;
+    }
+
+    // 마감이 지나 응답과 분리된 조회도 이 executor에서 계속 돌고 있으므로, 컨텍스트 종료 시 끝날 때까지 기다렸다가 닫음
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+
+    public CharacterBatchResponseDto getCharacters(List<String> names, Set<ArmorySection> sections) {
+        if (names == null || names.isEmpty()) {
+            throw new InvalidCharacterRequestException("names is empty");
+        }
+
+        // 정규화 기준 중복 제거 (요청 순서 유지)
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) continue;
+            unique.putIfAbsent(CharacterNames.normalize(name), name.trim());
+        }
+        if (unique.size() > maxNames) {
+            throw new InvalidCharacterRequestException("too many names: " + unique.size() + " (max " + maxNames + ")");
+        }
+
+        List<CharacterBatchResponseDto.Result> results = new ArrayList<>();
+        List<CharacterBatchResponseDto.Error> errors = new ArrayList<>();
+
+        Map<String, Future<ArmoryTotalDto>> futures = new LinkedHashMap<>();
+        for (String name : unique.values()) {
+            futures.put(name, CompletableFuture.supplyAsync(() -> lookup(name, sections), executor));
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Map.Entry<String, Future<ArmoryTotalDto>> e : futures.entrySet()) {
+            String name = e.getKey();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                ArmoryTotalDto armory = e.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                if (armory == null) {
+                    errors.add(new CharacterBatchResponseDto.Error(name, "NOT_FOUND", "character not found"));
+                } else {
+                    results.add(new CharacterBatchResponseDto.Result(name, armory));
+                }
+            } catch (TimeoutException ex) {
+                // 기다리기만 멈춘다. 조회는 계속 진행되어 결과가 캐시에 들어감
+                errors.add(new CharacterBatchResponseDto.Error(name, "UPSTREAM_TIMEOUT", "lookup timed out"));
+            } catch (ExecutionException ex) {
+                errors.add(toError(name, ex.getCause()));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                errors.add(new CharacterBatchResponseDto.Error(name, "UPSTREAM_TIMEOUT", "interrupted"));
+            }
+        }
+
+        return new CharacterBatchResponseDto(results, errors);
+    }
+
+    /**
+     * 결과를 기다리지 않고 전체 아머리를 캐시에 올림 (원정대 선조회 등)
+     * - 동시 호출 수는 일괄 조회와 같은 permits로 제한
+     * - 실패는 로그만 남긴다.
+     */
+    public void prefetch(List<String> names) {
+        for (String name : names) {
+            Thread.ofVirtual().name("armory-prefetch").start(() -> {
+                try {
+                    lookup(name, Set.of());
+                } catch (RuntimeException e) {
+                    log.debug("prefetch failed. name={}", name, e);
+                }
+            });
+        }
+    }
+
+    private ArmoryTotalDto lookup(String name, Set<ArmorySection> sections) {
+        ArmoryTotalDto cached = lostArkService.getFreshCachedSections(name, sections);
+        if (cached != null) return cached;
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamTimeoutException("interrupted while waiting batch permit. name=" + name, e);
+        }
+        try {
+            return lostArkService.getCharacterSections(name, sections);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private CharacterBatchResponseDto.Error toError(String name, Throwable cause) {
+        if (cause instanceof UpstreamTimeoutException) {
+            return new CharacterBatchResponseDto.Error(name, "UPSTREAM_TIMEOUT", cause.getMessage());
+        }
+        if (cause instanceof UpstreamUnavailableException) {
+            return new CharacterBatchResponseDto.Error(name, "UPSTREAM_UNAVAILABLE", cause.getMessage());
+        }
+        if (cause instanceof UpstreamRateLimitedException) {
+            return new CharacterBatchResponseDto.Error(name, "RATE_LIMITED", cause.getMessage());
+        }
+        log.warn("batch lookup failed. name={}", name, cause);
+        return new CharacterBatchResponseDto.Error(name, "UPSTREAM_ERROR", cause.getMessage());
+    }
+}
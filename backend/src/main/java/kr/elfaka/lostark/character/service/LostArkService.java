@@ -1,17 +1,294 @@
 package kr.elfaka.lostark.character.service;
 
+import jakarta.annotation.PreDestroy;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.cache.NegativeCache;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
 import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import kr.elfaka.lostark.character.error.UpstreamUnavailableException;
 import kr.elfaka.lostark.character.feign.LostArkFeignClient;
-import lombok.RequiredArgsConstructor;
+import kr.elfaka.lostark.character.refresh.PopularityTracker;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import kr.elfaka.lostark.character.support.ETags;
+import kr.elfaka.lostark.character.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Service // 필수: Spring이 Bean으로 인식
-@RequiredArgsConstructor
 public class LostArkService {
 
     private final LostArkFeignClient lostArkFeignClient;
+    private final TwoTierCache<ArmoryTotalDto> armoryCache;
+    private final TwoTierCache<ArmoryTotalDto> armorySectionCache;
+    private final NegativeCache armoryNegativeCache;
+    private final ArmoryCacheEvictor cacheEvictor;
+    private final PopularityTracker popularityTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LostArkCircuitBreaker circuitBreaker;
+
+    // 같은 캐릭터에 대한 동시 upstream 호출을 1회로 합침
+    private final SingleFlight<String, ArmoryTotalDto> inFlight;
+
+    // 비동기 조회용 (대부분 upstream 대기 시간이라 가상 스레드)
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration deadline;
+
+    public LostArkService(LostArkFeignClient lostArkFeignClient,
+                          @Qualifier("armoryCache") TwoTierCache<ArmoryTotalDto> armoryCache,
+                          @Qualifier("armorySectionCache") TwoTierCache<ArmoryTotalDto> armorySectionCache,
+                          NegativeCache armoryNegativeCache,
+                          ArmoryCacheEvictor cacheEvictor,
+                          PopularityTracker popularityTracker,
+                          ApplicationEventPublisher eventPublisher,
+                          LostArkCircuitBreaker circuitBreaker,
+                          @Value("${app.character.single-flight.wait-timeout:10s}") Duration waitTimeout,
+                          @Value("${app.character.async.deadline:8s}") Duration deadline) {
+        this.lostArkFeignClient = lostArkFeignClient;
+        this.armoryCache = armoryCache;
+        this.armorySectionCache = armorySectionCache;
+        this.armoryNegativeCache = armoryNegativeCache;
+        this.cacheEvictor = cacheEvictor;
+        this.popularityTracker = popularityTracker;
+        this.eventPublisher = eventPublisher;
+        this.circuitBreaker = circuitBreaker;
+        this.inFlight = new SingleFlight<>(waitTimeout);
+        this.deadline = deadline;
+    }
 
+    // 마감이 지나 응답과 분리된 조회도 이 executor에서 계속 돌고 있으므로, 컨텍스트 종료 시 끝날 때까지 기다렸다가 닫음
+    @PreDestroy
+    public void close() {
+        lookupExecutor.close();
+    }
+
+    // 캐시(L1 → Redis) 우선 조회, 없으면 LostArk API 호출
     public ArmoryTotalDto getCharacterInfo(String characterName) {
-        return lostArkFeignClient.getCharacterInfo(characterName);
+        ArmoryLookup lookup = lookupCharacter(characterName);
+        return lookup == null ? null : lookup.armory();
+    }
+
+    public ArmoryTotalDto getCharacterSections(String characterName, Set<ArmorySection> sections) {
+        ArmoryLookup lookup = lookupCharacterSections(characterName, sections);
+        return lookup == null ? null : lookup.armory();
+    }
+
+    /**
+     * getCharacterInfo()와 같지만 ETag/fresh 시각을 같이 반환 (존재하지 않는 캐릭터면 null)
+     * - 서킷 브레이커가 열려 있으면 L1에 남아 있는 마지막 값을 stale로 반환 (없으면 UpstreamUnavailableException)
+     * - 최근에 없다고 확인된 캐릭터는 upstream을 호출하지 않고 바로 null
+     */
+    public ArmoryLookup lookupCharacter(String characterName) {
+        String key = CharacterNames.normalize(characterName);
+        popularityTracker.record(key, characterName);
+        CacheEntry<ArmoryTotalDto> entry;
+        try {
+            entry = armoryCache.getEntry(key, () -> fetch(key, characterName));
+        } catch (UpstreamUnavailableException e) {
+            CacheEntry<ArmoryTotalDto> last = lastKnown(key, e);
+            return new ArmoryLookup(last.value(), last.etag(), last.freshUntil(), true);
+        }
+        return entry == null ? null : new ArmoryLookup(entry.value(), entry.etag(), entry.freshUntil());
+    }
+
+    /**
+     * 요청한 섹션만 조회
+     * - 섹션별로 캐시를 따로 두고, 캐시에 없는 섹션만 모아서 filters로 한 번에 upstream 호출
+     * - 전체 armory가 fresh 상태로 L1에 있으면 거기서 잘라서 응답
+     * - sections가 비어 있으면 전체 조회와 동일
+     * - ETag는 응답을 구성한 캐시 항목들의 ETag를 합쳐서 만든다. (응답을 다시 직렬화하지 않음)
+     */
+    public ArmoryLookup lookupCharacterSections(String characterName, Set<ArmorySection> sections) {
+        if (sections.isEmpty() || sections.size() == ArmorySection.values().length) {
+            return lookupCharacter(characterName);
+        }
+        String key = CharacterNames.normalize(characterName);
+        String filters = ArmorySection.toFilters(sections);
+        popularityTracker.record(key, characterName);
+
+        CacheEntry<ArmoryTotalDto> full = armoryCache.peek(key);
+        if (full != null && full.isFresh(System.currentTimeMillis())) {
+            return new ArmoryLookup(ArmorySection.select(full.value(), sections),
+                    ETags.combine(full.etag(), filters), full.freshUntil());
+        }
+
+        ArmoryTotalDto result = new ArmoryTotalDto();
+
+        // 섹션 순서(enum 순서)대로 ETag를 모아야 요청 순서와 관계없이 같은 값이 나옴
+        Map<ArmorySection, String> etags = new EnumMap<>(ArmorySection.class);
+        long freshUntil = Long.MAX_VALUE;
+
+        EnumSet<ArmorySection> missing = EnumSet.noneOf(ArmorySection.class);
+        for (ArmorySection section : sections) {
+            CacheEntry<ArmoryTotalDto> cached = armorySectionCache.getEntryIfPresent(
+                    sectionKey(key, section),
+                    () -> fetchSections(key, characterName, EnumSet.of(section))
+            );
+            if (cached == null) {
+                missing.add(section);
+            } else {
+                section.copy(cached.value(), result);
+                etags.put(section, cached.etag());
+                freshUntil = Math.min(freshUntil, cached.freshUntil());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            ArmoryTotalDto fetched;
+            try {
+                fetched = fetchSections(key, characterName, missing);
+            } catch (UpstreamUnavailableException e) {
+                CacheEntry<ArmoryTotalDto> last = lastKnown(key, e);
+                return new ArmoryLookup(ArmorySection.select(last.value(), sections),
+                        ETags.combine(last.etag(), filters), last.freshUntil(), true);
+            }
+            if (fetched == null) return null; // 존재하지 않는 캐릭터
+            for (ArmorySection section : missing) {
+                section.copy(fetched, result);
+                CacheEntry<ArmoryTotalDto> stored = armorySectionCache.put(sectionKey(key, section), section.slice(fetched));
+                etags.put(section, stored.etag());
+                freshUntil = Math.min(freshUntil, stored.freshUntil());
+            }
+        }
+        return new ArmoryLookup(result, ETags.combine(etags.values().toArray(String[]::new)), freshUntil);
+    }
+
+    /**
+     * upstream을 부르지 않고 fresh 상태의 L1 항목만으로 응답할 수 있으면 그 결과, 아니면 null
+     * - 일괄 조회가 캐시 hit에 upstream 동시 호출 슬롯을 쓰지 않도록 먼저 확인하는 용도
+     * - null이 "존재하지 않는 캐릭터"를 뜻하지는 않는다. (그 판단은 getCharacterSections()에서)
+     */
+    public ArmoryTotalDto getFreshCachedSections(String characterName, Set<ArmorySection> sections) {
+        String key = CharacterNames.normalize(characterName);
+        long now = System.currentTimeMillis();
+        boolean all = sections.isEmpty() || sections.size() == ArmorySection.values().length;
+
+        ArmoryTotalDto result;
+        CacheEntry<ArmoryTotalDto> full = armoryCache.peek(key);
+        if (full != null && full.isFresh(now)) {
+            result = all ? full.value() : ArmorySection.select(full.value(), sections);
+        } else if (all) {
+            return null;
+        } else {
+            result = new ArmoryTotalDto();
+            for (ArmorySection section : sections) {
+                CacheEntry<ArmoryTotalDto> cached = armorySectionCache.peek(sectionKey(key, section));
+                if (cached == null || !cached.isFresh(now)) return null;
+                section.copy(cached.value(), result);
+            }
+        }
+        popularityTracker.record(key, characterName);
+        return result;
+    }
+
+    /**
+     * L1에 있는 전체 armory (fresh 여부와 관계없이, upstream/L2는 부르지 않음), 없으면 null
+     * - 섹션만 조회한 응답과 비교할 전체 응답 크기를 재는 용도
+     */
+    public ArmoryLookup peekCharacter(String characterName) {
+        CacheEntry<ArmoryTotalDto> full = armoryCache.peek(CharacterNames.normalize(characterName));
+        return full == null ? null : new ArmoryLookup(full.value(), full.etag(), full.freshUntil());
+    }
+
+    /**
+     * 캐시 상태와 관계없이 upstream에서 다시 가져와 전체 캐시에 반영 (HotCharacterRefresher용)
+     *
+     * @return 존재하지 않는 캐릭터면 false
+     */
+    public boolean refreshCharacter(String characterName) {
+        String key = CharacterNames.normalize(characterName);
+        ArmoryTotalDto fetched = fetch(key, characterName);
+        if (fetched == null) return false;
+        armoryCache.put(key, fetched);
+        return true;
+    }
+
+    /**
+     * 만료 여부와 관계없이 L1에 남아 있는 전체 아머리 (upstream 장애 시 대체 응답용)
+     *
+     * @throws UpstreamUnavailableException 남아 있는 값이 없을 때 (원래 예외)
+     */
+    private CacheEntry<ArmoryTotalDto> lastKnown(String key, UpstreamUnavailableException e) {
+        CacheEntry<ArmoryTotalDto> last = armoryCache.peek(key);
+        if (last == null) throw e;
+        return last;
+    }
+
+    // 캐시 miss일 때만 확인하므로 캐시 hit 경로에는 Redis 조회가 늘지 않음
+    private ArmoryTotalDto fetch(String key, String characterName) {
+        if (armoryNegativeCache.contains(key)) return null;
+        return inFlight.execute(key, () -> {
+            ArmoryTotalDto fetched = circuitBreaker.execute(() -> lostArkFeignClient.getCharacterInfo(characterName));
+            if (fetched != null) {
+                // 리스너가 getter로 섹션을 디코딩해도 캐시에 들어갈 인스턴스에는 객체가 남지 않도록 사본을 넘김
+                ArmoryTotalDto copy = ArmorySection.select(fetched, EnumSet.allOf(ArmorySection.class));
+                eventPublisher.publishEvent(new ArmoryFetchedEvent(key, characterName, copy, Instant.now()));
+            } else {
+                markMissing(key);
+            }
+            return fetched;
+        });
+    }
+
+    private ArmoryTotalDto fetchSections(String key, String characterName, Set<ArmorySection> sections) {
+        if (armoryNegativeCache.contains(key)) return null;
+        String filters = ArmorySection.toFilters(sections);
+        return inFlight.execute(key + "|" + filters, () -> {
+            ArmoryTotalDto fetched = circuitBreaker.execute(() -> lostArkFeignClient.getCharacterSections(characterName, filters));
+            if (fetched == null) {
+                markMissing(key);
+            }
+            return fetched;
+        });
+    }
+
+    /**
+     * lookupCharacterSections()의 비동기 버전 (컨트롤러가 서블릿 스레드를 반납하고 기다리기 위함)
+     * - 전체 armory가 fresh 상태로 L1에 있으면 호출한 스레드에서 바로 완료
+     * - 그 외에는 가상 스레드에서 조회하고, deadline이 지나면 UpstreamTimeoutException으로 완료
+     *   (조회 자체는 멈추지 않으므로 늦게 끝난 결과도 캐시에는 들어감)
+     */
+    public CompletableFuture<ArmoryLookup> lookupCharacterSectionsAsync(String characterName, Set<ArmorySection> sections) {
+        CacheEntry<ArmoryTotalDto> full = armoryCache.peek(CharacterNames.normalize(characterName));
+        if (full != null && full.isFresh(System.currentTimeMillis())) {
+            return CompletableFuture.completedFuture(lookupCharacterSections(characterName, sections));
+        }
+        return CompletableFuture.supplyAsync(() -> lookupCharacterSections(characterName, sections), lookupExecutor)
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        throw new UpstreamTimeoutException(
+                                "character lookup exceeded deadline " + deadline.toMillis() + "ms. name=" + characterName, cause);
+                    }
+                    throw e instanceof CompletionException ce ? ce : new CompletionException(cause);
+                });
+    }
+
+    // 삭제/이름 변경된 캐릭터: stale 갱신이 null을 받아도 이전 값이 남지 않도록 캐시도 같이 지움
+    private void markMissing(String key) {
+        armoryNegativeCache.put(key);
+        cacheEvictor.evictCharacter(key);
+    }
+
+    static String sectionKey(String key, ArmorySection section) {
+        return key + "|" + section.filter();
     }
-}
\ No newline at end of file
+}
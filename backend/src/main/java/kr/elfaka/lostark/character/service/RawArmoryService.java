@@ -0,0 +1,95 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.cache.NegativeCache;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.error.UpstreamUnavailableException;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import kr.elfaka.lostark.character.support.ETags;
+import kr.elfaka.lostark.character.support.Gzip;
+import kr.elfaka.lostark.character.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 원본 JSON pass-through 조회
+ *
+ * - upstream 응답 바이트를 ArmoryTotalDto로 역직렬화하지 않고 그대로 전달한다.
+ * - 받자마자 한 번만 gzip 압축해서 캐시하고, 이후 응답은 압축된 바이트를 그대로 쓴다.
+ * - ETag도 이때 원본 바이트로 한 번만 계산한다.
+ * - 서킷 브레이커가 열려 있으면 L1에 남아 있는 마지막 값을 만료 여부와 관계없이 반환한다.
+ */
+@Service
+public class RawArmoryService {
+
+    private final LostArkFeignClient lostArkFeignClient;
+    private final TwoTierCache<RawArmoryDto> armoryRawCache;
+    private final NegativeCache armoryNegativeCache;
+    private final ArmoryCacheEvictor cacheEvictor;
+    private final LostArkCircuitBreaker circuitBreaker;
+    private final SingleFlight<String, RawArmoryDto> inFlight;
+
+    public RawArmoryService(LostArkFeignClient lostArkFeignClient,
+                            @Qualifier("armoryRawCache") TwoTierCache<RawArmoryDto> armoryRawCache,
+                            NegativeCache armoryNegativeCache,
+                            ArmoryCacheEvictor cacheEvictor,
+                            LostArkCircuitBreaker circuitBreaker,
+                            @Value("${app.character.single-flight.wait-timeout:10s}") Duration waitTimeout) {
+        this.lostArkFeignClient = lostArkFeignClient;
+        this.armoryRawCache = armoryRawCache;
+        this.armoryNegativeCache = armoryNegativeCache;
+        this.cacheEvictor = cacheEvictor;
+        this.circuitBreaker = circuitBreaker;
+        this.inFlight = new SingleFlight<>(waitTimeout);
+    }
+
+    /**
+     * @return gzip 압축된 원본 / 존재하지 않는 캐릭터면 null
+     */
+    public RawArmoryDto getCharacterRaw(String characterName) {
+        CacheEntry<RawArmoryDto> entry = getCharacterRawEntry(characterName);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * getCharacterRaw()와 같지만 fresh 시각(Cache-Control 계산용)이 담긴 캐시 항목을 반환
+     * - upstream 장애로 만료된 값을 대신 반환한 경우 isServable(now)가 false
+     */
+    public CacheEntry<RawArmoryDto> getCharacterRawEntry(String characterName) {
+        String key = CharacterNames.normalize(characterName);
+        try {
+            return armoryRawCache.getEntry(key, () -> armoryNegativeCache.contains(key)
+                    ? null
+                    : inFlight.execute(key, () -> fetch(key, characterName)));
+        } catch (UpstreamUnavailableException e) {
+            CacheEntry<RawArmoryDto> last = armoryRawCache.peek(key);
+            if (last == null) throw e;
+            return last;
+        }
+    }
+
+    private RawArmoryDto fetch(String key, String characterName) {
+        byte[] body = circuitBreaker.execute(() -> lostArkFeignClient.getCharacterRaw(characterName));
+        if (isEmptyBody(body)) {
+            armoryNegativeCache.put(key);
+            cacheEvictor.evictCharacter(key);
+            return null;
+        }
+        return new RawArmoryDto(Gzip.compress(body), body.length, ETags.of(body));
+    }
+
+    // 없는 캐릭터는 본문이 비어 있거나 "null" (짧은 본문만 문자열로 확인)
+    private static boolean isEmptyBody(byte[] body) {
+        if (body == null || body.length == 0) return true;
+        if (body.length > 16) return false;
+        String trimmed = new String(body, StandardCharsets.US_ASCII).trim();
+        return trimmed.isEmpty() || "null".equals(trimmed);
+    }
+}
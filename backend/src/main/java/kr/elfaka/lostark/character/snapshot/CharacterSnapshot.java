@@ -0,0 +1,61 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 캐릭터 아머리 스냅샷 (변경이 있을 때만 기록)
+ *
+ * - KEYFRAME: 전체 JSON / DELTA: 직전 스냅샷 대비 JsonDelta 패치
+ * - payload는 gzip 압축된 JSON
+ * - 운영은 ddl-auto: validate라서 resources/db/character_snapshot.sql로 테이블을 먼저 만들어야 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "character_snapshot",
+        indexes = @Index(name = "idx_character_snapshot_key_time", columnList = "character_key, captured_at"))
+public class CharacterSnapshot {
+
+    public enum Kind { KEYFRAME, DELTA }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "character_key", nullable = false, length = 64)
+    private String characterKey;
+
+    @Column(name = "captured_at", nullable = false)
+    private Instant capturedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    // 전체 JSON의 내용 해시 (변경 여부 판단용)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 아이템 레벨 시계열 조회 시 payload를 읽지 않도록 따로 저장
+    @Column(name = "item_avg_level")
+    private Double itemAvgLevel;
+
+    @Builder
+    public CharacterSnapshot(String characterKey, Instant capturedAt, Kind kind, byte[] payload,
+                             String contentHash, Double itemAvgLevel) {
+        this.characterKey = characterKey;
+        this.capturedAt = capturedAt;
+        this.kind = kind;
+        this.payload = payload;
+        this.contentHash = contentHash;
+        this.itemAvgLevel = itemAvgLevel;
+    }
+}
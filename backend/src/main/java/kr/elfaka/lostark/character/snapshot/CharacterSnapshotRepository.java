@@ -0,0 +1,28 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CharacterSnapshotRepository extends JpaRepository<CharacterSnapshot, Long> {
+
+    // at 이전 마지막 키프레임
+    Optional<CharacterSnapshot> findFirstByCharacterKeyAndKindAndCapturedAtLessThanEqualOrderByCapturedAtDescIdDesc(
+            String characterKey, CharacterSnapshot.Kind kind, Instant at);
+
+    // 키프레임 이후 ~ at까지 (키프레임 자신 제외)
+    List<CharacterSnapshot> findByCharacterKeyAndIdGreaterThanAndCapturedAtLessThanEqualOrderByIdAsc(
+            String characterKey, Long afterId, Instant at);
+
+    // payload 없이 시각/아이템 레벨만
+    List<ItemLevelPoint> findByCharacterKeyAndCapturedAtBetweenOrderByCapturedAtAsc(
+            String characterKey, Instant from, Instant to);
+
+    interface ItemLevelPoint {
+        Instant getCapturedAt();
+
+        Double getItemAvgLevel();
+    }
+}
@@ -0,0 +1,256 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.cache.LruCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.ItemLevelSeriesDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import kr.elfaka.lostark.character.support.Gzip;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 캐릭터 스냅샷 이력
+ *
+ * [기록]
+ * - ArmoryFetchedEvent(upstream 전체 조회)를 큐에만 넣고, flush-interval마다 모아서 saveAll (요청 경로에서 DB 접근 없음)
+ * - 직전 스냅샷과 내용 해시가 같으면 기록하지 않는다.
+ * - 바뀌었으면 직전 대비 JsonDelta 패치(DELTA)를, keyframe-interval번째마다 또는 패치가 전체의 절반보다 크면 전체(KEYFRAME)를 저장
+ * - 직전 상태(JSON 트리)는 LRU로 메모리에 두고, 없으면 DB에서 복원한다.
+ *
+ * [조회]
+ * - 특정 시각: 그 이전 마지막 KEYFRAME + 이후 DELTA를 순서대로 적용
+ * - 아이템 레벨: payload 없이 item_avg_level 컬럼만 읽어서 값이 바뀐 시점만 반환
+ *
+ * [메트릭]
+ * - armory.snapshot.writes{kind=keyframe|delta|unchanged}
+ * - armory.snapshot.dropped : 큐가 가득 차서 버린 이벤트 수
+ * - armory.snapshot.queue : 대기 중인 이벤트 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.character.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CharacterSnapshotService {
+
+    private final CharacterSnapshotRepository repository;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ArmoryFetchedEvent> queue;
+    private final LruCache<String, State> states;
+    private final int keyframeInterval;
+    private final int flushBatchSize;
+
+    private final Counter keyframes;
+    private final Counter deltas;
+    private final Counter unchanged;
+    private final Counter dropped;
+
+    public CharacterSnapshotService(CharacterSnapshotRepository repository,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.character.snapshot.keyframe-interval:20}") int keyframeInterval,
+                                    @Value("${app.character.snapshot.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${app.character.snapshot.flush-batch-size:500}") int flushBatchSize,
+                                    @Value("${app.character.snapshot.state-max-entries:2000}") int stateMaxEntries,
+                                    MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.states = new LruCache<>(stateMaxEntries);
+        this.keyframeInterval = keyframeInterval;
+        this.flushBatchSize = flushBatchSize;
+
+        this.keyframes = writes(meterRegistry, "keyframe");
+        this.deltas = writes(meterRegistry, "delta");
+        this.unchanged = writes(meterRegistry, "unchanged");
+        this.dropped = Counter.builder("armory.snapshot.dropped").register(meterRegistry);
+        Gauge.builder("armory.snapshot.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    private static Counter writes(MeterRegistry registry, String kind) {
+        return Counter.builder("armory.snapshot.writes").tag("kind", kind).register(registry);
+    }
+
+    @EventListener
+    public void onArmoryFetched(ArmoryFetchedEvent event) {
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.snapshot.flush-interval:5s}")
+    public void flush() {
+        List<ArmoryFetchedEvent> events = new ArrayList<>();
+        while (queue.drainTo(events, flushBatchSize) > 0) {
+            List<CharacterSnapshot> snapshots = new ArrayList<>();
+            for (ArmoryFetchedEvent event : events) {
+                try {
+                    CharacterSnapshot snapshot = toSnapshot(event);
+                    if (snapshot != null) snapshots.add(snapshot);
+                } catch (RuntimeException e) {
+                    states.remove(event.key());
+                    log.warn("snapshot build failed. key={}", event.key(), e);
+                }
+            }
+            save(snapshots);
+            events.clear();
+        }
+    }
+
+    /**
+     * at 시점의 아머리 (그 이전 스냅샷이 없으면 null)
+     */
+    public ArmoryTotalDto getAt(String characterName, Instant at) {
+        JsonNode tree = reconstruct(CharacterNames.normalize(characterName), at).tree();
+        if (tree == null) return null;
+        try {
+            return objectMapper.treeToValue(tree, ArmoryTotalDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ItemLevelSeriesDto getItemLevelSeries(String characterName, Instant from, Instant to) {
+        List<CharacterSnapshotRepository.ItemLevelPoint> points = repository
+                .findByCharacterKeyAndCapturedAtBetweenOrderByCapturedAtAsc(CharacterNames.normalize(characterName), from, to);
+
+        long[] timestamps = new long[points.size()];
+        double[] levels = new double[points.size()];
+        int n = 0;
+        for (CharacterSnapshotRepository.ItemLevelPoint point : points) {
+            Double level = point.getItemAvgLevel();
+            if (level == null || n > 0 && levels[n - 1] == level) continue;
+            timestamps[n] = point.getCapturedAt().toEpochMilli();
+            levels[n] = level;
+            n++;
+        }
+        return new ItemLevelSeriesDto(characterName,
+                Arrays.copyOf(timestamps, n), Arrays.copyOf(levels, n));
+    }
+
+    private CharacterSnapshot toSnapshot(ArmoryFetchedEvent event) {
+        JsonNode tree = objectMapper.valueToTree(event.armory());
+        byte[] json = write(tree);
+        String hash = sha256(json);
+
+        State previous = states.get(event.key());
+        if (previous == null) {
+            previous = reconstruct(event.key(), event.fetchedAt());
+        }
+        if (hash.equals(previous.hash())) {
+            unchanged.increment();
+            return null;
+        }
+
+        CharacterSnapshot.Kind kind = CharacterSnapshot.Kind.KEYFRAME;
+        byte[] full = Gzip.compress(json);
+        byte[] payload = full;
+        if (previous.tree() != null && previous.sinceKeyframe() + 1 < keyframeInterval) {
+            byte[] delta = Gzip.compress(write(JsonDelta.diff(previous.tree(), tree)));
+            if (delta.length * 2 <= full.length) {
+                kind = CharacterSnapshot.Kind.DELTA;
+                payload = delta;
+            }
+        }
+        (kind == CharacterSnapshot.Kind.KEYFRAME ? keyframes : deltas).increment();
+        states.put(event.key(), new State(tree, hash,
+                kind == CharacterSnapshot.Kind.KEYFRAME ? 0 : previous.sinceKeyframe() + 1));
+
+        return CharacterSnapshot.builder()
+                .characterKey(event.key())
+                .capturedAt(event.fetchedAt())
+                .kind(kind)
+                .payload(payload)
+                .contentHash(hash)
+                .itemAvgLevel(ItemLevels.avgLevel(event.armory()))
+                .build();
+    }
+
+    private void save(List<CharacterSnapshot> snapshots) {
+        if (snapshots.isEmpty()) return;
+        try {
+            repository.saveAll(snapshots);
+        } catch (RuntimeException e) {
+            // 메모리 상태만 앞서 나가지 않도록 해당 캐릭터 상태는 다음에 DB에서 다시 복원
+            snapshots.forEach(s -> states.remove(s.getCharacterKey()));
+            log.warn("snapshot save failed. count={}", snapshots.size(), e);
+        }
+    }
+
+    // at 시점 상태 (이력이 없으면 tree == null)
+    private State reconstruct(String key, Instant at) {
+        CharacterSnapshot keyframe = repository
+                .findFirstByCharacterKeyAndKindAndCapturedAtLessThanEqualOrderByCapturedAtDescIdDesc(
+                        key, CharacterSnapshot.Kind.KEYFRAME, at)
+                .orElse(null);
+        if (keyframe == null) return new State(null, null, 0);
+
+        JsonNode tree = read(keyframe.getPayload());
+        String hash = keyframe.getContentHash();
+        int sinceKeyframe = 0;
+        for (CharacterSnapshot delta : repository
+                .findByCharacterKeyAndIdGreaterThanAndCapturedAtLessThanEqualOrderByIdAsc(key, keyframe.getId(), at)) {
+            if (delta.getKind() == CharacterSnapshot.Kind.KEYFRAME) {
+                tree = read(delta.getPayload());
+                sinceKeyframe = 0;
+            } else {
+                tree = JsonDelta.apply(tree, read(delta.getPayload()));
+                sinceKeyframe++;
+            }
+            hash = delta.getContentHash();
+        }
+        return new State(tree, hash, sinceKeyframe);
+    }
+
+    private byte[] write(JsonNode tree) {
+        try {
+            return objectMapper.writeValueAsBytes(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode read(byte[] gzipped) {
+        try {
+            return objectMapper.readTree(Gzip.decompress(gzipped));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return Base64.getEncoder().withoutPadding()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param tree          직전 스냅샷 전체 JSON (이력이 없으면 null)
+     * @param hash          직전 스냅샷 내용 해시
+     * @param sinceKeyframe 직전 키프레임 이후 DELTA 수
+     */
+    private record State(JsonNode tree, String hash, int sinceKeyframe) {}
+}
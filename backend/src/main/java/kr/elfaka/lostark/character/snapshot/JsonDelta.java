@@ -0,0 +1,132 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JSON 트리 구조 diff / 적용 (JSON Merge Patch(RFC 7396) + 배열 인덱스 패치)
+ *
+ * [패치 형식]
+ * - 객체: 바뀐 필드만 담는다. 값이 null이면 해당 필드 삭제
+ * - 배열: {"$len": 새 길이, "3": 3번 원소 패치, ...} (바뀐 인덱스만)
+ *   Merge Patch는 배열을 통째로 바꾸는데, 장비/보석 배열은 원소 한두 개만 바뀌는 경우가 대부분이라 인덱스 단위로 기록한다.
+ * - 그 외(타입이 다르거나 스칼라): 새 값 그대로
+ *
+ * 원본의 명시적 null과 필드 없음은 구분하지 않는다. (DTO로 역직렬화하면 둘 다 null)
+ */
+public final class JsonDelta {
+
+    static final String ARRAY_LENGTH = "$len";
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private JsonDelta() {
+    }
+
+    /**
+     * @return before → after 패치 (같으면 빈 객체)
+     */
+    public static JsonNode diff(JsonNode before, JsonNode after) {
+        if (before != null && before.isObject() && after.isObject()) {
+            return diffObject((ObjectNode) before, (ObjectNode) after);
+        }
+        if (before != null && before.isArray() && after.isArray()) {
+            return diffArray((ArrayNode) before, (ArrayNode) after);
+        }
+        return after;
+    }
+
+    /**
+     * base에 patch를 적용한 새 트리 (base는 바뀌지 않음)
+     */
+    public static JsonNode apply(JsonNode base, JsonNode patch) {
+        if (patch.isObject() && patch.has(ARRAY_LENGTH) && base != null && base.isArray()) {
+            return applyArray((ArrayNode) base, (ObjectNode) patch);
+        }
+        if (patch.isObject()) {
+            ObjectNode result = base != null && base.isObject() ? ((ObjectNode) base).deepCopy() : NODES.objectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isNull()) {
+                    result.remove(field.getKey());
+                } else {
+                    result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+                }
+            }
+            return result;
+        }
+        return patch;
+    }
+
+    public static boolean isEmpty(JsonNode patch) {
+        return patch.isObject() && patch.isEmpty();
+    }
+
+    private static ObjectNode diffObject(ObjectNode before, ObjectNode after) {
+        ObjectNode patch = NODES.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode old = before.get(field.getKey());
+            JsonNode now = field.getValue();
+            if (now.isNull()) {
+                if (old != null && !old.isNull()) patch.set(field.getKey(), NullNode.instance);
+            } else if (old == null || old.isNull()) {
+                patch.set(field.getKey(), now);
+            } else if (!old.equals(now)) {
+                patch.set(field.getKey(), diffValue(old, now));
+            }
+        }
+        Iterator<String> names = before.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!after.has(name) && !before.get(name).isNull()) patch.set(name, NullNode.instance);
+        }
+        return patch;
+    }
+
+    private static JsonNode diffArray(ArrayNode before, ArrayNode after) {
+        ObjectNode patch = NODES.objectNode();
+        patch.put(ARRAY_LENGTH, after.size());
+        for (int i = 0; i < after.size(); i++) {
+            JsonNode now = after.get(i);
+            JsonNode old = i < before.size() ? before.get(i) : null;
+            if (old == null) {
+                patch.set(Integer.toString(i), now);
+            } else if (!old.equals(now)) {
+                patch.set(Integer.toString(i), diffValue(old, now));
+            }
+        }
+        return patch;
+    }
+
+    // 객체끼리/배열끼리만 재귀 diff, 타입이 바뀌면 새 값으로 교체
+    private static JsonNode diffValue(JsonNode old, JsonNode now) {
+        if (old.isObject() && now.isObject() || old.isArray() && now.isArray()) {
+            return diff(old, now);
+        }
+        return now;
+    }
+
+    private static ArrayNode applyArray(ArrayNode base, ObjectNode patch) {
+        int length = patch.get(ARRAY_LENGTH).asInt();
+        ArrayNode result = NODES.arrayNode(length);
+        for (int i = 0; i < length; i++) {
+            JsonNode old = i < base.size() ? base.get(i) : null;
+            JsonNode elementPatch = patch.get(Integer.toString(i));
+            if (elementPatch == null) {
+                result.add(old == null ? NullNode.instance : old.deepCopy());
+            } else {
+                result.add(old == null ? elementPatch : apply(old, elementPatch));
+            }
+        }
+        return result;
+    }
+}
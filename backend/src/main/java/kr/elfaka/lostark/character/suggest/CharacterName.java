@@ -0,0 +1,53 @@
+package kr.elfaka.lostark.character.suggest;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 조회에 성공한 캐릭터 이름 (자동완성 색인을 재시작 후 복원하기 위한 저장본)
+ *
+ * - 캐릭터당 한 행, 다시 조회되면 서버/직업/아이템 레벨/시각을 덮어쓴다.
+ * - 운영은 ddl-auto: validate라서 resources/db/character_name.sql로 테이블을 먼저 만들어야 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "character_name",
+        indexes = @Index(name = "idx_character_name_last_seen", columnList = "last_seen_at"))
+public class CharacterName {
+
+    // 정규화된 이름
+    @Id
+    @Column(name = "character_key", length = 64)
+    private String characterKey;
+
+    @Column(name = "character_name", nullable = false, length = 64)
+    private String characterName;
+
+    @Column(name = "server_name", length = 32)
+    private String serverName;
+
+    @Column(name = "class_name", length = 32)
+    private String characterClassName;
+
+    @Column(name = "item_avg_level")
+    private Double itemAvgLevel;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private Instant lastSeenAt;
+
+    @Builder
+    public CharacterName(String characterKey, String characterName, String serverName, String characterClassName,
+                         Double itemAvgLevel, Instant lastSeenAt) {
+        this.characterKey = characterKey;
+        this.characterName = characterName;
+        this.serverName = serverName;
+        this.characterClassName = characterClassName;
+        this.itemAvgLevel = itemAvgLevel;
+        this.lastSeenAt = lastSeenAt;
+    }
+}
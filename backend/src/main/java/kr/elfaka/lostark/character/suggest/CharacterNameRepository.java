@@ -0,0 +1,12 @@
+package kr.elfaka.lostark.character.suggest;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CharacterNameRepository extends JpaRepository<CharacterName, String> {
+
+    // 최근에 본 순서 (재시작 시 색인 복원용, count 쿼리 없음)
+    List<CharacterName> findAllByOrderByLastSeenAtDescCharacterKeyAsc(Pageable pageable);
+}
@@ -0,0 +1,159 @@
+package kr.elfaka.lostark.character.suggest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.CharacterSuggestDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import kr.elfaka.lostark.character.support.CharacterNames;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐릭터 이름 자동완성 (/api/character/suggest)
+ *
+ * [색인]
+ * - upstream 전체 조회에 성공할 때마다(ArmoryFetchedEvent) 이름/서버/직업/아이템 레벨을 NamePrefixIndex에 넣는다.
+ * - 조회에 성공한 이름만 들어가므로 자동완성 결과로 다시 조회하면 없는 캐릭터가 나오지 않는다.
+ * - 메모리는 max-entries로 제한 (넘으면 오래전에 조회된 캐릭터부터 제외)
+ *
+ * [저장/복원]
+ * - 바뀐 항목만 모아 두었다가 flush-interval마다 character_name 테이블에 저장
+ * - 시작 시 ApplicationReadyEvent 이후 가상 스레드에서 최근 조회 순으로 max-entries까지 읽어서 복원
+ *   (readiness를 막지 않음, 복원 중에는 그때까지 들어온 이름만 검색됨)
+ *
+ * [메트릭]
+ * - armory.suggest.size : 색인된 이름 수
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.character.suggest", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CharacterSuggestService {
+
+    private final CharacterNameRepository repository;
+    private final NamePrefixIndex index;
+    private final int maxEntries;
+    private final int pageSize;
+
+    // 저장 대기 중인 변경분 (키: 정규화된 이름)
+    private final Map<String, NamePrefixIndex.Entry> dirty = new ConcurrentHashMap<>();
+
+    public CharacterSuggestService(CharacterNameRepository repository,
+                                   @Value("${app.character.suggest.max-entries:300000}") int maxEntries,
+                                   @Value("${app.character.suggest.merge-threshold:1024}") int mergeThreshold,
+                                   @Value("${app.character.suggest.load-page-size:5000}") int pageSize,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.index = new NamePrefixIndex(maxEntries, mergeThreshold);
+        this.maxEntries = maxEntries;
+        this.pageSize = pageSize;
+        Gauge.builder("armory.suggest.size", index, NamePrefixIndex::size).register(meterRegistry);
+    }
+
+    @EventListener
+    public void onArmoryFetched(ArmoryFetchedEvent event) {
+        ArmoryProfile profile = event.armory().getArmoryProfile();
+        if (profile == null) return;
+
+        String name = profile.getCharacterName() == null ? event.characterName().trim() : profile.getCharacterName();
+        NamePrefixIndex.Entry entry = new NamePrefixIndex.Entry(
+                CharacterNames.normalize(name),
+                name,
+                profile.getServerName(),
+                profile.getCharacterClassName(),
+                ItemLevels.parse(profile.getItemAvgLevel()),
+                event.fetchedAt().toEpochMilli()
+        );
+        index.put(entry);
+        if (dirty.size() < maxEntries) {
+            dirty.put(entry.key(), entry);
+        }
+    }
+
+    /**
+     * @param prefix 앞뒤 공백/대소문자 무시
+     */
+    public CharacterSuggestDto suggest(String prefix, int limit) {
+        String normalized = CharacterNames.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return new CharacterSuggestDto(prefix, List.of());
+        }
+        List<CharacterSuggestDto.Suggestion> suggestions = index.search(normalized, limit).stream()
+                .map(e -> new CharacterSuggestDto.Suggestion(
+                        e.characterName(), e.serverName(), e.characterClassName(), e.itemLevel()))
+                .toList();
+        return new CharacterSuggestDto(prefix, suggestions);
+    }
+
+    @Scheduled(fixedDelayString = "${app.character.suggest.flush-interval:30s}")
+    public void flush() {
+        index.merge();
+        if (dirty.isEmpty()) return;
+
+        List<NamePrefixIndex.Entry> batch = new ArrayList<>(dirty.values());
+        List<CharacterName> rows = new ArrayList<>(batch.size());
+        for (NamePrefixIndex.Entry e : batch) {
+            // 이 사이에 다시 바뀐 항목은 다음 flush에서 저장
+            dirty.remove(e.key(), e);
+            rows.add(CharacterName.builder()
+                    .characterKey(e.key())
+                    .characterName(e.characterName())
+                    .serverName(e.serverName())
+                    .characterClassName(e.characterClassName())
+                    .itemAvgLevel(e.itemLevel())
+                    .lastSeenAt(Instant.ofEpochMilli(e.seenAt()))
+                    .build());
+        }
+        try {
+            repository.saveAll(rows);
+        } catch (RuntimeException e) {
+            // 자동완성 저장본은 부가 기능이라 실패해도 버림 (다음 조회 때 다시 들어감)
+            log.warn("character name save failed. count={}", rows.size(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofVirtual().name("character-suggest-load").start(this::load);
+    }
+
+    void load() {
+        long started = System.currentTimeMillis();
+        int loaded = 0;
+        try {
+            for (int page = 0; loaded < maxEntries; page++) {
+                List<CharacterName> rows = repository.findAllByOrderByLastSeenAtDescCharacterKeyAsc(
+                        PageRequest.of(page, pageSize));
+                for (CharacterName row : rows) {
+                    // 복원 중에 새로 조회된 캐릭터는 put()이 seenAt으로 걸러서 덮어쓰지 않음
+                    index.put(new NamePrefixIndex.Entry(
+                            row.getCharacterKey(),
+                            row.getCharacterName(),
+                            row.getServerName(),
+                            row.getCharacterClassName(),
+                            row.getItemAvgLevel(),
+                            row.getLastSeenAt().toEpochMilli()));
+                }
+                loaded += rows.size();
+                if (rows.size() < pageSize) break;
+            }
+            index.merge();
+            log.info("character suggest index loaded. count={} elapsedMs={}", loaded, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("character suggest index load failed. loaded={}", loaded, e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package kr.elfaka.lostark.character.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 캐릭터 이름 접두어 색인 (정렬 배열 + 최근 추가분)
+ *
+ * [구조]
+ * - 본체: 정규화된 이름 순으로 정렬된 Entry 배열 (불변, volatile로 통째 교체) → 이진 탐색
+ * - 최근 추가분: ConcurrentSkipListMap (merge-threshold개가 쌓이면 본체와 병합)
+ * - 조회는 두 곳을 이름 순으로 병합하면서 limit개까지만 보므로 접두어에 걸리는 이름이 많아도 O(log n + limit)
+ * - 조회는 잠금 없음, 쓰기(put/merge)만 synchronized
+ *
+ * [메모리]
+ * - max-entries를 넘으면 병합할 때 마지막으로 본 시각이 오래된 것부터 90%까지 줄인다.
+ *   (매번 정렬하지 않도록 여유를 둠)
+ */
+final class NamePrefixIndex {
+
+    /**
+     * @param key    정규화된 이름 (정렬/검색 기준)
+     * @param seenAt 마지막으로 조회된 시각 (epoch millis)
+     */
+    record Entry(
+            String key,
+            String characterName,
+            String serverName,
+            String characterClassName,
+            Double itemLevel,
+            long seenAt
+    ) {}
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final int maxEntries;
+    private final int mergeThreshold;
+
+    private volatile Entry[] sorted = EMPTY;
+    private final ConcurrentSkipListMap<String, Entry> recent = new ConcurrentSkipListMap<>();
+
+    NamePrefixIndex(int maxEntries, int mergeThreshold) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.mergeThreshold = Math.max(1, mergeThreshold);
+    }
+
+    /**
+     * 추가/갱신 (이미 있는 이름이면 seenAt이 더 최신일 때만 교체)
+     */
+    synchronized void put(Entry entry) {
+        Entry current = recent.get(entry.key());
+        if (current == null) current = find(sorted, entry.key());
+        if (current != null && current.seenAt() > entry.seenAt()) return;
+
+        recent.put(entry.key(), entry);
+        if (recent.size() >= mergeThreshold) {
+            merge();
+        }
+    }
+
+    /**
+     * 최근 추가분을 본체에 병합 (주기적으로도 호출)
+     */
+    synchronized void merge() {
+        if (recent.isEmpty() && sorted.length <= maxEntries) return;
+
+        Entry[] base = sorted;
+        List<Entry> pending = new ArrayList<>(recent.values());
+        Entry[] merged = new Entry[base.length + pending.size()];
+        int i = 0, j = 0, n = 0;
+        while (i < base.length || j < pending.size()) {
+            if (j == pending.size()) {
+                merged[n++] = base[i++];
+            } else if (i == base.length) {
+                merged[n++] = pending.get(j++);
+            } else {
+                int c = base[i].key().compareTo(pending.get(j).key());
+                if (c < 0) {
+                    merged[n++] = base[i++];
+                } else if (c > 0) {
+                    merged[n++] = pending.get(j++);
+                } else {
+                    merged[n++] = pending.get(j++);
+                    i++;
+                }
+            }
+        }
+        if (n > maxEntries) {
+            merged = evictOldest(merged, n, maxEntries - maxEntries / 10);
+        } else if (n < merged.length) {
+            merged = Arrays.copyOf(merged, n);
+        }
+        sorted = merged;
+
+        // 병합하는 동안 바뀐 항목은 남겨 둔다.
+        for (Entry e : pending) {
+            recent.remove(e.key(), e);
+        }
+    }
+
+    /**
+     * prefix(정규화된 값)로 시작하는 이름을 이름 순으로 최대 limit개
+     */
+    List<Entry> search(String prefix, int limit) {
+        List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+        if (limit <= 0) return result;
+
+        Entry[] base = sorted;
+        int i = lowerBound(base, prefix);
+        ConcurrentNavigableMap<String, Entry> tail = recent.tailMap(prefix, true);
+        Iterator<Map.Entry<String, Entry>> it = tail.entrySet().iterator();
+        Entry r = nextMatching(it, prefix);
+
+        while (result.size() < limit) {
+            Entry b = i < base.length && base[i].key().startsWith(prefix) ? base[i] : null;
+            if (b == null && r == null) break;
+            int c = b == null ? 1 : r == null ? -1 : b.key().compareTo(r.key());
+            if (c < 0) {
+                result.add(b);
+                i++;
+            } else {
+                // 같은 이름이면 최근 추가분이 최신
+                result.add(r);
+                if (c == 0) i++;
+                r = nextMatching(it, prefix);
+            }
+        }
+        return result;
+    }
+
+    // 병합 전에는 최근 추가분과 본체에 같은 이름이 겹칠 수 있어 대략값
+    int size() {
+        return sorted.length + recent.size();
+    }
+
+    private static Entry nextMatching(Iterator<Map.Entry<String, Entry>> it, String prefix) {
+        if (!it.hasNext()) return null;
+        Entry e = it.next().getValue();
+        return e.key().startsWith(prefix) ? e : null;
+    }
+
+    private static Entry find(Entry[] base, String key) {
+        int i = lowerBound(base, key);
+        return i < base.length && base[i].key().equals(key) ? base[i] : null;
+    }
+
+    // key 이상인 첫 위치
+    private static int lowerBound(Entry[] base, String key) {
+        int lo = 0, hi = base.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (base[mid].key().compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 이름 순서를 유지한 채 seenAt이 새로운 keep개만 남김
+    private static Entry[] evictOldest(Entry[] entries, int n, int keep) {
+        long[] seen = new long[n];
+        for (int k = 0; k < n; k++) seen[k] = entries[k].seenAt();
+        Arrays.sort(seen);
+        long cutoff = seen[n - keep];
+
+        // cutoff과 같은 seenAt이 여러 개면 앞에서부터 채움
+        int sameAllowed = 0;
+        for (int k = n - keep; k < n && seen[k] == cutoff; k++) sameAllowed++;
+
+        Entry[] kept = new Entry[keep];
+        int m = 0;
+        for (int k = 0; k < n && m < keep; k++) {
+            long s = entries[k].seenAt();
+            if (s > cutoff || s == cutoff && sameAllowed-- > 0) {
+                kept[m++] = entries[k];
+            }
+        }
+        return kept;
+    }
+}
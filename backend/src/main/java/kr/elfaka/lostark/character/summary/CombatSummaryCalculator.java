@@ -0,0 +1,143 @@
+package kr.elfaka.lostark.character.summary;
+
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassivePoint;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CombatSummaryDto;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.support.ItemLevels;
+import kr.elfaka.lostark.character.tooltip.TooltipParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ArmoryTotalDto → CombatSummaryDto (섹션별로 한 번씩만 순회)
+ *
+ * - 보석 효과는 TooltipParser(해시 기반 메모이제이션)로 파싱하므로 같은 보석은 캐릭터가 달라도 한 번만 파싱된다.
+ * - 없는 섹션은 빈 집계(0/빈 목록)로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CombatSummaryCalculator {
+
+    private static final Set<String> COMBAT_STATS = Set.of("치명", "특화", "제압", "신속", "인내", "숙련");
+    private static final String ATTACK_POWER = "공격력";
+    private static final String MAX_HP = "최대 생명력";
+
+    private final TooltipParser tooltipParser;
+
+    public CombatSummaryDto summarize(ArmoryTotalDto armory) {
+        if (armory == null) return null;
+        ArmoryProfile profile = armory.getArmoryProfile();
+        return new CombatSummaryDto(
+                profile == null ? null : profile.getCharacterName(),
+                profile == null ? null : profile.getCharacterClassName(),
+                ItemLevels.avgLevel(armory),
+                stats(profile),
+                gems(armory.getArmoryGem()),
+                engravings(armory.getArmoryEngraving()),
+                arkPassivePoints(armory.getArkPassive())
+        );
+    }
+
+    private CombatSummaryDto.Stats stats(ArmoryProfile profile) {
+        Map<String, Integer> combat = new LinkedHashMap<>();
+        int combatTotal = 0;
+        Integer attackPower = null;
+        Integer maxHp = null;
+
+        if (profile != null && profile.getStats() != null) {
+            for (Stat stat : profile.getStats()) {
+                Integer value = parseInt(stat.getValue());
+                if (stat.getType() == null || value == null) continue;
+                if (COMBAT_STATS.contains(stat.getType())) {
+                    combat.put(stat.getType(), value);
+                    combatTotal += value;
+                } else if (ATTACK_POWER.equals(stat.getType())) {
+                    attackPower = value;
+                } else if (MAX_HP.equals(stat.getType())) {
+                    maxHp = value;
+                }
+            }
+        }
+        return new CombatSummaryDto.Stats(combat, combatTotal, attackPower, maxHp);
+    }
+
+    private CombatSummaryDto.Gems gems(ArmoryGem armoryGem) {
+        List<Gem> gems = armoryGem == null || armoryGem.getGems() == null ? List.of() : armoryGem.getGems();
+
+        int levelSum = 0;
+        double damage = 0;
+        double cooldown = 0;
+        // 같은 스킬에 피해/쿨감 보석이 같이 있으면 한 항목으로 합침 (슬롯 순서 유지)
+        Map<String, double[]> bySkill = new LinkedHashMap<>();
+
+        for (Gem gem : gems) {
+            levelSum += gem.getLevel();
+            GemTooltip detail = tooltipParser.parseGem(gem.getTooltip());
+            if (detail == null || detail.skillName() == null) continue;
+
+            double[] skill = bySkill.computeIfAbsent(detail.skillName(), k -> new double[2]);
+            switch (detail.type()) {
+                case "DAMAGE" -> {
+                    damage += detail.value();
+                    skill[0] += detail.value();
+                }
+                case "COOLDOWN" -> {
+                    cooldown += detail.value();
+                    skill[1] += detail.value();
+                }
+                default -> {
+                    // 효과를 알 수 없는 보석은 개수/레벨에만 반영
+                }
+            }
+        }
+
+        List<CombatSummaryDto.SkillGems> skills = new ArrayList<>(bySkill.size());
+        bySkill.forEach((name, v) -> skills.add(new CombatSummaryDto.SkillGems(name, v[0], v[1])));
+        double averageLevel = gems.isEmpty() ? 0 : (double) levelSum / gems.size();
+        return new CombatSummaryDto.Gems(gems.size(), averageLevel, damage, cooldown, skills);
+    }
+
+    private List<CombatSummaryDto.Engraving> engravings(ArmoryEngraving engraving) {
+        if (engraving == null || engraving.getArkPassiveEffects() == null) return List.of();
+        List<CombatSummaryDto.Engraving> result = new ArrayList<>(engraving.getArkPassiveEffects().size());
+        for (ArkPassiveEffect e : engraving.getArkPassiveEffects()) {
+            result.add(new CombatSummaryDto.Engraving(e.getName(), e.getGrade(), e.getLevel(), e.getAbilityStoneLevel()));
+        }
+        return result;
+    }
+
+    private Map<String, Integer> arkPassivePoints(ArkPassive arkPassive) {
+        Map<String, Integer> points = new LinkedHashMap<>();
+        if (arkPassive == null || arkPassive.getPoints() == null) return points;
+        for (ArkPassivePoint point : arkPassive.getPoints()) {
+            if (point.getName() != null) points.put(point.getName(), point.getValue());
+        }
+        return points;
+    }
+
+    /**
+     * "1,234" → 1234 (파싱할 수 없으면 null)
+     */
+    private static Integer parseInt(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Integer.parseInt(value.replace(",", "").trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.elfaka.lostark.character.summary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.cache.LruCache;
+import kr.elfaka.lostark.character.dto.CombatSummaryDto;
+import kr.elfaka.lostark.character.service.ArmoryLookup;
+import kr.elfaka.lostark.character.service.LostArkService;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import kr.elfaka.lostark.character.support.ETags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 캐릭터 전투 집계 (/summary)
+ *
+ * [조회]
+ * - 집계에 필요한 섹션(프로필/보석/각인/아크 패시브)만 LostArkService 섹션 조회로 가져온다.
+ *   (아머리 캐시/섹션 캐시/single-flight를 그대로 탄다)
+ *
+ * [메모이제이션]
+ * - 계산 결과는 아머리 ETag(내용 해시) 기준으로 LRU에 보관한다.
+ *   같은 스냅샷이면 여러 사용자가 조회해도 한 번만 계산하고, 아머리가 갱신되면 ETag가 바뀌어 자연히 다시 계산된다.
+ *
+ * [메트릭]
+ * - armory.summary{result=hit|miss}
+ */
+@Service
+public class CombatSummaryService {
+
+    private static final Set<ArmorySection> SECTIONS = EnumSet.of(
+            ArmorySection.PROFILES, ArmorySection.GEMS, ArmorySection.ENGRAVINGS, ArmorySection.ARK_PASSIVE);
+
+    private final LostArkService lostArkService;
+    private final CombatSummaryCalculator calculator;
+    private final LruCache<String, CombatSummaryDto> memo;
+
+    private final Counter hit;
+    private final Counter miss;
+
+    public CombatSummaryService(LostArkService lostArkService,
+                                CombatSummaryCalculator calculator,
+                                @Value("${app.character.summary.memo-max-entries:5000}") int memoMaxEntries,
+                                MeterRegistry meterRegistry) {
+        this.lostArkService = lostArkService;
+        this.calculator = calculator;
+        this.memo = new LruCache<>(memoMaxEntries);
+        this.hit = Counter.builder("armory.summary").tag("result", "hit").register(meterRegistry);
+        this.miss = Counter.builder("armory.summary").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * @return 존재하지 않는 캐릭터면 null
+     */
+    public SummaryLookup lookupSummary(String characterName) {
+        ArmoryLookup lookup = lostArkService.lookupCharacterSections(characterName, SECTIONS);
+        if (lookup == null) return null;
+
+        String etag = ETags.combine(lookup.etag(), "summary");
+        return new SummaryLookup(summarize(lookup, etag), etag, lookup.freshUntil(), lookup.stale());
+    }
+
+    private CombatSummaryDto summarize(ArmoryLookup lookup, String etag) {
+        // ETag를 모르면(Redis에 예전 항목 등) 캐시 없이 계산
+        if (etag == null) {
+            miss.increment();
+            return calculator.summarize(lookup.armory());
+        }
+
+        CombatSummaryDto cached = memo.get(etag);
+        if (cached != null) {
+            hit.increment();
+            return cached;
+        }
+
+        miss.increment();
+        CombatSummaryDto summary = calculator.summarize(lookup.armory());
+        memo.put(etag, summary);
+        return summary;
+    }
+
+    /**
+     * @param summary    집계 결과
+     * @param etag       원본 아머리 ETag에서 만든 값 (알 수 없으면 null)
+     * @param freshUntil 원본 캐시의 fresh 시각
+     * @param stale      upstream 장애로 만료된 아머리로 계산했는지
+     */
+    public record SummaryLookup(
+            CombatSummaryDto summary,
+            String etag,
+            long freshUntil,
+            boolean stale
+    ) {}
+}
@@ -0,0 +1,116 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.error.InvalidArmorySectionException;
+import kr.elfaka.lostark.character.lazy.LazyArmoryTotalDto;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * ArmoryTotalDto의 섹션 단위 구분
+ *
+ * - filter: LostArk API filters 쿼리 파라미터 값 (/armories/characters/{name}?filters=profiles+equipment)
+ * - jsonName: 응답 JSON의 최상위 필드 이름
+ * - copier: 한 DTO의 해당 섹션만 다른 DTO로 복사 (섹션별 캐시 분리/병합용)
+ */
+public enum ArmorySection {
+
+    PROFILES("profiles", "ArmoryProfile", (from, to) -> to.setArmoryProfile(from.getArmoryProfile())),
+    EQUIPMENT("equipment", "ArmoryEquipment", (from, to) -> to.setArmoryEquipment(from.getArmoryEquipment())),
+    AVATARS("avatars", "ArmoryAvatars", (from, to) -> to.setArmoryAvatars(from.getArmoryAvatars())),
+    COMBAT_SKILLS("combat-skills", "ArmorySkills", (from, to) -> to.setArmorySkills(from.getArmorySkills())),
+    ENGRAVINGS("engravings", "ArmoryEngraving", (from, to) -> to.setArmoryEngraving(from.getArmoryEngraving())),
+    CARDS("cards", "ArmoryCard", (from, to) -> to.setArmoryCard(from.getArmoryCard())),
+    GEMS("gems", "ArmoryGem", (from, to) -> to.setArmoryGem(from.getArmoryGem())),
+    COLOSSEUMS("colosseums", "ColosseumInfo", (from, to) -> to.setColosseumInfo(from.getColosseumInfo())),
+    COLLECTIBLES("collectibles", "Collectibles", (from, to) -> to.setCollectibles(from.getCollectibles())),
+    ARK_PASSIVE("arkpassive", "ArkPassive", (from, to) -> to.setArkPassive(from.getArkPassive()));
+
+    private final String filter;
+    private final String jsonName;
+    private final BiConsumer<ArmoryTotalDto, ArmoryTotalDto> copier;
+
+    ArmorySection(String filter, String jsonName, BiConsumer<ArmoryTotalDto, ArmoryTotalDto> copier) {
+        this.filter = filter;
+        this.jsonName = jsonName;
+        this.copier = copier;
+    }
+
+    public String filter() {
+        return filter;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * from의 이 섹션 값을 to에 복사
+     */
+    public void copy(ArmoryTotalDto from, ArmoryTotalDto to) {
+        copier.accept(from, to);
+    }
+
+    /**
+     * from에서 이 섹션만 담은 새 DTO 생성
+     */
+    public ArmoryTotalDto slice(ArmoryTotalDto from) {
+        return select(from, EnumSet.of(this));
+    }
+
+    /**
+     * from에서 sections만 담은 새 DTO 생성
+     * - LazyArmoryTotalDto면 원본 조각을 공유하는 사본 (아직 읽지 않은 섹션은 그대로 두고 디코딩하지 않음)
+     */
+    public static ArmoryTotalDto select(ArmoryTotalDto from, Set<ArmorySection> sections) {
+        if (from instanceof LazyArmoryTotalDto lazy) return lazy.select(sections);
+        ArmoryTotalDto only = new ArmoryTotalDto();
+        sections.forEach(section -> section.copy(from, only));
+        return only;
+    }
+
+    /**
+     * @return 섹션이 아닌 이름이면 null
+     */
+    public static ArmorySection fromJsonName(String jsonName) {
+        for (ArmorySection section : values()) {
+            if (section.jsonName.equals(jsonName)) return section;
+        }
+        return null;
+    }
+
+    public static ArmorySection fromFilter(String filter) {
+        String normalized = filter.trim().toLowerCase(Locale.ROOT);
+        for (ArmorySection section : values()) {
+            if (section.filter.equals(normalized)) return section;
+        }
+        throw new InvalidArmorySectionException(filter);
+    }
+
+    /**
+     * "profiles,equipment" 형태의 쿼리 파라미터 파싱
+     * - null/빈 문자열이면 빈 Set (= 전체 조회)
+     */
+    public static Set<ArmorySection> parse(String sections) {
+        EnumSet<ArmorySection> result = EnumSet.noneOf(ArmorySection.class);
+        if (sections == null || sections.isBlank()) return result;
+        for (String token : sections.split(",")) {
+            if (token.isBlank()) continue;
+            result.add(fromFilter(token));
+        }
+        return result;
+    }
+
+    /**
+     * LostArk API filters 값으로 변환 (예: "profiles+equipment")
+     */
+    public static String toFilters(Set<ArmorySection> sections) {
+        return sections.stream()
+                .map(ArmorySection::filter)
+                .collect(Collectors.joining("+"));
+    }
+}
@@ -0,0 +1,21 @@
+package kr.elfaka.lostark.character.support;
+
+import java.util.Locale;
+
+/**
+ * 캐릭터 이름 관련 유틸
+ */
+public final class CharacterNames {
+
+    private CharacterNames() {
+    }
+
+    /**
+     * 캐시/중복 제거 키로 쓰기 위한 이름 정규화
+     * - 앞뒤 공백 제거 + 영문 소문자화 (로스트아크 API는 대소문자를 구분하지 않음)
+     */
+    public static String normalize(String characterName) {
+        if (characterName == null) return "";
+        return characterName.trim().toLowerCase(Locale.ROOT);
+    }
+}
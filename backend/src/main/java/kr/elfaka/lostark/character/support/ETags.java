@@ -0,0 +1,64 @@
+package kr.elfaka.lostark.character.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 내용 해시 기반 ETag 유틸
+ *
+ * - 같은 내용이면 인스턴스/재시작과 관계없이 같은 값이 나오도록 SHA-256을 쓴다.
+ * - gzip/identity 등 인코딩만 다른 표현도 같은 값을 쓰므로 weak ETag(W/"...")로 만든다.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(byte[] content) {
+        return WEAK_PREFIX + "\"" + digest(content) + "\"";
+    }
+
+    /**
+     * 여러 ETag(+구분자)를 합친 ETag
+     * - 섹션별 캐시 항목을 모아 만든 응답, 같은 원본에서 변환한 다른 표현(slim 등)에 사용
+     */
+    public static String combine(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (part == null) return null; // 하나라도 모르면 ETag를 내보내지 않는다
+            sb.append(part).append('\n');
+        }
+        return of(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * If-None-Match 헤더 값과 비교 (weak 비교, "*" 허용)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) return false;
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || opaque(trimmed).equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            // 128bit면 충돌 걱정 없이 헤더 길이를 줄일 수 있음
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
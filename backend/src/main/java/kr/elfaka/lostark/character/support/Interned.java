@@ -0,0 +1,17 @@
+package kr.elfaka.lostark.character.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 역직렬화 시 StringInternPool로 공유할 문자열 필드 표시 (InternedStringModule이 처리)
+ *
+ * - 캐릭터가 달라도 값 종류가 적은 필드에만 붙인다. (아이콘 URL, 등급, 종류, 스탯/성향/서버/클래스/각인 이름)
+ * - 캐릭터마다 다르거나 종류가 많은 값(툴팁, 설명, 칭호, 장비/스킬/카드 이름 등)에는 붙이지 않는다.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Interned {
+}
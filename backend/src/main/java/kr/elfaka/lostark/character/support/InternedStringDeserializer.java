@@ -0,0 +1,27 @@
+package kr.elfaka.lostark.character.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * 문자열을 읽은 뒤 StringInternPool로 공유 인스턴스를 반환하는 역직렬화기
+ * - 필드에는 직접 쓰지 않고 @Interned로 붙인다. (InternedStringModule이 연결)
+ */
+public class InternedStringDeserializer extends StdScalarDeserializer<String> {
+
+    private final StringInternPool pool;
+
+    public InternedStringDeserializer(StringInternPool pool) {
+        super(String.class);
+        this.pool = pool;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return pool.intern(StringDeserializer.instance.deserialize(p, ctxt));
+    }
+}
@@ -0,0 +1,34 @@
+package kr.elfaka.lostark.character.support;
+
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * @Interned 문자열 필드를 StringInternPool로 읽도록 연결하는 Jackson 모듈
+ *
+ * - 풀은 ObjectMapper에 등록한 모듈이 들고 있으므로 정적 공유 인스턴스가 필요 없다.
+ *   (copy()/copyWith()로 만든 ObjectMapper에도 그대로 따라감)
+ * - AnnotationIntrospector로 역직렬화기 인스턴스를 넘기므로 setter/필드와 생성자(record) 모두 적용된다.
+ * - 모듈이 없는 ObjectMapper에서는 @Interned 필드도 일반 문자열로 읽는다.
+ */
+public class InternedStringModule extends SimpleModule {
+
+    private final InternedStringDeserializer deserializer;
+
+    public InternedStringModule(StringInternPool pool) {
+        super("InternedStringModule");
+        this.deserializer = new InternedStringDeserializer(pool);
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.insertAnnotationIntrospector(new NopAnnotationIntrospector() {
+            @Override
+            public Object findDeserializer(Annotated a) {
+                return a.hasAnnotation(Interned.class) ? deserializer : null;
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+
+/**
+ * 아이템 레벨 문자열("1,620.83") → 숫자
+ */
+public final class ItemLevels {
+
+    private ItemLevels() {
+    }
+
+    /**
+     * @return 파싱할 수 없으면 null
+     */
+    public static Double parse(String itemLevel) {
+        if (itemLevel == null || itemLevel.isBlank()) return null;
+        try {
+            return Double.parseDouble(itemLevel.replace(",", "").trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static Double avgLevel(ArmoryTotalDto armory) {
+        ArmoryProfile profile = armory == null ? null : armory.getArmoryProfile();
+        return profile == null ? null : parse(profile.getItemAvgLevel());
+    }
+}
@@ -0,0 +1,72 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 single-flight
+ *
+ * - 처음 들어온 호출(leader)만 loader를 실행하고,
+ *   그동안 들어온 호출(follower)은 leader의 Future를 기다렸다가 같은 결과/예외를 받는다.
+ * - follower 대기 시간은 waitTimeout으로 제한한다. (초과 시 UpstreamTimeoutException)
+ * - 결과를 보관하지 않는다. 호출이 끝나면 바로 제거되므로 캐시와는 별개로 동작한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+
+    public SingleFlight(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(key, existing);
+        }
+
+        // leader
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 개수 (메트릭/테스트용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new UpstreamTimeoutException("in-flight lookup timed out. key=" + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamTimeoutException("interrupted while waiting in-flight lookup. key=" + key, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.cache.LruCache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한이 있는 문자열 intern 풀
+ *
+ * - 캐릭터가 달라도 같은 값이 반복되는 필드(아이콘 URL, 등급, 서버/클래스 이름 등)를
+ *   하나의 String 인스턴스로 공유해서 캐시된 객체 그래프의 메모리를 줄인다.
+ * - String.intern()은 JVM 전역 StringTable에 영구히 쌓이므로 쓰지 않는다.
+ * - 풀이 가득 차면 가장 오래 쓰이지 않은 값부터 밀려난다. (LruCache, 먼저 들어온 값이 자리를 계속 차지하지 않도록)
+ * - ObjectMapper에는 InternedStringModule로 연결한다.
+ */
+public final class StringInternPool {
+
+    public static final int DEFAULT_MAX_ENTRIES = 50_000;
+    public static final int DEFAULT_MAX_LENGTH = 256;
+
+    private final LruCache<String, String> pool;
+    private final int maxLength;
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public StringInternPool(int maxEntries, int maxLength) {
+        this(maxEntries, maxLength, true);
+    }
+
+    /**
+     * @param enabled false면 intern 없이 그대로 반환 (적용 전/후 메모리 비교용)
+     */
+    public StringInternPool(int maxEntries, int maxLength, boolean enabled) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        this.pool = new LruCache<>(maxEntries);
+        this.maxLength = maxLength;
+        this.enabled = enabled;
+    }
+
+    public String intern(String value) {
+        if (value == null || !enabled) return value;
+        if (value.length() > maxLength) {
+            rejected.increment();
+            return value;
+        }
+
+        String existing = pool.putIfAbsent(value, value);
+        if (existing != null) {
+            hits.increment();
+            return existing;
+        }
+        misses.increment();
+        return value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * maxLength보다 길어서 공유하지 않은 수
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public void clear() {
+        pool.clear();
+    }
+}
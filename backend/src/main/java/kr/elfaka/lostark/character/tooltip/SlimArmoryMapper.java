@@ -0,0 +1,125 @@
+package kr.elfaka.lostark.character.tooltip;
+
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.ArmoryCard;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.CardEffect;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.CardItem;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmorySkillsDto.ArmorySkills;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.SlimArmoryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ArmoryTotalDto → SlimArmoryDto 변환
+ * - 툴팁 파싱은 TooltipParser(해시 기반 메모이제이션)에 위임
+ * - 없는 섹션(sections 필터 등)은 null로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlimArmoryMapper {
+
+    private final TooltipParser tooltipParser;
+
+    public SlimArmoryDto toSlim(ArmoryTotalDto armory) {
+        if (armory == null) return null;
+
+        List<SlimArmoryDto.Card> cards = null;
+        List<SlimArmoryDto.CardSet> cardSets = null;
+        ArmoryCard armoryCard = armory.getArmoryCard();
+        if (armoryCard != null) {
+            cards = map(armoryCard.getCards(), c -> new SlimArmoryDto.Card(
+                    c.getSlot(), c.getName(), c.getIcon(), c.getGrade(), c.getAwakeCount(), c.getAwakeTotal()));
+            cardSets = cardSets(armoryCard.getEffects());
+        }
+
+        return new SlimArmoryDto(
+                profile(armory.getArmoryProfile()),
+                map(armory.getArmoryEquipment(), e -> new SlimArmoryDto.Equipment(
+                        e.getType(), e.getName(), e.getIcon(), e.getGrade(),
+                        tooltipParser.parseEquipment(e.getTooltip()))),
+                armory.getArmoryGem() == null ? null : map(armory.getArmoryGem().getGems(), g -> new SlimArmoryDto.Gem(
+                        g.getSlot(), g.getName(), g.getIcon(), g.getLevel(), g.getGrade(),
+                        tooltipParser.parseGem(g.getTooltip()))),
+                map(armory.getArmorySkills(), this::skill),
+                cards,
+                cardSets,
+                engravings(armory.getArmoryEngraving()),
+                arkPassive(armory.getArkPassive())
+        );
+    }
+
+    private SlimArmoryDto.Profile profile(ArmoryProfile p) {
+        if (p == null) return null;
+        return new SlimArmoryDto.Profile(
+                p.getCharacterName(),
+                p.getServerName(),
+                p.getCharacterClassName(),
+                p.getCharacterLevel(),
+                p.getItemAvgLevel(),
+                p.getExpeditionLevel(),
+                p.getGuildName(),
+                p.getTitle(),
+                p.getCharacterImage(),
+                map(p.getStats(), s -> new SlimArmoryDto.Stat(s.getType(), s.getValue()))
+        );
+    }
+
+    private SlimArmoryDto.Skill skill(ArmorySkills s) {
+        List<SlimArmoryDto.Tripod> tripods = new ArrayList<>();
+        if (s.getTripods() != null) {
+            s.getTripods().stream()
+                    .filter(t -> t.isSelected())
+                    .forEach(t -> tripods.add(new SlimArmoryDto.Tripod(t.getTier(), t.getSlot(), t.getName(), t.getLevel())));
+        }
+        return new SlimArmoryDto.Skill(
+                s.getName(),
+                s.getIcon(),
+                s.getLevel(),
+                s.getType(),
+                tripods,
+                s.getRune() == null ? null : s.getRune().getName(),
+                s.getRune() == null ? null : s.getRune().getGrade(),
+                tooltipParser.parseSkill(s.getTooltip())
+        );
+    }
+
+    private List<SlimArmoryDto.CardSet> cardSets(List<CardEffect> effects) {
+        if (effects == null) return null;
+        List<SlimArmoryDto.CardSet> result = new ArrayList<>();
+        for (CardEffect effect : effects) {
+            if (effect.getItems() == null) continue;
+            for (CardItem item : effect.getItems()) {
+                result.add(new SlimArmoryDto.CardSet(item.getName(), TooltipText.strip(item.getDescription())));
+            }
+        }
+        return result;
+    }
+
+    private List<SlimArmoryDto.Engraving> engravings(ArmoryEngraving engraving) {
+        if (engraving == null) return null;
+        return map(engraving.getArkPassiveEffects(), e -> new SlimArmoryDto.Engraving(
+                e.getName(), e.getGrade(), e.getLevel(), e.getAbilityStoneLevel(), TooltipText.strip(e.getDescription())));
+    }
+
+    private List<SlimArmoryDto.ArkPassiveNode> arkPassive(ArkPassive arkPassive) {
+        if (arkPassive == null) return null;
+        return map(arkPassive.getEffects(), e -> new SlimArmoryDto.ArkPassiveNode(
+                e.getName(), TooltipText.strip(e.getDescription())));
+    }
+
+    private static <T, R> List<R> map(List<T> source, Function<T, R> mapper) {
+        if (source == null) return null;
+        List<R> result = new ArrayList<>(source.size());
+        for (T item : source) {
+            result.add(mapper.apply(item));
+        }
+        return result;
+    }
+}
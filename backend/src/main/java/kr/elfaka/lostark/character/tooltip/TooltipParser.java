@@ -0,0 +1,219 @@
+package kr.elfaka.lostark.character.tooltip;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.cache.LruCache;
+import kr.elfaka.lostark.character.dto.TooltipDto.EquipmentTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.SkillTooltip;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LostArk 툴팁(JSON 문자열 안에 HTML이 섞인 형태) 파서
+ *
+ * [툴팁 구조]
+ * - {"Element_000": {"type": "NameTagBox", "value": ...}, "Element_001": {"type": "ItemTitle", ...}, ...}
+ * - type별로 필요한 값만 뽑아 EquipmentTooltip / GemTooltip / SkillTooltip으로 변환한다.
+ *
+ * [메모이제이션]
+ * - 같은 아이템은 캐릭터가 달라도 툴팁 내용이 같으므로,
+ *   툴팁 내용의 해시(SHA-256)를 키로 파싱 결과를 LRU에 보관해 한 번만 파싱한다.
+ *
+ * [메트릭]
+ * - tooltip.parse{result=hit|miss|error}
+ */
+@Slf4j
+@Component
+public class TooltipParser {
+
+    private static final Pattern UPGRADE = Pattern.compile("^\\+(\\d+)");
+    private static final Pattern ITEM_LEVEL = Pattern.compile("아이템 레벨\\s*([\\d.]+)");
+    private static final Pattern TIER = Pattern.compile("티어\\s*(\\d+)");
+    private static final Pattern GEM_EFFECT = Pattern.compile("^(.*?)\\s*(피해|재사용 대기시간)\\s*([\\d.]+)%");
+    private static final Pattern BRACKET = Pattern.compile("^\\[([^\\]]+)\\]\\s*");
+    private static final Pattern COOLDOWN = Pattern.compile("재사용 대기시간\\s*([\\d.]+)초");
+
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, Object> memo;
+
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter error;
+
+    public TooltipParser(ObjectMapper objectMapper,
+                         @Value("${app.character.tooltip.memo-max-entries:20000}") int memoMaxEntries,
+                         MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.memo = new LruCache<>(memoMaxEntries);
+        this.hit = Counter.builder("tooltip.parse").tag("result", "hit").register(meterRegistry);
+        this.miss = Counter.builder("tooltip.parse").tag("result", "miss").register(meterRegistry);
+        this.error = Counter.builder("tooltip.parse").tag("result", "error").register(meterRegistry);
+    }
+
+    public EquipmentTooltip parseEquipment(String tooltip) {
+        return memoized("E", tooltip, this::doParseEquipment);
+    }
+
+    public GemTooltip parseGem(String tooltip) {
+        return memoized("G", tooltip, this::doParseGem);
+    }
+
+    public SkillTooltip parseSkill(String tooltip) {
+        return memoized("S", tooltip, this::doParseSkill);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T memoized(String kind, String tooltip, Function<JsonNode, T> parser) {
+        if (tooltip == null || tooltip.isBlank()) return null;
+
+        String key = kind + ":" + hash(tooltip);
+        Object cached = memo.get(key);
+        if (cached != null) {
+            hit.increment();
+            return (T) cached;
+        }
+
+        miss.increment();
+        try {
+            T parsed = parser.apply(objectMapper.readTree(tooltip));
+            if (parsed != null) memo.put(key, parsed);
+            return parsed;
+        } catch (Exception e) {
+            error.increment();
+            log.debug("tooltip parse failed. kind={}", kind, e);
+            return null;
+        }
+    }
+
+    private EquipmentTooltip doParseEquipment(JsonNode root) {
+        int upgradeLevel = 0;
+        int quality = -1;
+        Double itemLevel = null;
+        int tier = 0;
+        List<String> baseEffects = List.of();
+        List<String> additionalEffects = List.of();
+        Map<String, List<String>> effects = new LinkedHashMap<>();
+
+        for (JsonNode element : root) {
+            String type = element.path("type").asText();
+            JsonNode value = element.path("value");
+
+            switch (type) {
+                case "NameTagBox" -> {
+                    Matcher m = UPGRADE.matcher(TooltipText.strip(value.asText()));
+                    if (m.find()) upgradeLevel = Integer.parseInt(m.group(1));
+                }
+                case "ItemTitle" -> {
+                    quality = value.path("qualityValue").asInt(-1);
+                    String levelText = TooltipText.strip(value.path("leftStr2").asText());
+                    Matcher lv = ITEM_LEVEL.matcher(levelText);
+                    if (lv.find()) itemLevel = Double.parseDouble(lv.group(1));
+                    Matcher t = TIER.matcher(levelText);
+                    if (t.find()) tier = Integer.parseInt(t.group(1));
+                }
+                case "ItemPartBox" -> {
+                    String title = TooltipText.strip(value.path("Element_000").asText());
+                    List<String> lines = TooltipText.lines(value.path("Element_001").asText());
+                    if (title.contains("기본 효과")) {
+                        baseEffects = lines;
+                    } else if (title.contains("추가 효과")) {
+                        additionalEffects = lines;
+                    } else if (!title.isEmpty()) {
+                        effects.put(title, lines);
+                    }
+                }
+                case "IndentStringGroup" -> {
+                    for (JsonNode group : value) {
+                        String title = TooltipText.strip(group.path("topStr").asText());
+                        List<String> lines = new ArrayList<>();
+                        for (JsonNode content : group.path("contentStr")) {
+                            lines.addAll(TooltipText.lines(content.path("contentStr").asText()));
+                        }
+                        if (!title.isEmpty()) effects.put(title, lines);
+                    }
+                }
+                default -> {
+                    // 설명/거래 제한 등 표시용 블록은 무시
+                }
+            }
+        }
+        return new EquipmentTooltip(upgradeLevel, quality, itemLevel, tier, baseEffects, additionalEffects, effects);
+    }
+
+    private GemTooltip doParseGem(JsonNode root) {
+        for (JsonNode element : root) {
+            if (!"ItemPartBox".equals(element.path("type").asText())) continue;
+            JsonNode value = element.path("value");
+            if (!TooltipText.strip(value.path("Element_000").asText()).contains("효과")) continue;
+
+            for (String line : TooltipText.lines(value.path("Element_001").asText())) {
+                Matcher m = GEM_EFFECT.matcher(line);
+                if (!m.find()) continue;
+                String type = "피해".equals(m.group(2)) ? "DAMAGE" : "COOLDOWN";
+                return new GemTooltip(skillName(m.group(1)), type, Double.parseDouble(m.group(3)), line);
+            }
+        }
+        return new GemTooltip(null, "UNKNOWN", 0, null);
+    }
+
+    private SkillTooltip doParseSkill(JsonNode root) {
+        for (JsonNode text : textNodes(root)) {
+            Matcher m = COOLDOWN.matcher(TooltipText.strip(text.asText()));
+            if (m.find()) return new SkillTooltip(Double.parseDouble(m.group(1)));
+        }
+        return new SkillTooltip(null);
+    }
+
+    /**
+     * "[데바스테이터]" / "[버서커] 헬 블레이드" → 스킬 이름
+     * - 대괄호 뒤에 텍스트가 있으면 그 텍스트, 없으면 대괄호 안의 텍스트
+     */
+    private static String skillName(String prefix) {
+        String text = prefix.trim();
+        Matcher m = BRACKET.matcher(text);
+        if (!m.find()) return text;
+        String rest = text.substring(m.end()).trim();
+        return rest.isEmpty() ? m.group(1).trim() : rest;
+    }
+
+    private static List<JsonNode> textNodes(JsonNode node) {
+        List<JsonNode> result = new ArrayList<>();
+        collectText(node, result);
+        return result;
+    }
+
+    private static void collectText(JsonNode node, List<JsonNode> out) {
+        if (node.isTextual()) {
+            out.add(node);
+            return;
+        }
+        for (JsonNode child : node) {
+            collectText(child, out);
+        }
+    }
+
+    private static String hash(String tooltip) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tooltip.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.elfaka.lostark.character.tooltip;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 툴팁 HTML 문자열 → 일반 텍스트 변환 유틸
+ */
+public final class TooltipText {
+
+    private static final Pattern BR = Pattern.compile("(?i)<br\\s*/?>");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern SPACES = Pattern.compile("[ \\t\\x0B\\f\\r]+");
+
+    private TooltipText() {
+    }
+
+    /**
+     * 태그 제거 (&lt;BR&gt;은 줄바꿈으로 유지)
+     */
+    public static String strip(String html) {
+        if (html == null) return "";
+        String text = BR.matcher(html).replaceAll("\n");
+        text = TAG.matcher(text).replaceAll("");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&");
+        return SPACES.matcher(text).replaceAll(" ").trim();
+    }
+
+    /**
+     * 태그 제거 후 줄 단위로 분리 (빈 줄 제외)
+     */
+    public static List<String> lines(String html) {
+        List<String> lines = new ArrayList<>();
+        for (String line : strip(html).split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) lines.add(trimmed);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,49 @@
+package kr.elfaka.lostark.survey.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.elfaka.lostark.character.cache.CacheValueCodec;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.survey.dto.AnalyzeResultDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 설문 분석 결과 캐시 설정 (app.survey.analyze-cache.*)
+ *
+ * - 응답이 계속 들어오는 설문이라 TTL을 짧게 두고, stale 동안은 바로 응답 + 백그라운드 재분석
+ * - Redis 값 형식은 아머리 캐시와 같은 CacheValueCodec을 쓴다.
+ */
+@Configuration
+public class AnalyzeCacheConfig {
+
+    @Bean
+    public TwoTierCache<AnalyzeResultDto> analyzeResultCache(
+            @Value("${app.survey.analyze-cache.max-entries:500}") int maxEntries,
+            @Value("${app.survey.analyze-cache.fresh-ttl:1m}") Duration freshTtl,
+            @Value("${app.survey.analyze-cache.stale-ttl:10m}") Duration staleTtl,
+            @Value("${app.character.cache.redis-enabled:true}") boolean redisEnabled,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            CacheValueCodec cacheValueCodec,
+            ExecutorService armoryCacheRefreshExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        return new TwoTierCache<>(
+                "survey-analyze",
+                AnalyzeResultDto.class,
+                maxEntries,
+                freshTtl,
+                staleTtl,
+                redisEnabled ? redisTemplate.getIfAvailable() : null,
+                cacheValueCodec,
+                armoryCacheRefreshExecutor,
+                meterRegistry,
+                System::currentTimeMillis
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package kr.elfaka.lostark.survey.service;
 
+import kr.elfaka.lostark.character.cache.TwoTierCache;
 import kr.elfaka.lostark.survey.dto.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.stereotype.Service;
 
@@ -32,9 +34,12 @@ import java.util.*;
 public class AnalyzeService {
 
     private final FormsService formsService;
+    private final TwoTierCache<AnalyzeResultDto> analyzeResultCache;
 
-    public AnalyzeService(FormsService formsService) {
+    public AnalyzeService(FormsService formsService,
+                          @Qualifier("analyzeResultCache") TwoTierCache<AnalyzeResultDto> analyzeResultCache) {
         this.formsService = formsService;
+        this.analyzeResultCache = analyzeResultCache;
     }
 
     /**
@@ -46,12 +51,18 @@ public class AnalyzeService {
      * @return AnalyzeResultDto (문항별 요약 + 메타)
      */
     public AnalyzeResultDto analyze(OAuth2AuthenticationToken auth, String formId, int limit) {
+        // 사용자별 결과 (같은 설문이라도 권한/토큰이 사용자마다 다름)
+        int pageSize = Math.min(Math.max(limit, 1), 500);
+        String key = auth.getName() + "|" + formId + "|" + pageSize;
+        return analyzeResultCache.get(key, () -> doAnalyze(auth, formId, pageSize));
+    }
+
+    private AnalyzeResultDto doAnalyze(OAuth2AuthenticationToken auth, String formId, int pageSize) {
         // 1) 설문 구조(문항 타입/보기 등)
         FormDetailDto form = formsService.getFormDetail(auth, formId);
 
         // 2) 응답 목록 조회 (Forms API는 페이지네이션이 가능하지만,
         //    현재는 첫 페이지(limit 크기)만 분석에 사용)
-        int pageSize = Math.min(Math.max(limit, 1), 500);
         FormResponsesDto responsesDto = formsService.listResponses(auth, formId, pageSize, null);
 
         List<FormResponsesDto.FormResponseDto> responses =
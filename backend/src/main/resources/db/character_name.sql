@@ -0,0 +1,12 @@
+-- 조회에 성공한 캐릭터 이름 (CharacterName 엔티티, 자동완성 색인 복원용)
+-- 운영은 ddl-auto: validate라서 배포 전에 수동으로 실행
+CREATE TABLE IF NOT EXISTS character_name (
+    character_key  VARCHAR(64)  NOT NULL,
+    character_name VARCHAR(64)  NOT NULL,
+    server_name    VARCHAR(32)  NULL,
+    class_name     VARCHAR(32)  NULL,
+    item_avg_level DOUBLE       NULL,
+    last_seen_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (character_key),
+    INDEX idx_character_name_last_seen (last_seen_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
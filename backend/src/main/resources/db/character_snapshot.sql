@@ -0,0 +1,13 @@
+-- 캐릭터 스냅샷 이력 (CharacterSnapshot 엔티티)
+-- 운영은 ddl-auto: validate라서 배포 전에 수동으로 실행
+CREATE TABLE IF NOT EXISTS character_snapshot (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    character_key  VARCHAR(64)  NOT NULL,
+    captured_at    DATETIME(6)  NOT NULL,
+    kind           VARCHAR(16)  NOT NULL,
+    payload        LONGBLOB     NOT NULL,
+    content_hash   VARCHAR(64)  NOT NULL,
+    item_avg_level DOUBLE       NULL,
+    PRIMARY KEY (id),
+    INDEX idx_character_snapshot_key_time (character_key, captured_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,14 @@
+-- 거래소/경매장 시세 버킷 (MarketPriceBucket 엔티티, 분/시간/일 단위)
+-- 운영은 ddl-auto: validate라서 배포 전에 수동으로 실행
+CREATE TABLE IF NOT EXISTS market_price_bucket (
+    item_key     VARCHAR(64)  NOT NULL,
+    resolution   VARCHAR(8)   NOT NULL,
+    bucket_start DATETIME(6)  NOT NULL,
+    min_price    DOUBLE       NOT NULL,
+    max_price    DOUBLE       NOT NULL,
+    sum_price    DOUBLE       NOT NULL,
+    samples      INT          NOT NULL,
+    last_price   DOUBLE       NOT NULL,
+    PRIMARY KEY (item_key, resolution, bucket_start),
+    INDEX idx_market_price_bucket_retention (resolution, bucket_start)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,113 @@
+package kr.elfaka.lostark.character.breaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(6).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(10, 4, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(30), 2, clock::get);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold_afterMinimumCalls() {
+        call(false);
+        call(true);
+        call(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(false);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void opensOnSlowCalls_evenWhenTheySucceed() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess(SLOW);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpen_closesWhenProbesSucceed() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpen_reopensWhenProbesFail() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        call(true);
+        call(false);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void ignoredResult_returnsHalfOpenProbe() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        call(true);
+        for (int i = 0; i < 3; i++) call(false);
+        call(true);
+        for (int i = 0; i < 10; i++) call(false);
+        // 앞의 실패 2번은 이미 밀려났으므로 4/10
+        for (int i = 0; i < 4; i++) call(true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) call(true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (failure) {
+            breaker.onFailure(FAST);
+        } else {
+            breaker.onSuccess(FAST);
+        }
+    }
+}
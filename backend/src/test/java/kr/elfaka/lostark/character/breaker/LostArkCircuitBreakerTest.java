@@ -0,0 +1,57 @@
+package kr.elfaka.lostark.character.breaker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LostArkCircuitBreakerTest {
+
+    private LostArkRateLimiter rateLimiter;
+    private LostArkCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 분당 600 → 100ms마다 토큰 1개
+        rateLimiter = new LostArkRateLimiter(600, Duration.ofSeconds(5), Duration.ofSeconds(10), meterRegistry);
+        // 느린 호출 1번이면 열리도록
+        circuitBreaker = new LostArkCircuitBreaker(true, 2, 1, 50, Duration.ofMillis(50), 50,
+                Duration.ofSeconds(30), 1, meterRegistry);
+    }
+
+    @Test
+    void execute_tokenWaitOnly_isNotCountedAsSlow() {
+        while (rateLimiter.tryAcquire()) {
+            // 버킷을 비워서 다음 acquire()가 토큰을 기다리게 함
+        }
+
+        long start = System.nanoTime();
+        String result = circuitBreaker.execute(() -> {
+            rateLimiter.acquire();
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void execute_slowUpstream_isCountedAsSlow() {
+        circuitBreaker.execute(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        });
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
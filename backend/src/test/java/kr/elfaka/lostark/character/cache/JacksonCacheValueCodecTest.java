@@ -0,0 +1,62 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JacksonCacheValueCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType entryType = objectMapper.getTypeFactory()
+            .constructParametricType(CacheEntry.class, ArmoryTotalDto.class);
+
+    private static CacheEntry<ArmoryTotalDto> entry() {
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName("테스트");
+        profile.setItemAvgLevel("1,620.00");
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile);
+        return new CacheEntry<>(armory, 1L, 2L, 3L, "W/\"etag\"");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"json,none", "json,deflate", "smile,none", "smile,deflate", "cbor,none", "cbor,deflate"})
+    void encodeDecode_roundTrips(String format, String compression) throws Exception {
+        CacheValueCodec codec = JacksonCacheValueCodec.of(objectMapper, format, compression, 1);
+
+        CacheEntry<ArmoryTotalDto> decoded = codec.decode(codec.encode(entry()), entryType);
+
+        assertThat(decoded).isEqualTo(entry());
+    }
+
+    @Test
+    void decode_readsValuesWrittenInOtherFormats() throws Exception {
+        CacheValueCodec cbor = JacksonCacheValueCodec.of(objectMapper, "cbor", "deflate", 1);
+        CacheValueCodec smile = JacksonCacheValueCodec.of(objectMapper, "smile", "none", 1);
+
+        assertThat(smile.<CacheEntry<ArmoryTotalDto>>decode(cbor.encode(entry()), entryType)).isEqualTo(entry());
+    }
+
+    @Test
+    void decode_legacyJsonText_isReadAsJson() throws Exception {
+        byte[] legacy = objectMapper.writeValueAsString(entry()).getBytes(StandardCharsets.UTF_8);
+        CacheValueCodec smile = JacksonCacheValueCodec.of(objectMapper, "smile", "deflate", 1);
+
+        assertThat(smile.<CacheEntry<ArmoryTotalDto>>decode(legacy, entryType)).isEqualTo(entry());
+    }
+
+    @Test
+    void decode_unknownHeader_returnsNull() throws Exception {
+        CacheValueCodec codec = JacksonCacheValueCodec.json(objectMapper);
+
+        assertThat(codec.<CacheEntry<ArmoryTotalDto>>decode(new byte[]{0x01, 0x02}, entryType)).isNull();
+    }
+}
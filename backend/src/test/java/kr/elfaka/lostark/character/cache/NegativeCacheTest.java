@@ -0,0 +1,46 @@
+package kr.elfaka.lostark.character.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NegativeCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private SimpleMeterRegistry meterRegistry;
+    private NegativeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new NegativeCache("missing-test", 10, Duration.ofMinutes(2), null, meterRegistry, clock::get);
+    }
+
+    @Test
+    void contains_untilTtlExpires() {
+        cache.put("없음");
+
+        assertThat(cache.contains("없음")).isTrue();
+        clock.addAndGet(Duration.ofMinutes(2).toMillis() - 1);
+        assertThat(cache.contains("없음")).isTrue();
+        clock.addAndGet(1);
+        assertThat(cache.contains("없음")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void hitsAreCounted() {
+        cache.put("없음");
+        cache.contains("없음");
+        cache.contains("없음");
+        cache.contains("있음");
+
+        assertThat(meterRegistry.get("armory.cache.negative").tag("result", "l1.hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("armory.cache.negative").tag("result", "store").counter().count()).isEqualTo(1);
+    }
+}
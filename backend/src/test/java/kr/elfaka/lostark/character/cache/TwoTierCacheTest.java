@@ -0,0 +1,113 @@
+package kr.elfaka.lostark.character.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TwoTierCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry registry;
+    private TwoTierCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new TwoTierCache<>(
+                "test",
+                String.class,
+                2,
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(20),
+                null,
+                JacksonCacheValueCodec.json(new ObjectMapper()),
+                Runnable::run, // 백그라운드 갱신을 동기로 실행
+                registry,
+                now::get
+        );
+    }
+
+    private double count(String result) {
+        return registry.get("armory.cache.gets").tag("result", result).counter().count();
+    }
+
+    @Test
+    void get_whenFresh_returnsCachedValueWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+        String second = cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("l1.hit")).isEqualTo(1);
+    }
+
+    @Test
+    void get_whenStale_returnsOldValueAndRefreshesInBackground() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        now.addAndGet(Duration.ofSeconds(15).toMillis());
+        String stale = cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        assertThat(stale).isEqualTo("v1");
+        assertThat(count("l1.stale")).isEqualTo(1);
+        assertThat(cache.get("a", () -> "unused")).isEqualTo("v2");
+    }
+
+    @Test
+    void get_whenExpired_loadsAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+        String reloaded = cache.get("a", () -> "v" + loads.incrementAndGet());
+
+        assertThat(reloaded).isEqualTo("v2");
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void get_whenLoaderReturnsNull_doesNotCache() {
+        assertThat(cache.get("missing", () -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a", () -> "unused"); // a를 최근 사용으로
+        cache.put("c", "3");
+
+        assertThat(cache.peek("a")).isNotNull();
+        assertThat(cache.peek("b")).isNull();
+        assertThat(cache.peek("c")).isNotNull();
+    }
+
+    @Test
+    void getEntry_computesETagOnceAtPutTime() {
+        AtomicInteger hashes = new AtomicInteger();
+        TwoTierCache<String> tagged = new TwoTierCache<>(
+                "tagged", String.class, 2, Duration.ofSeconds(10), Duration.ofSeconds(20),
+                null, JacksonCacheValueCodec.json(new ObjectMapper()), Runnable::run, registry, now::get,
+                v -> hashes.incrementAndGet() + ":" + v);
+
+        CacheEntry<String> first = tagged.getEntry("a", () -> "v");
+        CacheEntry<String> second = tagged.getEntry("a", () -> "unused");
+
+        assertThat(first.etag()).isEqualTo("1:v");
+        assertThat(second.etag()).isEqualTo("1:v");
+        assertThat(second.freshUntil()).isEqualTo(now.get() + 10_000);
+        assertThat(hashes.get()).isEqualTo(1);
+    }
+}
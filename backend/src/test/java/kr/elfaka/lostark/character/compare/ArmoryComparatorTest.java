@@ -0,0 +1,123 @@
+package kr.elfaka.lostark.character.compare;
+
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryEquipmentDto.ArmoryEquipment;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CharacterCompareDto;
+import kr.elfaka.lostark.character.dto.TooltipDto.EquipmentTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.tooltip.TooltipParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArmoryComparatorTest {
+
+    @Mock
+    private TooltipParser tooltipParser;
+
+    private ArmoryComparator comparator;
+
+    @BeforeEach
+    void setUp() {
+        comparator = new ArmoryComparator(tooltipParser);
+        lenient().when(tooltipParser.parseEquipment("weapon-20")).thenReturn(tooltip(20, 95));
+        lenient().when(tooltipParser.parseEquipment("weapon-22")).thenReturn(tooltip(22, 95));
+        lenient().when(tooltipParser.parseGem("gem-a")).thenReturn(new GemTooltip("버스트", "DAMAGE", 40, ""));
+        lenient().when(tooltipParser.parseGem("gem-b")).thenReturn(new GemTooltip("버스트", "DAMAGE", 44, ""));
+    }
+
+    private static EquipmentTooltip tooltip(int upgradeLevel, int quality) {
+        return new EquipmentTooltip(upgradeLevel, quality, null, 4, List.of(), List.of(), Map.of());
+    }
+
+    private static ArmoryTotalDto armory(String itemLevel, String weaponTooltip, String gemTooltip, int gemLevel,
+                                         int grudgeLevel, String crit) {
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName("테스트");
+        profile.setItemAvgLevel(itemLevel);
+        Stat stat = new Stat();
+        stat.setType("치명");
+        stat.setValue(crit);
+        Stat swift = new Stat();
+        swift.setType("신속");
+        swift.setValue("600");
+        profile.setStats(List.of(stat, swift));
+
+        ArmoryEquipment weapon = new ArmoryEquipment();
+        weapon.setType("무기");
+        weapon.setName("+20 무기");
+        weapon.setGrade("고대");
+        weapon.setTooltip(weaponTooltip);
+        ArmoryEquipment ring1 = new ArmoryEquipment();
+        ring1.setType("반지");
+        ring1.setName("반지");
+        ArmoryEquipment ring2 = new ArmoryEquipment();
+        ring2.setType("반지");
+        ring2.setName("반지");
+
+        Gem gem = new Gem();
+        gem.setSlot(0);
+        gem.setLevel(gemLevel);
+        gem.setName(gemLevel + "레벨 겁화의 보석");
+        gem.setTooltip(gemTooltip);
+        ArmoryGem armoryGem = new ArmoryGem();
+        armoryGem.setGems(List.of(gem));
+
+        ArkPassiveEffect grudge = new ArkPassiveEffect();
+        grudge.setName("원한");
+        grudge.setGrade("유물");
+        grudge.setLevel(grudgeLevel);
+        ArmoryEngraving engraving = new ArmoryEngraving();
+        engraving.setArkPassiveEffects(List.of(grudge));
+
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile);
+        armory.setArmoryEquipment(List.of(weapon, ring1, ring2));
+        armory.setArmoryGem(armoryGem);
+        armory.setArmoryEngraving(engraving);
+        return armory;
+    }
+
+    @Test
+    void compare_returnsOnlyDifferencesBySectionKey() {
+        CharacterCompareDto result = comparator.compare(
+                armory("1,680.00", "weapon-20", "gem-a", 9, 3, "1500"),
+                armory("1,690.50", "weapon-22", "gem-b", 10, 4, "1500"));
+
+        assertThat(result.itemLevelDelta()).isEqualTo(10.5);
+        assertThat(result.equipment()).containsExactly(
+                new CharacterCompareDto.Change("무기", "upgradeLevel", "20", "22", 2.0));
+        assertThat(result.gems()).containsExactly(
+                new CharacterCompareDto.Change("버스트", "damageLevel", "9", "10", 1.0),
+                new CharacterCompareDto.Change("버스트", "damageGem", "9레벨 겁화의 보석", "10레벨 겁화의 보석", null));
+        assertThat(result.engravings()).containsExactly(
+                new CharacterCompareDto.Change("원한", "level", "3", "4", 1.0));
+        assertThat(result.stats()).isEmpty();
+    }
+
+    @Test
+    void diff_keyOnOneSideOnly_hasNullOnOtherSide() {
+        List<CharacterCompareDto.Change> changes = ArmoryComparator.diff(
+                Map.of("원한", Map.of("level", "4")),
+                Map.of("아드레날린", Map.of("level", "4")));
+
+        assertThat(changes).containsExactly(
+                new CharacterCompareDto.Change("원한", "level", "4", null, null),
+                new CharacterCompareDto.Change("아드레날린", "level", null, "4", null));
+    }
+}
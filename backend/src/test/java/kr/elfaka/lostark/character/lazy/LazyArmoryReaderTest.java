@@ -0,0 +1,139 @@
+package kr.elfaka.lostark.character.lazy;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LazyArmoryReaderTest {
+
+    private static final String JSON = """
+            {
+              "ArmoryProfile": {"CharacterName": "테스트", "CharacterClassName": "건슬링어", "ItemAvgLevel": "1,680.00", "HonorPoint": 5, "UpstreamOnly": "x"},
+              "ArmoryEquipment": [{"Type": "무기", "Name": "+25 무기", "Grade": "고대", "Tooltip": "{}"}],
+              "ArmorySkills": [{"Name": "퀵 스텝", "Level": 14, "Tripods": [{"Tier": 0, "Name": "빠른 준비", "IsSelected": true}]}],
+              "ArmoryGem": null,
+              "Collectibles": [{"Type": "모코코 씨앗", "Point": 1100, "MaxPoint": 1400}]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private SimpleMeterRegistry meterRegistry;
+    private LazyArmoryReader reader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reader = new LazyArmoryReader(objectMapper, meterRegistry);
+    }
+
+    @Test
+    void read_decodesNothingUntilSectionIsAccessed() throws Exception {
+        LazyArmoryTotalDto armory = read();
+
+        assertThat(armory.decodedCount()).isZero();
+
+        assertThat(armory.getArmoryProfile().getCharacterClassName()).isEqualTo("건슬링어");
+        assertThat(armory.decodedCount()).isEqualTo(1);
+        assertThat(decodes("profiles")).isEqualTo(1);
+        assertThat(decodes("combat-skills")).isZero();
+
+        assertThat(armory.getArmorySkills().get(0).getTripods().get(0).getName()).isEqualTo("빠른 준비");
+        assertThat(armory.getArmoryGem()).isNull();
+        assertThat(armory.decodedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void serialize_rawWriter_writesRawSectionsWithoutDecoding() throws Exception {
+        LazyArmoryTotalDto armory = read();
+        armory.getArmoryProfile();
+
+        JsonNode written = objectMapper.readTree(rawWriter(objectMapper).writeValueAsBytes(armory));
+
+        JsonNode source = objectMapper.readTree(JSON);
+        for (ArmorySection section : ArmorySection.values()) {
+            JsonNode expected = source.get(section.jsonName());
+            assertThat(written.get(section.jsonName())).as(section.jsonName())
+                    .isEqualTo(expected == null ? objectMapper.nullNode() : expected);
+        }
+        assertThat(armory.decodedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void serialize_defaultWriter_matchesEagerDto() throws Exception {
+        LazyArmoryTotalDto armory = read();
+
+        String written = objectMapper.writeValueAsString(armory);
+
+        assertThat(written).isEqualTo(objectMapper.writeValueAsString(objectMapper.readValue(JSON, ArmoryTotalDto.class)));
+        assertThat(written).doesNotContain("UpstreamOnly");
+    }
+
+    @Test
+    void serialize_rawWriterToSmile_transcodesRawSections() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        LazyArmoryTotalDto armory = read();
+
+        ArmoryTotalDto decoded = smile.readValue(rawWriter(smile).writeValueAsBytes(armory), ArmoryTotalDto.class);
+
+        assertThat(armory.decodedCount()).isZero();
+        assertThat(decoded).isEqualTo(objectMapper.readValue(JSON, ArmoryTotalDto.class));
+    }
+
+    @Test
+    void select_sharesSourceAndDecodedSections() throws Exception {
+        LazyArmoryTotalDto armory = read();
+        armory.getArmoryProfile();
+
+        LazyArmoryTotalDto only = armory.select(EnumSet.of(ArmorySection.PROFILES, ArmorySection.COLLECTIBLES));
+
+        assertThat(only.getArmoryProfile()).isSameAs(armory.getArmoryProfile());
+        assertThat(only.getArmorySkills()).isNull();
+        JsonNode written = objectMapper.readTree(rawWriter(objectMapper).writeValueAsBytes(only));
+        assertThat(written.get("Collectibles").get(0).get("Point").asInt()).isEqualTo(1100);
+        assertThat(written.get("ArmorySkills").isNull()).isTrue();
+        assertThat(decodes("collectibles")).isZero();
+    }
+
+    @Test
+    void setter_replacesRawSection() throws Exception {
+        LazyArmoryTotalDto armory = read();
+
+        armory.setArmoryEquipment(null);
+
+        assertThat(armory.getArmoryEquipment()).isNull();
+        assertThat(objectMapper.readTree(rawWriter(objectMapper).writeValueAsBytes(armory)).get("ArmoryEquipment").isNull()).isTrue();
+        assertThat(decodes("equipment")).isZero();
+    }
+
+    @Test
+    void read_nullOrEmptyBody_returnsNull() throws Exception {
+        assertThat(reader.read("null".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(reader.read(new byte[0])).isNull();
+    }
+
+    private LazyArmoryTotalDto read() throws Exception {
+        return (LazyArmoryTotalDto) reader.read(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ObjectWriter rawWriter(ObjectMapper mapper) {
+        return mapper.writer().withAttribute(LazyArmoryTotalDto.RAW_SECTIONS, Boolean.TRUE);
+    }
+
+    private double decodes(String section) {
+        return meterRegistry.get("armory.lazy.decode").tag("section", section).counter().count();
+    }
+}
@@ -0,0 +1,96 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.LeaderboardDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LeaderboardServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaderboardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new LeaderboardService(new InMemoryLeaderboardStore(), 3, 10, 2, meterRegistry);
+    }
+
+    @Test
+    void top_filtersByServerAndClass() {
+        fetched("바드1", "루페온", "바드", "1,680.00");
+        fetched("바드2", "루페온", "바드", "1,700.00");
+        fetched("버서커", "루페온", "버서커", "1,690.00");
+        service.flush();
+
+        LeaderboardDto bards = service.top("루페온", "바드", 10);
+
+        assertThat(bards.total()).isEqualTo(2);
+        assertThat(bards.entries()).extracting(LeaderboardDto.Entry::characterName).containsExactly("바드2", "바드1");
+        assertThat(service.top(null, null, 10).entries()).extracting(LeaderboardDto.Entry::rank).containsExactly(1L, 2L, 3L);
+        assertThat(service.rank("바드1", null, null).rank()).isEqualTo(3);
+    }
+
+    @Test
+    void refetch_movesCharacterBetweenServerBoards() {
+        fetched("이동", "루페온", "바드", "1,680.00");
+        service.flush();
+        fetched("이동", "카단", "바드", "1,685.00");
+        service.flush();
+
+        assertThat(service.top("루페온", null, 10).entries()).isEmpty();
+        assertThat(service.rank("이동", "카단", "바드").itemLevel()).isEqualTo(1685.0);
+    }
+
+    @Test
+    void overMaxMembers_dropsLowestFromAllBoards() {
+        fetched("a", "루페온", "바드", "1,600.00");
+        fetched("b", "루페온", "바드", "1,610.00");
+        fetched("c", "루페온", "바드", "1,620.00");
+        fetched("d", "루페온", "바드", "1,630.00");
+        service.flush();
+
+        assertThat(service.top(null, null, 10).total()).isEqualTo(3);
+        assertThat(service.rank("a", "루페온", "바드")).isNull();
+    }
+
+    @Test
+    void onArmoryFetched_onlyQueues_untilFlush() {
+        fetched("대기", "루페온", "바드", "1,680.00");
+        fetched("대기", "루페온", "바드", "1,690.00");
+
+        assertThat(service.top(null, null, 10).total()).isZero();
+        assertThat(meterRegistry.get("armory.leaderboard.queue").gauge().value()).isEqualTo(2);
+
+        service.flush();
+
+        assertThat(service.rank("대기", null, null).itemLevel()).isEqualTo(1690.0);
+        assertThat(meterRegistry.get("armory.leaderboard.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    void onArmoryFetched_queueFull_dropsUpdate() {
+        for (int i = 0; i < 11; i++) {
+            fetched("c" + i, "루페온", "바드", "1,600.00");
+        }
+
+        assertThat(meterRegistry.get("armory.leaderboard.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private void fetched(String name, String server, String className, String itemLevel) {
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName(name);
+        profile.setServerName(server);
+        profile.setCharacterClassName(className);
+        profile.setItemAvgLevel(itemLevel);
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile);
+        service.onArmoryFetched(new ArmoryFetchedEvent(name, name, armory, Instant.now()));
+    }
+}
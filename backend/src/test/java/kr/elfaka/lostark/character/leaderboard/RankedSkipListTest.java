@@ -0,0 +1,71 @@
+package kr.elfaka.lostark.character.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RankedSkipListTest {
+
+    @Test
+    void ordersByScoreDescThenMemberDesc() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert("a", 1600);
+        list.insert("b", 1680);
+        list.insert("c", 1600);
+
+        assertThat(list.range(1, 10)).extracting(LeaderboardStore.Ranked::member).containsExactly("b", "c", "a");
+        assertThat(list.rank("a", 1600)).isEqualTo(3);
+        assertThat(list.last()).isEqualTo("a");
+    }
+
+    @Test
+    void rankOfMissingMember_isZero() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert("a", 1600);
+
+        assertThat(list.rank("a", 1610)).isZero();
+        assertThat(list.rank("b", 1600)).isZero();
+        assertThat(list.delete("b", 1600)).isFalse();
+    }
+
+    @Test
+    void randomInsertsAndDeletes_matchSortedReference() {
+        Random random = new Random(42);
+        RankedSkipList list = new RankedSkipList();
+        Map<String, Double> reference = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            String member = "m" + random.nextInt(800);
+            Double previous = reference.get(member);
+            if (previous != null) {
+                assertThat(list.delete(member, previous)).isTrue();
+                reference.remove(member);
+            }
+            if (random.nextInt(4) != 0) {
+                double score = 1500 + random.nextInt(200);
+                list.insert(member, score);
+                reference.put(member, score);
+            }
+        }
+
+        List<Map.Entry<String, Double>> sorted = new ArrayList<>(reference.entrySet());
+        sorted.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        assertThat(list.size()).isEqualTo(sorted.size());
+        assertThat(list.range(1, sorted.size())).extracting(LeaderboardStore.Ranked::member)
+                .containsExactlyElementsOf(sorted.stream().map(Map.Entry::getKey).toList());
+        for (int rank = 1; rank <= sorted.size(); rank++) {
+            Map.Entry<String, Double> e = sorted.get(rank - 1);
+            assertThat(list.rank(e.getKey(), e.getValue())).isEqualTo(rank);
+        }
+        assertThat(list.range(11, 5)).extracting(LeaderboardStore.Ranked::rank).containsExactly(11L, 12L, 13L, 14L, 15L);
+    }
+}
@@ -0,0 +1,63 @@
+package kr.elfaka.lostark.character.market;
+
+import kr.elfaka.lostark.character.dto.AuctionDto.Auction;
+import kr.elfaka.lostark.character.dto.AuctionDto.AuctionInfo;
+import kr.elfaka.lostark.character.dto.AuctionDto.AuctionItem;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketItem;
+import kr.elfaka.lostark.character.dto.MarketDto.MarketList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MarketPriceSamplerTest {
+
+    private static MarketItem marketItem(String name, double currentMinPrice) {
+        MarketItem item = new MarketItem();
+        item.setName(name);
+        item.setCurrentMinPrice(currentMinPrice);
+        return item;
+    }
+
+    private static AuctionItem auctionItem(Long buyPrice) {
+        AuctionInfo info = new AuctionInfo();
+        info.setBuyPrice(buyPrice);
+        AuctionItem item = new AuctionItem();
+        item.setAuctionInfo(info);
+        return item;
+    }
+
+    @Test
+    void lowestMarketPrice_usesExactNameOnly() {
+        MarketList list = new MarketList();
+        list.setItems(List.of(marketItem("유물 원한 각인서 (귀속)", 10), marketItem("유물 원한 각인서", 3000)));
+
+        assertThat(MarketPriceSampler.lowestMarketPrice(list, "유물 원한 각인서")).isEqualTo(3000.0);
+        assertThat(MarketPriceSampler.lowestMarketPrice(list, "원한")).isNull();
+        assertThat(MarketPriceSampler.lowestMarketPrice(new MarketList(), "원한")).isNull();
+    }
+
+    @Test
+    void lowestBuyPrice_skipsBidOnlyListings() {
+        Auction auction = new Auction();
+        auction.setItems(List.of(auctionItem(null), auctionItem(0L), auctionItem(250000L)));
+
+        assertThat(MarketPriceSampler.lowestBuyPrice(auction)).isEqualTo(250000.0);
+        assertThat(MarketPriceSampler.lowestBuyPrice(new Auction())).isNull();
+    }
+
+    @Test
+    void trackedItem_parse() {
+        TrackedItem gem = TrackedItem.parse(" gem-doom-10|auction|210000|10레벨 겁화의 보석|4 ");
+
+        assertThat(gem.source()).isEqualTo(TrackedItem.Source.AUCTION);
+        assertThat(gem.categoryCode()).isEqualTo(210000);
+        assertThat(gem.itemName()).isEqualTo("10레벨 겁화의 보석");
+        assertThat(gem.itemTier()).isEqualTo(4);
+        assertThatThrownBy(() -> TrackedItem.parse("Bad Key|market|40000|원한"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TrackedItem.parse("key|shop|40000|원한"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
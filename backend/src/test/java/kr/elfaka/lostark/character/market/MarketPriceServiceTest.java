@@ -0,0 +1,142 @@
+package kr.elfaka.lostark.character.market;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.MarketPriceSeriesDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MarketPriceServiceTest {
+
+    private static final String GRUDGE = "relic-grudge";
+
+    @Mock
+    private MarketPriceBucketRepository repository;
+
+    private MarketPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MarketPriceService(repository,
+                List.of(GRUDGE + "|market|40000|유물 원한 각인서", "gem-doom-10|auction|210000|10레벨 겁화의 보석|4"),
+                Duration.ofDays(2), Duration.ofDays(90), new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MarketPriceBucket> flushed() {
+        ArgumentCaptor<List<MarketPriceBucket>> captor = ArgumentCaptor.forClass(List.class);
+        service.flush();
+        verify(repository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void floor_dayBucketsFollowKoreanMidnight() {
+        long utc = Instant.parse("2026-03-01T16:30:00Z").toEpochMilli(); // KST 3/2 01:30
+
+        assertThat(Instant.ofEpochMilli(PriceResolution.DAY.floor(utc))).isEqualTo(Instant.parse("2026-03-01T15:00:00Z"));
+        assertThat(Instant.ofEpochMilli(PriceResolution.HOUR.floor(utc))).isEqualTo(Instant.parse("2026-03-01T16:00:00Z"));
+        assertThat(PriceResolution.forRange(Duration.ofDays(7))).isEqualTo(PriceResolution.HOUR);
+    }
+
+    @Test
+    void record_aggregatesIntoEveryResolution() {
+        Instant now = Instant.now();
+        service.record(GRUDGE, now, 100);
+        service.record(GRUDGE, now, 300);
+
+        List<MarketPriceBucket> rows = flushed();
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getSamples()).isEqualTo(2);
+            assertThat(row.getMinPrice()).isEqualTo(100);
+            assertThat(row.getMaxPrice()).isEqualTo(300);
+            assertThat(row.getSumPrice()).isEqualTo(400);
+            assertThat(row.getLastPrice()).isEqualTo(300);
+        });
+    }
+
+    @Test
+    void record_continuesBucketThatExistedBeforeStartup() {
+        Instant earlier = Instant.now().minus(Duration.ofMinutes(5));
+        long hourStart = PriceResolution.HOUR.floor(earlier.toEpochMilli());
+        when(repository.findById(any())).thenReturn(Optional.empty());
+        when(repository.findById(new MarketPriceBucket.Key(GRUDGE, PriceResolution.HOUR, Instant.ofEpochMilli(hourStart))))
+                .thenReturn(Optional.of(MarketPriceBucket.builder()
+                        .itemKey(GRUDGE).resolution(PriceResolution.HOUR).bucketStart(Instant.ofEpochMilli(hourStart))
+                        .minPrice(50).maxPrice(80).sumPrice(130).samples(2).lastPrice(80)
+                        .build()));
+
+        service.record(GRUDGE, earlier, 200);
+
+        MarketPriceBucket hour = flushed().stream()
+                .filter(row -> row.getResolution() == PriceResolution.HOUR)
+                .findFirst().orElseThrow();
+        assertThat(hour.getSamples()).isEqualTo(3);
+        assertThat(hour.getMinPrice()).isEqualTo(50);
+        assertThat(hour.getMaxPrice()).isEqualTo(200);
+        assertThat(hour.getLastPrice()).isEqualTo(200);
+    }
+
+    @Test
+    void flush_keepsBucketsWhenSaveFails() {
+        service.record(GRUDGE, Instant.now(), 100);
+        when(repository.saveAll(anyList())).thenThrow(new IllegalStateException("db down")).thenReturn(List.of());
+
+        service.flush();
+        service.flush();
+
+        verify(repository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void series_overlaysUnsavedBucketsOnStoredOnes() {
+        Instant now = Instant.now();
+        long minute = PriceResolution.MINUTE.floor(now.toEpochMilli());
+        Instant stored = Instant.ofEpochMilli(minute - Duration.ofMinutes(10).toMillis());
+        when(repository.findByItemKeyAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                eq(GRUDGE), eq(PriceResolution.MINUTE), any(), any()))
+                .thenReturn(List.of(MarketPriceBucket.builder()
+                        .itemKey(GRUDGE).resolution(PriceResolution.MINUTE).bucketStart(stored)
+                        .minPrice(90).maxPrice(110).sumPrice(200).samples(2).lastPrice(110)
+                        .build()));
+        service.record(GRUDGE, now, 120);
+
+        MarketPriceSeriesDto series = service.series(GRUDGE, null, now.minus(Duration.ofHours(1)), now);
+
+        assertThat(series.resolution()).isEqualTo("MINUTE");
+        assertThat(series.timestamps()).containsExactly(stored.toEpochMilli(), minute);
+        assertThat(series.avg()).containsExactly(100.0, 120.0);
+        assertThat(series.last()).containsExactly(110.0, 120.0);
+    }
+
+    @Test
+    void series_unknownItem_isNull() {
+        Instant now = Instant.now();
+
+        assertThat(service.series("unknown", null, now.minus(Duration.ofDays(1)), now)).isNull();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void parse_rejectsDuplicateKeys() {
+        assertThatThrownBy(() -> new MarketPriceService(repository,
+                List.of("a|market|40000|원한", "a|market|40000|아드레날린"),
+                Duration.ofDays(2), Duration.ofDays(90), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package kr.elfaka.lostark.character.meta;
+
+import kr.elfaka.lostark.character.dto.ClassMetaDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClassMetaAggregatorTest {
+
+    private static final ClassMetaAggregator.Feature GRUDGE =
+            new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ENGRAVING, "원한", "유물 Lv.4");
+    private static final ClassMetaAggregator.Feature ADRENALINE =
+            new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ENGRAVING, "아드레날린", "유물 Lv.4");
+    private static final ClassMetaAggregator.Feature GEM_10 =
+            new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.GEM, "겁화의 보석", "10");
+
+    @Test
+    void distribution_countsPerClassAndShare() {
+        ClassMetaAggregator aggregator = new ClassMetaAggregator(100);
+        aggregator.ingest("a", "건슬링어", 1680, List.of(GRUDGE, GEM_10, GEM_10));
+        aggregator.ingest("b", "건슬링어", 1690, List.of(GRUDGE, ADRENALINE));
+        aggregator.ingest("c", "바드", 1700, List.of(ADRENALINE));
+
+        ClassMetaDto meta = aggregator.distribution("건슬링어", null, 10);
+
+        assertThat(meta.characters()).isEqualTo(2);
+        assertThat(meta.engravings()).extracting(ClassMetaDto.Entry::name, ClassMetaDto.Entry::count, ClassMetaDto.Entry::share)
+                .containsExactly(tuple("원한", 2L, 1.0), tuple("아드레날린", 1L, 0.5));
+        assertThat(meta.gems()).singleElement().extracting(ClassMetaDto.Entry::count).isEqualTo(2L);
+        assertThat(meta.arkPassives()).isEmpty();
+    }
+
+    @Test
+    void reingest_replacesPreviousContribution() {
+        ClassMetaAggregator aggregator = new ClassMetaAggregator(100);
+        aggregator.ingest("a", "건슬링어", 1680, List.of(GRUDGE));
+        aggregator.ingest("a", "건슬링어", 1690, List.of(ADRENALINE));
+
+        ClassMetaDto meta = aggregator.distribution("건슬링어", null, 10);
+
+        assertThat(meta.characters()).isEqualTo(1);
+        assertThat(meta.engravings()).extracting(ClassMetaDto.Entry::name).containsExactly("아드레날린");
+    }
+
+    @Test
+    void minItemLevel_filtersByTier() {
+        ClassMetaAggregator aggregator = new ClassMetaAggregator(100);
+        aggregator.ingest("a", "건슬링어", 1675.5, List.of(GRUDGE));
+        aggregator.ingest("b", "건슬링어", 1685.5, List.of(ADRENALINE));
+
+        ClassMetaDto meta = aggregator.distribution("건슬링어", 1689, 10);
+
+        assertThat(meta.minItemLevel()).isEqualTo(1680);
+        assertThat(meta.characters()).isEqualTo(1);
+        assertThat(meta.engravings()).extracting(ClassMetaDto.Entry::name).containsExactly("아드레날린");
+    }
+
+    @Test
+    void overMaxCharacters_evictsLeastRecentlyIngested() {
+        ClassMetaAggregator aggregator = new ClassMetaAggregator(2);
+        aggregator.ingest("a", "건슬링어", 1680, List.of(GRUDGE));
+        aggregator.ingest("b", "건슬링어", 1680, List.of(ADRENALINE));
+        aggregator.ingest("c", "건슬링어", 1680, List.of(ADRENALINE));
+
+        ClassMetaDto meta = aggregator.distribution("건슬링어", null, 10);
+
+        assertThat(aggregator.characters()).isEqualTo(2);
+        assertThat(meta.engravings()).extracting(ClassMetaDto.Entry::name, ClassMetaDto.Entry::count)
+                .containsExactly(tuple("아드레날린", 2L));
+    }
+}
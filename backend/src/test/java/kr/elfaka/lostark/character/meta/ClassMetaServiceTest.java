@@ -0,0 +1,53 @@
+package kr.elfaka.lostark.character.meta;
+
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.ArmoryCard;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.CardEffect;
+import kr.elfaka.lostark.character.dto.ArmoryCardDto.CardItem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClassMetaServiceTest {
+
+    @Test
+    void features_parseGemTypeNodeLevelAndHighestCardSet() {
+        Gem gem = new Gem();
+        gem.setName("<FONT COLOR='#E3C7A1'>9레벨 작열의 보석</FONT>");
+        gem.setLevel(9);
+        ArmoryGem armoryGem = new ArmoryGem();
+        armoryGem.setGems(List.of(gem));
+
+        ArkPassiveEffect node = new ArkPassiveEffect();
+        node.setDescription("<FONT COLOR='#FFFFFF'>치명 1티어 효과 Lv.2</FONT>");
+        ArkPassive arkPassive = new ArkPassive();
+        arkPassive.setEffects(List.of(node));
+
+        CardEffect effect = new CardEffect();
+        effect.setItems(List.of(cardItem("세상을 구하는 빛 2세트"), cardItem("세상을 구하는 빛 6세트")));
+        ArmoryCard card = new ArmoryCard();
+        card.setEffects(List.of(effect));
+
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryGem(armoryGem);
+        armory.setArkPassive(arkPassive);
+        armory.setArmoryCard(card);
+
+        assertThat(ClassMetaService.features(armory)).containsExactly(
+                new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.GEM, "작열의 보석", "9"),
+                new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.ARK_PASSIVE, "치명 1티어 효과", "Lv.2"),
+                new ClassMetaAggregator.Feature(ClassMetaAggregator.Kind.CARD_SET, "세상을 구하는 빛 6세트", null));
+    }
+
+    private static CardItem cardItem(String name) {
+        CardItem item = new CardItem();
+        item.setName(name);
+        return item;
+    }
+}
@@ -0,0 +1,156 @@
+package kr.elfaka.lostark.character.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryEquipmentDto.ArmoryEquipment;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.error.InvalidCharacterRequestException;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArmoryProjectorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private ArmoryProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projector = new ArmoryProjector(objectMapper, 16, 8, meterRegistry);
+    }
+
+    @Test
+    void write_serializesOnlySelectedPaths() throws Exception {
+        FieldProjection projection = projector.compile(
+                "ArmoryProfile.CharacterName,ArmoryEquipment.Name,ArmoryEquipment.Grade");
+
+        JsonNode json = objectMapper.readTree(projector.write(armory(), projection, null, null));
+
+        assertThat(json.fieldNames()).toIterable().containsExactly("ArmoryEquipment", "ArmoryProfile");
+        assertThat(json.get("ArmoryProfile").fieldNames()).toIterable().containsExactly("CharacterName");
+        assertThat(json.get("ArmoryEquipment")).hasSize(2);
+        assertThat(json.get("ArmoryEquipment").get(1).fieldNames()).toIterable().containsExactly("Name", "Grade");
+        assertThat(json.get("ArmoryEquipment").get(1).get("Name").asText()).isEqualTo("반지");
+    }
+
+    @Test
+    void write_pathEndingAtObject_includesWholeSubtree() throws Exception {
+        FieldProjection projection = projector.compile("ArmoryProfile.Stats");
+
+        JsonNode stats = objectMapper.readTree(projector.write(armory(), projection, null, null))
+                .get("ArmoryProfile").get("Stats");
+
+        assertThat(stats.get(0).get("Type").asText()).isEqualTo("치명");
+        assertThat(stats.get(0).get("Tooltip")).hasSize(1);
+    }
+
+    @Test
+    void compile_ignoresCaseAndOrder_sharesNormalizedProjection() {
+        FieldProjection a = projector.compile("armoryprofile.charactername,ArmoryEquipment.NAME");
+        FieldProjection b = projector.compile(" ArmoryEquipment.Name , ArmoryProfile.CharacterName");
+
+        assertThat(a.key()).isEqualTo("ArmoryEquipment.Name,ArmoryProfile.CharacterName");
+        assertThat(b).isSameAs(a);
+        assertThat(projector.compile(a.key())).isSameAs(a);
+    }
+
+    @Test
+    void compile_parentPath_absorbsChildPaths() {
+        assertThat(projector.compile("ArmoryProfile.Stats.Value,ArmoryProfile").key()).isEqualTo("ArmoryProfile");
+        assertThat(projector.compile("ArmoryProfile,ArmoryProfile.Stats.Value").key()).isEqualTo("ArmoryProfile");
+    }
+
+    @Test
+    void sections_coverOnlySelectedTopLevelFields() {
+        FieldProjection projection = projector.compile("ArmoryProfile.CharacterName,ArmoryEquipment.Name");
+
+        assertThat(projector.sections(projection))
+                .containsExactlyInAnyOrder(ArmorySection.PROFILES, ArmorySection.EQUIPMENT);
+    }
+
+    @Test
+    void compile_invalidSelector_isRejected() {
+        assertThatThrownBy(() -> projector.compile(" , "))
+                .isInstanceOf(InvalidCharacterRequestException.class);
+        assertThatThrownBy(() -> projector.compile("ArmoryProfile.Nope"))
+                .isInstanceOf(InvalidCharacterRequestException.class)
+                .hasMessageContaining("ArmoryProfile.Nope");
+        assertThatThrownBy(() -> projector.compile("ArmoryProfile.CharacterName.Length"))
+                .isInstanceOf(InvalidCharacterRequestException.class);
+        assertThatThrownBy(() -> projector.compile(String.join(",", Collections.nCopies(9, "ArmoryProfile.CharacterName"))))
+                .isInstanceOf(InvalidCharacterRequestException.class)
+                .hasMessageContaining("max 8");
+    }
+
+    @Test
+    void write_recordsFullAndProjectedSizes() {
+        FieldProjection projection = projector.compile("ArmoryProfile.CharacterName");
+        ArmoryTotalDto armory = armory();
+        // 섹션만 조회한 결과로 응답해도 full은 전체 armory 크기
+        ArmoryTotalDto profileOnly = ArmorySection.select(armory, projector.sections(projection));
+
+        byte[] body = projector.write(profileOnly, projection, armory, "W/\"e1\"");
+        projector.write(profileOnly, projection, armory, "W/\"e1\"");
+
+        assertThat(meterRegistry.get("armory.projection.bytes").tag("kind", "projected").summary().totalAmount())
+                .isEqualTo(body.length * 2.0);
+        double full = meterRegistry.get("armory.projection.bytes").tag("kind", "full").summary().totalAmount();
+        assertThat(full).isEqualTo(armoryJsonLength(armory) * 2.0);
+        assertThat(full).isGreaterThan(armoryJsonLength(profileOnly) * 2.0);
+    }
+
+    @Test
+    void write_withoutFullArmory_recordsNoSizes() {
+        FieldProjection projection = projector.compile("ArmoryProfile.CharacterName");
+
+        projector.write(armory(), projection, null, null);
+
+        assertThat(meterRegistry.get("armory.projection.bytes").tag("kind", "projected").summary().count()).isZero();
+        assertThat(meterRegistry.get("armory.projection.bytes").tag("kind", "full").summary().count()).isZero();
+    }
+
+    private int armoryJsonLength(ArmoryTotalDto armory) {
+        try {
+            return objectMapper.writeValueAsBytes(armory).length;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ArmoryTotalDto armory() {
+        Stat stat = new Stat();
+        stat.setType("치명");
+        stat.setValue("600");
+        stat.setTooltip(List.of("치명타 적중률이 21.47% 증가합니다."));
+
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName("건슬");
+        profile.setCharacterClassName("건슬링어");
+        profile.setItemAvgLevel("1,680.00");
+        profile.setStats(List.of(stat));
+
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile);
+        armory.setArmoryEquipment(List.of(equipment("무기", "무기"), equipment("반지", "반지")));
+        return armory;
+    }
+
+    private static ArmoryEquipment equipment(String type, String name) {
+        ArmoryEquipment equipment = new ArmoryEquipment();
+        equipment.setType(type);
+        equipment.setName(name);
+        equipment.setGrade("고대");
+        equipment.setTooltip("{\"Element_000\":{}}");
+        return equipment;
+    }
+}
@@ -0,0 +1,17 @@
+package kr.elfaka.lostark.character.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LostArkRateLimiterTest {
+
+    @Test
+    void perTick_spreadsBudgetEvenly() {
+        assertThat(LostArkRateLimiter.perTick(20, Duration.ofSeconds(10))).isEqualTo(4);
+        assertThat(LostArkRateLimiter.perTick(5, Duration.ofSeconds(10))).isEqualTo(1);
+        assertThat(LostArkRateLimiter.perTick(20, Duration.ofMinutes(2))).isEqualTo(20);
+    }
+}
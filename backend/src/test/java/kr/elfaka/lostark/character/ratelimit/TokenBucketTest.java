@@ -0,0 +1,68 @@
+package kr.elfaka.lostark.character.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanos = new AtomicLong(0);
+
+    // 용량 2, 2초에 2개 → 1초에 1개씩 충전
+    private final TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), nanos::get);
+
+    @Test
+    void reserve_withinCapacity_doesNotWait() {
+        assertThat(bucket.reserve(Duration.ZERO)).isZero();
+        assertThat(bucket.reserve(Duration.ZERO)).isZero();
+    }
+
+    @Test
+    void reserve_beyondCapacity_queuesInArrivalOrder() {
+        bucket.reserve(Duration.ZERO);
+        bucket.reserve(Duration.ZERO);
+
+        assertThat(bucket.reserve(Duration.ofSeconds(5))).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(bucket.reserve(Duration.ofSeconds(5))).isEqualTo(Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    void reserve_whenWaitExceedsDeadline_rejectsWithoutTakingSlot() {
+        bucket.reserve(Duration.ZERO);
+        bucket.reserve(Duration.ZERO);
+
+        assertThat(bucket.reserve(Duration.ofMillis(500))).isEqualTo(-1);
+        // 거절된 요청은 대기열 자리를 차지하지 않음
+        assertThat(bucket.reserve(Duration.ofSeconds(5))).isEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void reserve_afterIdle_refillsUpToCapacity() {
+        bucket.reserve(Duration.ZERO);
+        bucket.reserve(Duration.ZERO);
+
+        nanos.set(Duration.ofSeconds(10).toNanos());
+
+        assertThat(bucket.availableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void pauseUntil_blocksTokensUntilGivenTime() {
+        bucket.pauseUntil(Duration.ofSeconds(3).toNanos());
+
+        assertThat(bucket.availableTokens()).isZero();
+        assertThat(bucket.tryAcquire()).isFalse();
+        assertThat(bucket.reserve(Duration.ofSeconds(5))).isEqualTo(Duration.ofSeconds(3).toNanos());
+    }
+
+    @Test
+    void limitTo_reducesStoredTokensToUpstreamRemaining() {
+        bucket.limitTo(1);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+}
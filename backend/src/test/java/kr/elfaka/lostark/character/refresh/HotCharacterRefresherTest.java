@@ -0,0 +1,126 @@
+package kr.elfaka.lostark.character.refresh;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.CacheEntry;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.ratelimit.LostArkRateLimiter;
+import kr.elfaka.lostark.character.service.LostArkService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotCharacterRefresherTest {
+
+    private static final int RESERVE = 20;
+
+    @Mock
+    private LostArkService lostArkService;
+
+    @Mock
+    private LostArkRateLimiter rateLimiter;
+
+    @Mock
+    private LostArkCircuitBreaker circuitBreaker;
+
+    @Mock
+    private TwoTierCache<ArmoryTotalDto> armoryCache;
+
+    private final PopularityTracker popularityTracker = new PopularityTracker(Duration.ofMinutes(10), 100, () -> 0L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void refreshHotCharacters_missingFirstThenNearestExpiry_withinRefreshAheadAndPerTick() {
+        hot("여유", 4);
+        hot("곧만료", 3);
+        hot("없음", 2);
+        hot("가장곧만료", 1);
+        long now = System.currentTimeMillis();
+        when(armoryCache.peek("여유")).thenReturn(entry(now + Duration.ofMinutes(10).toMillis()));
+        when(armoryCache.peek("곧만료")).thenReturn(entry(now + Duration.ofSeconds(40).toMillis()));
+        when(armoryCache.peek("없음")).thenReturn(null);
+        when(armoryCache.peek("가장곧만료")).thenReturn(entry(now + Duration.ofSeconds(20).toMillis()));
+        grantQuota();
+        when(lostArkService.refreshCharacter(anyString())).thenReturn(true);
+
+        // 분당 12개 / 10초 tick → tick당 2개
+        refresher(12).refreshHotCharacters();
+
+        InOrder inOrder = inOrder(lostArkService);
+        inOrder.verify(lostArkService).refreshCharacter("없음");
+        inOrder.verify(lostArkService).refreshCharacter("가장곧만료");
+        verifyNoMoreInteractions(lostArkService);
+        assertThat(count("refreshed")).isEqualTo(2);
+    }
+
+    @Test
+    void refreshHotCharacters_quotaRefused_stopsTickAndCountsSkipped() {
+        hot("하나", 3);
+        hot("둘", 2);
+        hot("셋", 1);
+        when(armoryCache.peek(anyString())).thenReturn(null);
+        when(rateLimiter.runIfAvailable(eq(RESERVE), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                })
+                .thenReturn(false);
+        when(lostArkService.refreshCharacter("하나")).thenReturn(false);
+
+        refresher(60).refreshHotCharacters();
+
+        verify(rateLimiter, times(2)).runIfAvailable(eq(RESERVE), any());
+        verify(lostArkService, never()).refreshCharacter("둘");
+        verify(lostArkService, never()).refreshCharacter("셋");
+        assertThat(count("not_found")).isEqualTo(1);
+        assertThat(count("skipped")).isEqualTo(2);
+    }
+
+    @Test
+    void refreshHotCharacters_breakerOpen_callsNothing() {
+        hot("인기", 1);
+        when(circuitBreaker.isOpen()).thenReturn(true);
+
+        refresher(60).refreshHotCharacters();
+
+        verifyNoInteractions(rateLimiter, lostArkService, armoryCache);
+    }
+
+    private HotCharacterRefresher refresher(int budgetPerMinute) {
+        return new HotCharacterRefresher(popularityTracker, lostArkService, rateLimiter, circuitBreaker, armoryCache,
+                10, Duration.ofMinutes(1), RESERVE, budgetPerMinute, Duration.ofSeconds(10), meterRegistry);
+    }
+
+    private void hot(String name, int requests) {
+        for (int i = 0; i < requests; i++) {
+            popularityTracker.record(name, name);
+        }
+    }
+
+    private void grantQuota() {
+        when(rateLimiter.runIfAvailable(eq(RESERVE), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("armory.refresh.hot").tag("result", result).counter().count();
+    }
+
+    private static CacheEntry<ArmoryTotalDto> entry(long freshUntil) {
+        return new CacheEntry<>(new ArmoryTotalDto(), 0, freshUntil, freshUntil + Duration.ofMinutes(30).toMillis(), null);
+    }
+}
@@ -0,0 +1,56 @@
+package kr.elfaka.lostark.character.refresh;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PopularityTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final PopularityTracker tracker = new PopularityTracker(Duration.ofMinutes(10), 100, now::get);
+
+    @Test
+    void top_ordersByLookupCount() {
+        tracker.record("a", "A");
+        tracker.record("b", "B");
+        tracker.record("b", "b");
+
+        assertThat(tracker.top(2)).extracting(PopularityTracker.Hot::key).containsExactly("b", "a");
+        assertThat(tracker.top(1).get(0).name()).isEqualTo("b"); // 마지막 요청 이름
+    }
+
+    @Test
+    void decay_halvesScoreEveryHalfLife() {
+        tracker.record("a", "A");
+        tracker.record("a", "A");
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        tracker.decay();
+
+        assertThat(tracker.top(1).get(0).score()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void decay_recentLookupsOutrankOldOnes() {
+        for (int i = 0; i < 3; i++) tracker.record("old", "old");
+
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        tracker.decay();
+        tracker.record("new", "new");
+
+        assertThat(tracker.top(1).get(0).key()).isEqualTo("new");
+    }
+
+    @Test
+    void decay_dropsNegligibleScores() {
+        tracker.record("a", "A");
+
+        now.addAndGet(Duration.ofMinutes(50).toMillis());
+        tracker.decay();
+
+        assertThat(tracker.size()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.elfaka.lostark.character.roster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.JacksonCacheValueCodec;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.CharacterSiblingDto.CharacterSibling;
+import kr.elfaka.lostark.character.dto.RosterDto;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.service.CharacterBatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RosterServiceTest {
+
+    @Mock
+    private LostArkFeignClient lostArkFeignClient;
+
+    @Mock
+    private CharacterBatchService characterBatchService;
+
+    private RosterService rosterService;
+
+    @BeforeEach
+    void setUp() {
+        rosterService = new RosterService(lostArkFeignClient, cache("roster-test", RosterDto.class),
+                cache("roster-index-test", String.class), characterBatchService,
+                new LostArkCircuitBreaker(false, 20, 10, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(30), 3,
+                        new SimpleMeterRegistry()),
+                2, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void getRoster_siblingServedFromIndexWithoutUpstreamCall() {
+        when(lostArkFeignClient.getSiblings("본캐")).thenReturn(List.of(
+                sibling("부캐", "1,640.00"),
+                sibling("본캐", "1,680.00"),
+                sibling("창고", null)
+        ));
+
+        RosterDto first = rosterService.getRoster("본캐", 0);
+        RosterDto second = rosterService.getRoster(" 부캐 ", 0);
+
+        assertThat(first.members()).extracting(RosterDto.Member::characterName)
+                .containsExactly("본캐", "부캐", "창고");
+        assertThat(second).isEqualTo(first);
+        verify(lostArkFeignClient, times(1)).getSiblings(any());
+        verifyNoInteractions(characterBatchService);
+    }
+
+    @Test
+    void getRoster_prefetchIsCappedToMaxPrefetch() {
+        when(lostArkFeignClient.getSiblings("본캐")).thenReturn(List.of(
+                sibling("본캐", "1,680.00"),
+                sibling("부캐", "1,640.00"),
+                sibling("부캐2", "1,620.00")
+        ));
+
+        rosterService.getRoster("본캐", 10);
+
+        verify(characterBatchService).prefetch(List.of("본캐", "부캐"));
+    }
+
+    @Test
+    void getRoster_unknownCharacter_returnsNull() {
+        when(lostArkFeignClient.getSiblings("없는캐릭터")).thenReturn(null);
+
+        assertThat(rosterService.getRoster("없는캐릭터", 3)).isNull();
+        verifyNoInteractions(characterBatchService);
+    }
+
+    private static <V> TwoTierCache<V> cache(String name, Class<V> type) {
+        return new TwoTierCache<>(name, type, 10, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                null, JacksonCacheValueCodec.json(new ObjectMapper()), Runnable::run, new SimpleMeterRegistry(),
+                System::currentTimeMillis);
+    }
+
+    private static CharacterSibling sibling(String name, String itemAvgLevel) {
+        CharacterSibling sibling = new CharacterSibling();
+        sibling.setServerName("루페온");
+        sibling.setCharacterName(name);
+        sibling.setItemAvgLevel(itemAvgLevel);
+        return sibling;
+    }
+}
@@ -0,0 +1,124 @@
+package kr.elfaka.lostark.character.service;
+
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CharacterBatchResponseDto;
+import kr.elfaka.lostark.character.error.InvalidCharacterRequestException;
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterBatchServiceTest {
+
+    @Mock
+    private LostArkService lostArkService;
+
+    private CharacterBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new CharacterBatchService(lostArkService, 4, 3, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void getCharacters_mixedOutcomes_returnsPartialResultsAndErrors() {
+        ArmoryTotalDto ok = new ArmoryTotalDto();
+        when(lostArkService.getCharacterSections(eq("ok"), any())).thenReturn(ok);
+        when(lostArkService.getCharacterSections(eq("missing"), any())).thenReturn(null);
+        when(lostArkService.getCharacterSections(eq("slow"), any()))
+                .thenThrow(new UpstreamTimeoutException("timeout"));
+
+        CharacterBatchResponseDto result = batchService.getCharacters(List.of("ok", "missing", "slow"), Set.of());
+
+        assertThat(result.results()).extracting(CharacterBatchResponseDto.Result::name).containsExactly("ok");
+        assertThat(result.errors())
+                .extracting(CharacterBatchResponseDto.Error::name, CharacterBatchResponseDto.Error::code)
+                .containsExactly(
+                        tuple("missing", "NOT_FOUND"),
+                        tuple("slow", "UPSTREAM_TIMEOUT"));
+    }
+
+    @Test
+    void getCharacters_duplicateNames_looksUpOnce() {
+        when(lostArkService.getCharacterSections(any(), any())).thenReturn(new ArmoryTotalDto());
+
+        CharacterBatchResponseDto result = batchService.getCharacters(List.of("Abc", "abc ", "ABC"), Set.of());
+
+        assertThat(result.results()).hasSize(1);
+        verify(lostArkService, times(1)).getCharacterSections(any(), any());
+    }
+
+    @Test
+    void getCharacters_whenLookupExceedsTimeout_reportsTimeoutWithoutWaiting() {
+        when(lostArkService.getCharacterSections(any(), any())).thenAnswer(inv -> {
+            Thread.sleep(10_000);
+            return new ArmoryTotalDto();
+        });
+
+        long start = System.nanoTime();
+        CharacterBatchResponseDto result = batchService.getCharacters(List.of("slow"), Set.of());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result.errors()).extracting(CharacterBatchResponseDto.Error::code).containsExactly("UPSTREAM_TIMEOUT");
+        assertThat(elapsedMillis).isLessThan(5_000);
+    }
+
+    @Test
+    void getCharacters_whenLookupExceedsTimeout_letsLookupFinishWithoutInterrupt() throws Exception {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(lostArkService.getCharacterSections(any(), any())).thenAnswer(inv -> {
+            try {
+                Thread.sleep(2_500);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return new ArmoryTotalDto();
+        });
+
+        CharacterBatchResponseDto result = batchService.getCharacters(List.of("slow"), Set.of());
+
+        assertThat(result.errors()).extracting(CharacterBatchResponseDto.Error::code).containsExactly("UPSTREAM_TIMEOUT");
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void getCharacters_freshCacheHit_skipsUpstreamLookup() {
+        ArmoryTotalDto cached = new ArmoryTotalDto();
+        when(lostArkService.getFreshCachedSections(eq("cached"), any())).thenReturn(cached);
+
+        CharacterBatchResponseDto result = batchService.getCharacters(List.of("cached"), Set.of());
+
+        assertThat(result.results()).extracting(CharacterBatchResponseDto.Result::armory).containsExactly(cached);
+        verify(lostArkService, never()).getCharacterSections(any(), any());
+    }
+
+    @Test
+    void getCharacters_tooManyNames_throwsInvalidCharacterRequestException() {
+        assertThatThrownBy(() -> batchService.getCharacters(List.of("a", "b", "c", "d"), Set.of()))
+                .isInstanceOf(InvalidCharacterRequestException.class);
+    }
+
+    @Test
+    void getCharacters_emptyNames_throwsInvalidCharacterRequestException() {
+        assertThatThrownBy(() -> batchService.getCharacters(List.of(), Set.of()))
+                .isInstanceOf(InvalidCharacterRequestException.class);
+    }
+}
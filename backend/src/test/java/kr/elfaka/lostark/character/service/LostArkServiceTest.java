@@ -0,0 +1,152 @@
+package kr.elfaka.lostark.character.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.JacksonCacheValueCodec;
+import kr.elfaka.lostark.character.cache.NegativeCache;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.lazy.LazyArmoryReader;
+import kr.elfaka.lostark.character.lazy.LazyArmoryTotalDto;
+import kr.elfaka.lostark.character.refresh.PopularityTracker;
+import kr.elfaka.lostark.character.support.ArmorySection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LostArkServiceTest {
+
+    @Mock
+    private LostArkFeignClient lostArkFeignClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private TwoTierCache<ArmoryTotalDto> armoryCache;
+    private TwoTierCache<ArmoryTotalDto> armorySectionCache;
+    private TwoTierCache<RawArmoryDto> armoryRawCache;
+    private LostArkService lostArkService;
+
+    @BeforeEach
+    void setUp() {
+        armoryCache = cache("armory-test", ArmoryTotalDto.class);
+        armorySectionCache = cache("armory-section-test", ArmoryTotalDto.class);
+        armoryRawCache = cache("armory-raw-test", RawArmoryDto.class);
+        lostArkService = new LostArkService(lostArkFeignClient, armoryCache, armorySectionCache,
+                new NegativeCache("armory-missing-test", 10, Duration.ofMinutes(1), null, new SimpleMeterRegistry(), now::get),
+                new ArmoryCacheEvictor(armoryCache, armorySectionCache, armoryRawCache),
+                new PopularityTracker(Duration.ofMinutes(10), 100), eventPublisher,
+                new LostArkCircuitBreaker(false, 20, 10, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(30), 3,
+                        new SimpleMeterRegistry()),
+                Duration.ofSeconds(5), Duration.ofMillis(100));
+    }
+
+    @Test
+    void lookupAsync_slowUpstream_completesWithTimeoutAtDeadline() {
+        when(lostArkFeignClient.getCharacterInfo("느림")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return new ArmoryTotalDto();
+        });
+
+        CompletableFuture<ArmoryLookup> future = lostArkService.lookupCharacterSectionsAsync("느림", Set.of());
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UpstreamTimeoutException.class);
+    }
+
+    @Test
+    void lookupAsync_freshInL1_completesWithoutUpstreamCall() {
+        when(lostArkFeignClient.getCharacterInfo("빠름")).thenReturn(new ArmoryTotalDto());
+        lostArkService.lookupCharacter("빠름");
+
+        CompletableFuture<ArmoryLookup> future = lostArkService.lookupCharacterSectionsAsync(" 빠름 ", Set.of());
+
+        assertThat(future).isCompleted();
+        assertThat(future.join().stale()).isFalse();
+        verify(lostArkFeignClient, times(1)).getCharacterInfo(any());
+    }
+
+    @Test
+    void lookup_missingCharacter_isNotQueriedAgain() {
+        when(lostArkFeignClient.getCharacterInfo("없음")).thenReturn(null);
+
+        assertThat(lostArkService.lookupCharacter("없음")).isNull();
+        assertThat(lostArkService.lookupCharacter(" 없음 ")).isNull();
+        assertThat(lostArkService.lookupCharacterSectionsAsync("없음", Set.of()).join()).isNull();
+
+        verify(lostArkFeignClient, times(1)).getCharacterInfo(any());
+    }
+
+    @Test
+    void lookup_listenerReadsSections_cachedLazyArmoryStaysUndecoded() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ArmoryTotalDto fetched = new LazyArmoryReader(objectMapper, new SimpleMeterRegistry()).read("""
+                {"ArmoryProfile": {"CharacterName": "지연", "CharacterClassName": "건슬링어"},
+                 "ArmoryEngraving": {}, "ArmoryGem": {}, "ArmoryCard": {}}
+                """.getBytes(StandardCharsets.UTF_8));
+        when(lostArkFeignClient.getCharacterInfo("지연")).thenReturn(fetched);
+        // 동기 리스너처럼 이벤트 안에서 섹션을 읽음
+        doAnswer(invocation -> {
+            ArmoryTotalDto armory = invocation.<ArmoryFetchedEvent>getArgument(0).armory();
+            armory.getArmoryProfile();
+            armory.getArmoryEngraving();
+            armory.getArmoryGem();
+            armory.getArmoryCard();
+            armory.getArkPassive();
+            return null;
+        }).when(eventPublisher).publishEvent(any(ArmoryFetchedEvent.class));
+
+        lostArkService.lookupCharacter("지연");
+
+        ArmoryTotalDto cached = lostArkService.lookupCharacter("지연").armory();
+        assertThat(cached).isSameAs(fetched);
+        assertThat(((LazyArmoryTotalDto) cached).decodedCount()).isZero();
+        verify(eventPublisher).publishEvent(any(ArmoryFetchedEvent.class));
+    }
+
+    @Test
+    void lookup_staleRefreshFindsNoCharacter_evictsArmoryCaches() {
+        when(lostArkFeignClient.getCharacterInfo("삭제됨")).thenReturn(new ArmoryTotalDto(), (ArmoryTotalDto) null);
+        lostArkService.lookupCharacter("삭제됨");
+        armorySectionCache.put("삭제됨|" + ArmorySection.PROFILES.filter(), new ArmoryTotalDto());
+        armoryRawCache.put("삭제됨", new RawArmoryDto(new byte[0], 0, "etag"));
+
+        // fresh 1분이 지나 stale 응답 + 백그라운드 갱신 (Runnable::run이라 바로 실행)
+        now.addAndGet(Duration.ofSeconds(90).toMillis());
+        assertThat(lostArkService.lookupCharacter("삭제됨")).isNotNull();
+
+        assertThat(armoryCache.peek("삭제됨")).isNull();
+        assertThat(armorySectionCache.peek("삭제됨|" + ArmorySection.PROFILES.filter())).isNull();
+        assertThat(armoryRawCache.peek("삭제됨")).isNull();
+        assertThat(lostArkService.lookupCharacter("삭제됨")).isNull();
+        verify(lostArkFeignClient, times(2)).getCharacterInfo(any());
+    }
+
+    private <V> TwoTierCache<V> cache(String name, Class<V> valueType) {
+        return new TwoTierCache<>(
+                name, valueType, 10, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                null, JacksonCacheValueCodec.json(new ObjectMapper()), Runnable::run, new SimpleMeterRegistry(), now::get);
+    }
+}
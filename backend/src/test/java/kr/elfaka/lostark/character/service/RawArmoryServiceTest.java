@@ -0,0 +1,67 @@
+package kr.elfaka.lostark.character.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.breaker.LostArkCircuitBreaker;
+import kr.elfaka.lostark.character.cache.JacksonCacheValueCodec;
+import kr.elfaka.lostark.character.cache.NegativeCache;
+import kr.elfaka.lostark.character.cache.TwoTierCache;
+import kr.elfaka.lostark.character.dto.RawArmoryDto;
+import kr.elfaka.lostark.character.feign.LostArkFeignClient;
+import kr.elfaka.lostark.character.support.ETags;
+import kr.elfaka.lostark.character.support.Gzip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RawArmoryServiceTest {
+
+    @Mock
+    private LostArkFeignClient lostArkFeignClient;
+
+    private RawArmoryService rawArmoryService;
+
+    @BeforeEach
+    void setUp() {
+        TwoTierCache<RawArmoryDto> cache = new TwoTierCache<>(
+                "raw-test", RawArmoryDto.class, 10, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                null, JacksonCacheValueCodec.json(new ObjectMapper()), Runnable::run, new SimpleMeterRegistry(), System::currentTimeMillis);
+        rawArmoryService = new RawArmoryService(lostArkFeignClient, cache,
+                new NegativeCache("raw-missing-test", 10, Duration.ofMinutes(1), null, new SimpleMeterRegistry(), System::currentTimeMillis),
+                mock(ArmoryCacheEvictor.class),
+                new LostArkCircuitBreaker(false, 20, 10, 50, Duration.ofSeconds(5), 80, Duration.ofSeconds(30), 3,
+                        new SimpleMeterRegistry()),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    void getCharacterRaw_compressesOnceAndServesFromCache() {
+        byte[] body = "{\"ArmoryProfile\":{\"CharacterName\":\"테스트\"}}".getBytes(StandardCharsets.UTF_8);
+        when(lostArkFeignClient.getCharacterRaw("테스트")).thenReturn(body);
+
+        RawArmoryDto first = rawArmoryService.getCharacterRaw("테스트");
+        RawArmoryDto second = rawArmoryService.getCharacterRaw(" 테스트 ");
+
+        assertThat(Gzip.decompress(first.gzipped())).isEqualTo(body);
+        assertThat(first.rawLength()).isEqualTo(body.length);
+        assertThat(first.etag()).isEqualTo(ETags.of(body));
+        assertThat(second).isSameAs(first);
+        verify(lostArkFeignClient, times(1)).getCharacterRaw("테스트");
+    }
+
+    @Test
+    void getCharacterRaw_nullBody_returnsNull() {
+        when(lostArkFeignClient.getCharacterRaw("없는캐릭터")).thenReturn("null".getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(rawArmoryService.getCharacterRaw("없는캐릭터")).isNull();
+    }
+}
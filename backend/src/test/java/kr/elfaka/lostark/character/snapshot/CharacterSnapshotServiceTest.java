@@ -0,0 +1,87 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.service.ArmoryFetchedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CharacterSnapshotServiceTest {
+
+    @Mock
+    private CharacterSnapshotRepository repository;
+
+    private CharacterSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CharacterSnapshotService(repository, new ObjectMapper(), 3, 100, 100, 10, new SimpleMeterRegistry());
+    }
+
+    private static ArmoryTotalDto armory(String itemLevel) {
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName("테스트");
+        profile.setItemAvgLevel(itemLevel);
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile);
+        return armory;
+    }
+
+    private void fetched(String itemLevel, long epochSecond) {
+        service.onArmoryFetched(new ArmoryFetchedEvent("테스트", "테스트", armory(itemLevel), Instant.ofEpochSecond(epochSecond)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CharacterSnapshot> saved() {
+        ArgumentCaptor<List<CharacterSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, atLeastOnce()).saveAll(captor.capture());
+        List<CharacterSnapshot> all = new ArrayList<>();
+        captor.getAllValues().forEach(all::addAll);
+        return all;
+    }
+
+    @Test
+    void flush_recordsOnlyChangesAndKeyframesPeriodically() {
+        when(repository.findFirstByCharacterKeyAndKindAndCapturedAtLessThanEqualOrderByCapturedAtDescIdDesc(
+                eq("테스트"), eq(CharacterSnapshot.Kind.KEYFRAME), any())).thenReturn(Optional.empty());
+
+        fetched("1,600.00", 1);
+        fetched("1,600.00", 2); // 변경 없음
+        fetched("1,610.00", 3);
+        fetched("1,620.00", 4);
+        fetched("1,630.00", 5);
+        service.flush();
+
+        List<CharacterSnapshot> snapshots = saved();
+        assertThat(snapshots).extracting(CharacterSnapshot::getItemAvgLevel)
+                .containsExactly(1600.0, 1610.0, 1620.0, 1630.0);
+        assertThat(snapshots).extracting(CharacterSnapshot::getKind).containsExactly(
+                CharacterSnapshot.Kind.KEYFRAME,
+                CharacterSnapshot.Kind.DELTA,
+                CharacterSnapshot.Kind.DELTA,
+                CharacterSnapshot.Kind.KEYFRAME); // keyframe-interval = 3
+    }
+
+    @Test
+    void onArmoryFetched_doesNotTouchRepository() {
+        fetched("1,600.00", 1);
+
+        verifyNoInteractions(repository);
+    }
+}
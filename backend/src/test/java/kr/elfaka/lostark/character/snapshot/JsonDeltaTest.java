@@ -0,0 +1,45 @@
+package kr.elfaka.lostark.character.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonDeltaTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode json(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Test
+    void diff_arrayElementChange_recordsOnlyChangedIndex() throws Exception {
+        JsonNode before = json("{\"Gems\":[{\"Level\":7},{\"Level\":8},{\"Level\":9}],\"Name\":\"a\"}");
+        JsonNode after = json("{\"Gems\":[{\"Level\":7},{\"Level\":10},{\"Level\":9}],\"Name\":\"a\"}");
+
+        JsonNode patch = JsonDelta.diff(before, after);
+
+        assertThat(patch).isEqualTo(json("{\"Gems\":{\"$len\":3,\"1\":{\"Level\":10}}}"));
+        assertThat(JsonDelta.apply(before, patch)).isEqualTo(after);
+    }
+
+    @Test
+    void apply_roundTripsAddedRemovedAndResizedValues() throws Exception {
+        JsonNode before = json("{\"a\":1,\"b\":[1,2,3],\"c\":{\"d\":\"x\"},\"gone\":true}");
+        JsonNode after = json("{\"a\":2,\"b\":[1,5],\"c\":{\"d\":\"x\",\"e\":[]},\"new\":{\"k\":1}}");
+
+        JsonNode patch = JsonDelta.diff(before, after);
+
+        assertThat(JsonDelta.apply(before, patch)).isEqualTo(after);
+        assertThat(before).isEqualTo(json("{\"a\":1,\"b\":[1,2,3],\"c\":{\"d\":\"x\"},\"gone\":true}"));
+    }
+
+    @Test
+    void diff_sameTree_isEmpty() throws Exception {
+        JsonNode tree = json("{\"a\":[1,{\"b\":2}]}");
+
+        assertThat(JsonDelta.isEmpty(JsonDelta.diff(tree, tree.deepCopy()))).isTrue();
+    }
+}
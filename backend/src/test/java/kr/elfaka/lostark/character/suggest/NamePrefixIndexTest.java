@@ -0,0 +1,86 @@
+package kr.elfaka.lostark.character.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NamePrefixIndexTest {
+
+    @Test
+    void search_mergesSortedAndRecentInNameOrder() {
+        NamePrefixIndex index = new NamePrefixIndex(100, 3);
+        index.put(entry("바드장인", 1));
+        index.put(entry("바드", 2));
+        index.put(entry("버서커", 3)); // 여기서 병합
+        index.put(entry("바드다", 4));
+        index.put(entry("바", 5));
+
+        assertThat(index.search("바드", 10)).extracting(NamePrefixIndex.Entry::key)
+                .containsExactly("바드", "바드다", "바드장인");
+        assertThat(index.search("바", 2)).extracting(NamePrefixIndex.Entry::key)
+                .containsExactly("바", "바드");
+        assertThat(index.search("소서", 10)).isEmpty();
+    }
+
+    @Test
+    void put_olderEntryDoesNotReplaceNewer() {
+        NamePrefixIndex index = new NamePrefixIndex(100, 2);
+        index.put(new NamePrefixIndex.Entry("바드", "바드", "카단", "바드", 1700.0, 10));
+        index.put(entry("x", 11)); // 병합
+        index.put(new NamePrefixIndex.Entry("바드", "바드", "루페온", "바드", 1600.0, 5));
+
+        assertThat(index.search("바드", 10)).singleElement()
+                .extracting(NamePrefixIndex.Entry::serverName).isEqualTo("카단");
+    }
+
+    @Test
+    void merge_overMaxEntries_dropsLeastRecentlySeen() {
+        NamePrefixIndex index = new NamePrefixIndex(10, 100);
+        for (int i = 0; i < 11; i++) {
+            index.put(entry("c" + (char) ('a' + i), i));
+        }
+        index.merge();
+
+        // 10개를 넘어서 90%(9개)까지 줄임 → seenAt 0, 1 제외
+        assertThat(index.size()).isEqualTo(9);
+        assertThat(index.search("c", 20)).extracting(NamePrefixIndex.Entry::key)
+                .startsWith("cc").doesNotContain("ca", "cb");
+    }
+
+    @Test
+    void randomPuts_matchSortedReference() {
+        Random random = new Random(7);
+        NamePrefixIndex index = new NamePrefixIndex(100_000, 64);
+        TreeMap<String, Long> reference = new TreeMap<>();
+        String[] syllables = {"바", "드", "버", "서", "커", "소", "a", "b"};
+
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int k = 0; k < length; k++) name.append(syllables[random.nextInt(syllables.length)]);
+            index.put(entry(name.toString(), i));
+            reference.put(name.toString(), (long) i);
+        }
+
+        for (String prefix : List.of("바", "바드", "a", "서커", "ab")) {
+            List<String> expected = new ArrayList<>();
+            for (String key : reference.tailMap(prefix, true).keySet()) {
+                if (!key.startsWith(prefix) || expected.size() == 15) break;
+                expected.add(key);
+            }
+            assertThat(index.search(prefix, 15)).extracting(NamePrefixIndex.Entry::key)
+                    .containsExactlyElementsOf(expected);
+        }
+        index.merge();
+        assertThat(index.size()).isEqualTo(reference.size());
+    }
+
+    private static NamePrefixIndex.Entry entry(String name, long seenAt) {
+        return new NamePrefixIndex.Entry(name, name, "루페온", "바드", 1680.0, seenAt);
+    }
+}
@@ -0,0 +1,129 @@
+package kr.elfaka.lostark.character.summary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassive;
+import kr.elfaka.lostark.character.dto.ArkPassiveDto.ArkPassivePoint;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArkPassiveEffect;
+import kr.elfaka.lostark.character.dto.ArmoryEngravingDto.ArmoryEngraving;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.ArmoryGem;
+import kr.elfaka.lostark.character.dto.ArmoryGemDto.Gem;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.dto.CombatSummaryDto;
+import kr.elfaka.lostark.character.tooltip.TooltipParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CombatSummaryCalculatorTest {
+
+    private CombatSummaryCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new CombatSummaryCalculator(new TooltipParser(new ObjectMapper(), 100, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void summarize_aggregatesStatsGemsEngravingsAndArkPassive() {
+        ArmoryTotalDto armory = new ArmoryTotalDto();
+        armory.setArmoryProfile(profile());
+        armory.setArmoryGem(gems(
+                gem(0, 10, "[건슬링어] 퍼펙트 샷 피해 44.00% 증가"),
+                gem(1, 10, "[건슬링어] 퍼펙트 샷 재사용 대기시간 24.00% 감소"),
+                gem(2, 8, "[건슬링어] 포커스 샷 피해 36.00% 증가")
+        ));
+        armory.setArmoryEngraving(engravings());
+        armory.setArkPassive(arkPassive());
+
+        CombatSummaryDto summary = calculator.summarize(armory);
+
+        assertThat(summary.characterName()).isEqualTo("테스트");
+        assertThat(summary.itemLevel()).isEqualTo(1680.5);
+
+        assertThat(summary.stats().combat()).containsEntry("치명", 700).containsEntry("특화", 1800);
+        assertThat(summary.stats().combatTotal()).isEqualTo(2500);
+        assertThat(summary.stats().attackPower()).isEqualTo(140000);
+
+        assertThat(summary.gems().count()).isEqualTo(3);
+        assertThat(summary.gems().averageLevel()).isCloseTo(28 / 3.0, within(1e-9));
+        assertThat(summary.gems().damagePercent()).isEqualTo(80.0);
+        assertThat(summary.gems().cooldownPercent()).isEqualTo(24.0);
+        assertThat(summary.gems().bySkill()).containsExactly(
+                new CombatSummaryDto.SkillGems("퍼펙트 샷", 44.0, 24.0),
+                new CombatSummaryDto.SkillGems("포커스 샷", 36.0, 0.0)
+        );
+
+        assertThat(summary.engravings()).extracting(CombatSummaryDto.Engraving::name).containsExactly("원한");
+        assertThat(summary.arkPassivePoints()).containsEntry("진화", 140);
+    }
+
+    @Test
+    void summarize_missingSectionsYieldEmptyAggregates() {
+        CombatSummaryDto summary = calculator.summarize(new ArmoryTotalDto());
+
+        assertThat(summary.itemLevel()).isNull();
+        assertThat(summary.stats().combatTotal()).isZero();
+        assertThat(summary.gems().count()).isZero();
+        assertThat(summary.engravings()).isEmpty();
+        assertThat(summary.arkPassivePoints()).isEmpty();
+    }
+
+    private static ArmoryProfile profile() {
+        ArmoryProfile profile = new ArmoryProfile();
+        profile.setCharacterName("테스트");
+        profile.setItemAvgLevel("1,680.50");
+        profile.setStats(List.of(stat("치명", "700"), stat("특화", "1,800"), stat("공격력", "140,000")));
+        return profile;
+    }
+
+    private static Stat stat(String type, String value) {
+        Stat stat = new Stat();
+        stat.setType(type);
+        stat.setValue(value);
+        return stat;
+    }
+
+    private static ArmoryGem gems(Gem... gems) {
+        ArmoryGem armoryGem = new ArmoryGem();
+        armoryGem.setGems(List.of(gems));
+        return armoryGem;
+    }
+
+    private static Gem gem(int slot, int level, String effect) {
+        Gem gem = new Gem();
+        gem.setSlot(slot);
+        gem.setLevel(level);
+        gem.setTooltip("""
+                {"Element_004": {"type": "ItemPartBox", "value": {
+                  "Element_000": "<FONT COLOR='#A9D0F5'>효과</FONT>",
+                  "Element_001": "%s"
+                }}}
+                """.formatted(effect));
+        return gem;
+    }
+
+    private static ArmoryEngraving engravings() {
+        ArkPassiveEffect effect = new ArkPassiveEffect();
+        effect.setName("원한");
+        effect.setGrade("유물");
+        effect.setLevel(4);
+        ArmoryEngraving engraving = new ArmoryEngraving();
+        engraving.setArkPassiveEffects(List.of(effect));
+        return engraving;
+    }
+
+    private static ArkPassive arkPassive() {
+        ArkPassivePoint point = new ArkPassivePoint();
+        point.setName("진화");
+        point.setValue(140);
+        ArkPassive arkPassive = new ArkPassive();
+        arkPassive.setPoints(List.of(point));
+        return arkPassive;
+    }
+}
@@ -0,0 +1,55 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.ArmoryProfile;
+import kr.elfaka.lostark.character.dto.ArmoryTotalDto;
+import kr.elfaka.lostark.character.error.InvalidArmorySectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArmorySectionTest {
+
+    @Test
+    void parse_commaSeparated_returnsSections() {
+        Set<ArmorySection> sections = ArmorySection.parse("profiles, Equipment,,combat-skills");
+
+        assertThat(sections).containsExactlyInAnyOrder(
+                ArmorySection.PROFILES, ArmorySection.EQUIPMENT, ArmorySection.COMBAT_SKILLS);
+    }
+
+    @Test
+    void parse_nullOrBlank_returnsEmptySet() {
+        assertThat(ArmorySection.parse(null)).isEmpty();
+        assertThat(ArmorySection.parse("  ")).isEmpty();
+    }
+
+    @Test
+    void parse_unknownSection_throwsInvalidArmorySectionException() {
+        assertThatThrownBy(() -> ArmorySection.parse("profiles,unknown"))
+                .isInstanceOf(InvalidArmorySectionException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    void toFilters_joinsWithPlus() {
+        String filters = ArmorySection.toFilters(EnumSet.of(ArmorySection.PROFILES, ArmorySection.EQUIPMENT));
+
+        assertThat(filters).isEqualTo("profiles+equipment");
+    }
+
+    @Test
+    void slice_copiesOnlyThatSection() {
+        ArmoryTotalDto full = new ArmoryTotalDto();
+        full.setArmoryProfile(new ArmoryProfile());
+        full.setArmoryEquipment(List.of());
+
+        ArmoryTotalDto profileOnly = ArmorySection.PROFILES.slice(full);
+
+        assertThat(profileOnly.getArmoryProfile()).isSameAs(full.getArmoryProfile());
+        assertThat(profileOnly.getArmoryEquipment()).isNull();
+    }
+}
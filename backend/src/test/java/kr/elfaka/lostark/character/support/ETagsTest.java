@@ -0,0 +1,41 @@
+package kr.elfaka.lostark.character.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ETagsTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void of_sameContent_returnsSameWeakETag() {
+        String etag = ETags.of(bytes("{\"a\":1}"));
+
+        assertThat(etag).startsWith("W/\"").endsWith("\"");
+        assertThat(ETags.of(bytes("{\"a\":1}"))).isEqualTo(etag);
+        assertThat(ETags.of(bytes("{\"a\":2}"))).isNotEqualTo(etag);
+    }
+
+    @Test
+    void matches_usesWeakComparisonAndAcceptsList() {
+        String etag = ETags.of(bytes("x"));
+        String strong = etag.substring(2);
+
+        assertThat(ETags.matches(etag, etag)).isTrue();
+        assertThat(ETags.matches("\"other\", " + strong, etag)).isTrue();
+        assertThat(ETags.matches("*", etag)).isTrue();
+        assertThat(ETags.matches("W/\"other\"", etag)).isFalse();
+        assertThat(ETags.matches(null, etag)).isFalse();
+    }
+
+    @Test
+    void combine_withUnknownPart_returnsNull() {
+        assertThat(ETags.combine("W/\"a\"", "slim")).isNotEqualTo(ETags.combine("W/\"a\"", "full"));
+        assertThat(ETags.combine("W/\"a\"", null)).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package kr.elfaka.lostark.character.support;
+
+import kr.elfaka.lostark.character.error.UpstreamTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_concurrentCallsForSameKey_runLoaderOnce() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> flight.execute("a", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        // 모든 호출이 leader를 기다리도록 잠시 대기 후 해제
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> f : results) {
+            assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flight.inFlightCount()).isZero();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void execute_whenLeaderFails_followerReceivesSameException() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        Future<String> leader = pool.submit(() -> flight.execute("a", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        leaderStarted.await();
+        Future<String> follower = pool.submit(() -> flight.execute("a", () -> "unused"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        pool.shutdownNow();
+    }
+
+    @Test
+    void execute_whenLeaderIsSlow_followerTimesOut() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+
+        pool.submit(() -> flight.execute("a", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "late";
+        }));
+        leaderStarted.await();
+
+        assertThatThrownBy(() -> flight.execute("a", () -> "unused"))
+                .isInstanceOf(UpstreamTimeoutException.class);
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
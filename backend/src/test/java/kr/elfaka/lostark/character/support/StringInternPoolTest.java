@@ -0,0 +1,74 @@
+package kr.elfaka.lostark.character.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.elfaka.lostark.character.dto.ArmoryProfileDto.Stat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StringInternPoolTest {
+
+    @Test
+    void intern_equalStrings_returnsSameInstance() {
+        StringInternPool pool = new StringInternPool(10, 64);
+
+        String first = pool.intern(new String("고대"));
+        String second = pool.intern(new String("고대"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(pool.hits()).isEqualTo(1);
+        assertThat(pool.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void intern_whenFull_evictsLeastRecentlyUsed() {
+        StringInternPool pool = new StringInternPool(2, 64);
+        pool.intern("유물");
+        pool.intern("고대");
+        pool.intern("유물");
+
+        pool.intern("전설");
+
+        assertThat(pool.size()).isEqualTo(2);
+        String value = new String("고대");
+        assertThat(pool.intern(value)).isSameAs(value); // 밀려난 값은 새로 들어감
+        assertThat(pool.intern(new String("전설"))).isEqualTo("전설");
+        assertThat(pool.hits()).isEqualTo(2);
+    }
+
+    @Test
+    void intern_tooLongOrDisabled_returnsValueAsIs() {
+        StringInternPool pool = new StringInternPool(10, 3);
+        String longValue = new String("아주 긴 문자열");
+        assertThat(pool.intern(longValue)).isSameAs(longValue);
+        assertThat(pool.rejected()).isEqualTo(1);
+
+        StringInternPool disabled = new StringInternPool(10, 64, false);
+        disabled.intern(new String("고대"));
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    void internedField_sharesInstanceAcrossDeserializedObjects() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new InternedStringModule(new StringInternPool(10, 64)));
+        String json = "{\"Type\":\"치명\",\"Value\":\"512\"}";
+
+        Stat first = objectMapper.readValue(json, Stat.class);
+        Stat second = objectMapper.copy().readValue(json, Stat.class);
+
+        assertThat(second.getType()).isSameAs(first.getType());
+        assertThat(second.getValue()).isNotSameAs(first.getValue()); // @Interned 아닌 필드는 그대로
+    }
+
+    @Test
+    void internedField_withoutModule_readsPlainString() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = "{\"Type\":\"치명\"}";
+
+        Stat first = objectMapper.readValue(json, Stat.class);
+        Stat second = objectMapper.readValue(json, Stat.class);
+
+        assertThat(second.getType()).isEqualTo(first.getType()).isNotSameAs(first.getType());
+    }
+}
@@ -0,0 +1,104 @@
+package kr.elfaka.lostark.character.tooltip;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.elfaka.lostark.character.dto.TooltipDto.EquipmentTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.GemTooltip;
+import kr.elfaka.lostark.character.dto.TooltipDto.SkillTooltip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TooltipParserTest {
+
+    private static final String EQUIPMENT_TOOLTIP = """
+            {
+              "Element_000": {"type": "NameTagBox", "value": "<P ALIGN='CENTER'><FONT COLOR='#E3C7A1'>+20 운명의 업화 머리장식</FONT></P>"},
+              "Element_001": {"type": "ItemTitle", "value": {
+                "leftStr0": "<FONT SIZE='12'><FONT COLOR='#E3C7A1'>고대 머리 방어구</FONT></FONT>",
+                "leftStr2": "<FONT SIZE='14'>아이템 레벨 1680 (티어 4)</FONT>",
+                "qualityValue": 95
+              }},
+              "Element_005": {"type": "ItemPartBox", "value": {
+                "Element_000": "<FONT COLOR='#A9D0F5'>기본 효과</FONT>",
+                "Element_001": "물리 방어력 +5123<BR>힘 +50000"
+              }},
+              "Element_006": {"type": "ItemPartBox", "value": {
+                "Element_000": "<FONT COLOR='#A9D0F5'>추가 효과</FONT>",
+                "Element_001": "생명 활성력 +1440"
+              }},
+              "Element_008": {"type": "IndentStringGroup", "value": {
+                "Element_000": {
+                  "topStr": "<FONT COLOR='#FFD200'>초월</FONT> 7단계",
+                  "contentStr": {"Element_000": {"contentStr": "모든 장비에 적용된 총 21개"}}
+                }
+              }}
+            }
+            """;
+
+    private SimpleMeterRegistry registry;
+    private TooltipParser parser;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        parser = new TooltipParser(new ObjectMapper(), 100, registry);
+    }
+
+    @Test
+    void parseEquipment_extractsUpgradeQualityLevelAndEffects() {
+        EquipmentTooltip result = parser.parseEquipment(EQUIPMENT_TOOLTIP);
+
+        assertThat(result.upgradeLevel()).isEqualTo(20);
+        assertThat(result.quality()).isEqualTo(95);
+        assertThat(result.itemLevel()).isEqualTo(1680.0);
+        assertThat(result.tier()).isEqualTo(4);
+        assertThat(result.baseEffects()).containsExactly("물리 방어력 +5123", "힘 +50000");
+        assertThat(result.additionalEffects()).containsExactly("생명 활성력 +1440");
+        assertThat(result.effects()).containsKey("초월 7단계");
+    }
+
+    @Test
+    void parseEquipment_sameTooltipTwice_parsesOnce() {
+        EquipmentTooltip first = parser.parseEquipment(EQUIPMENT_TOOLTIP);
+        EquipmentTooltip second = parser.parseEquipment(EQUIPMENT_TOOLTIP);
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.get("tooltip.parse").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(registry.get("tooltip.parse").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void parseGem_extractsSkillAndEffect() {
+        String tooltip = """
+                {"Element_004": {"type": "ItemPartBox", "value": {
+                  "Element_000": "<FONT COLOR='#A9D0F5'>효과</FONT>",
+                  "Element_001": "<FONT COLOR='#FFD200'>[데바스테이터]</FONT> 피해 40.00% 증가"
+                }}}
+                """;
+
+        GemTooltip result = parser.parseGem(tooltip);
+
+        assertThat(result.skillName()).isEqualTo("데바스테이터");
+        assertThat(result.type()).isEqualTo("DAMAGE");
+        assertThat(result.value()).isEqualTo(40.0);
+    }
+
+    @Test
+    void parseSkill_extractsCooldown() {
+        String tooltip = """
+                {"Element_002": {"type": "SingleTextBox", "value": "<FONT SIZE='12'>재사용 대기시간 24초</FONT>"}}
+                """;
+
+        SkillTooltip result = parser.parseSkill(tooltip);
+
+        assertThat(result.cooldownSeconds()).isEqualTo(24.0);
+    }
+
+    @Test
+    void parse_invalidOrEmptyTooltip_returnsNull() {
+        assertThat(parser.parseEquipment(null)).isNull();
+        assertThat(parser.parseEquipment("not json")).isNull();
+    }
+}